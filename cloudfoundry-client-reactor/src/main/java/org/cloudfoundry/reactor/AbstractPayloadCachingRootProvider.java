@@ -17,26 +17,38 @@
 package org.cloudfoundry.reactor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * An abstract implementation of {@link RootProvider} that caches the payload its endpoints are extracted from.  Once the payload has been retrieved,
+ * a payload that has outlived the cache duration continues to be served while a single, shared refresh runs in the background.  A failed refresh
+ * keeps the last payload, and a failure to retrieve the first payload is not cached.
+ */
 abstract class AbstractPayloadCachingRootProvider extends AbstractRootProvider {
 
-    private final ConcurrentMap<ConnectionContext, Mono<Map<String, String>>> payloads = new ConcurrentHashMap<>(1);
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.root");
+
+    private final ConcurrentMap<ConnectionContext, PayloadCache> payloads = new ConcurrentHashMap<>(1);
 
     protected abstract Mono<Map<String, String>> doGetPayload(ConnectionContext connectionContext);
 
     @Override
     protected final Mono<UriComponents> doGetRoot(String key, ConnectionContext connectionContext) {
-        return this.payloads.computeIfAbsent(connectionContext, this::getPayload)
+        return this.payloads.computeIfAbsent(connectionContext, PayloadCache::new)
+            .get()
             .map(payload -> {
                 if (!payload.containsKey(key)) {
-                    throw new IllegalArgumentException(String.format("Payload does not contain key '%s;", key));
+                    throw new IllegalArgumentException(String.format("Payload does not contain key '%s'", key));
                 }
 
                 return normalize(UriComponentsBuilder.fromUriString(payload.get(key)));
@@ -45,12 +57,99 @@ abstract class AbstractPayloadCachingRootProvider extends AbstractRootProvider {
 
     abstract ObjectMapper getObjectMapper();
 
-    private Mono<Map<String, String>> getPayload(ConnectionContext connectionContext) {
-        Mono<Map<String, String>> cached = doGetPayload(connectionContext);
-
+    /**
+     * Once a cache duration is configured, resolved roots are not cached as the payload they are read from is already cached and refreshed.  Caching
+     * them as well would delay a refreshed payload by up to a further cache duration.
+     */
+    @Override
+    Duration getRootCacheDuration(ConnectionContext connectionContext) {
         return connectionContext.getCacheDuration()
-            .map(cached::cache)
-            .orElseGet(cached::cache);
+            .map(cacheDuration -> Duration.ZERO)
+            .orElseGet(() -> super.getRootCacheDuration(connectionContext));
+    }
+
+    private static final class Payload {
+
+        private final long retrieved = System.nanoTime();
+
+        private final Map<String, String> value;
+
+        private Payload(Map<String, String> value) {
+            this.value = value;
+        }
+
+        private Duration getAge() {
+            return Duration.ofNanos(System.nanoTime() - this.retrieved);
+        }
+
+    }
+
+    private final class PayloadCache {
+
+        private final ConnectionContext connectionContext;
+
+        private final AtomicReference<Mono<Map<String, String>>> refresh = new AtomicReference<>();
+
+        private volatile Payload payload;
+
+        private PayloadCache(ConnectionContext connectionContext) {
+            this.connectionContext = connectionContext;
+        }
+
+        private Mono<Map<String, String>> get() {
+            return Mono.defer(() -> {
+                Payload payload = this.payload;
+                if (payload == null) {
+                    return refresh();
+                }
+
+                if (isStale(payload)) {
+                    refresh().subscribe(null, t -> LOGGER.warn("Unable to refresh root payload for {}, continuing to use payload retrieved {} ago", getApiHost(), payload.getAge(), t));
+                }
+
+                return Mono.just(payload.value);
+            });
+        }
+
+        private Duration getAge() {
+            Payload payload = this.payload;
+            return payload == null ? Duration.ZERO : payload.getAge();
+        }
+
+        private boolean isStale(Payload payload) {
+            return this.connectionContext.getCacheDuration()
+                .map(cacheDuration -> payload.getAge().compareTo(cacheDuration) >= 0)
+                .orElse(false);
+        }
+
+        private void recordRefresh(boolean success, Duration age) {
+            this.connectionContext.getMetricsRecorder()
+                .ifPresent(metricsRecorder -> metricsRecorder.recordRootPayloadRefresh(getApiHost(), age, success));
+        }
+
+        private Mono<Map<String, String>> refresh() {
+            Mono<Map<String, String>> candidate = Mono.defer(() -> doGetPayload(this.connectionContext))
+                .doOnNext(value -> {
+                    Duration age = getAge();
+                    this.payload = new Payload(value);
+                    recordRefresh(true, age);
+                })
+                .doOnError(t -> recordRefresh(false, getAge()))
+                .cache();
+
+            while (true) {
+                Mono<Map<String, String>> inFlight = this.refresh.get();
+                if (inFlight != null) {
+                    return inFlight;
+                }
+
+                if (this.refresh.compareAndSet(null, candidate)) {
+                    return candidate
+                        .doFinally(signalType -> this.refresh.compareAndSet(candidate, null));
+                }
+            }
+        }
+
     }
 
 }
@@ -27,6 +27,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -38,6 +39,8 @@ abstract class AbstractRootProvider implements RootProvider {
 
     private static final int DEFAULT_PORT = 443;
 
+    private static final Duration INDEFINITELY = Duration.ofMillis(Long.MAX_VALUE);
+
     private static final Pattern HOSTNAME_PATTERN = Pattern.compile("^[a-zA-Z0-9-.]+$");
 
     private static final int UNDEFINED_PORT = -1;
@@ -54,7 +57,7 @@ abstract class AbstractRootProvider implements RootProvider {
     public Mono<Operator> createOperator(ConnectionContext connectionContext) {
         HttpClient httpClient = connectionContext.getHttpClient();
         return getRoot(connectionContext)
-            .map(root -> OperatorContext.of(connectionContext, root))
+            .map(root -> OperatorContext.of(connectionContext, root).withOperation("rootProvider.getRoot").withResourceType("rootProvider"))
             .map(operatorContext -> new Operator(operatorContext, httpClient))
             .map(operator -> operator.headers(this::addHeaders));
     }
@@ -70,9 +73,7 @@ abstract class AbstractRootProvider implements RootProvider {
             .delayUntil(uri -> trust(uri.getHost(), uri.getPort(), connectionContext))
             .map(UriComponents::toUriString);
 
-        return connectionContext.getCacheDuration()
-            .map(cached::cache)
-            .orElseGet(cached::cache);
+        return cache(cached, connectionContext);
     }
 
     @Override
@@ -81,9 +82,7 @@ abstract class AbstractRootProvider implements RootProvider {
             .delayUntil(uri -> trust(uri.getHost(), uri.getPort(), connectionContext))
             .map(UriComponents::toUriString);
 
-        return connectionContext.getCacheDuration()
-            .map(cached::cache)
-            .orElseGet(cached::cache);
+        return cache(cached, connectionContext);
     }
 
     protected abstract Mono<UriComponents> doGetRoot(ConnectionContext connectionContext);
@@ -114,6 +113,13 @@ abstract class AbstractRootProvider implements RootProvider {
      */
     abstract Optional<Integer> getPort();
 
+    /**
+     * How long a resolved root is cached for.  Defaults to the cache duration of the connection, or indefinitely if there is none.
+     */
+    Duration getRootCacheDuration(ConnectionContext connectionContext) {
+        return connectionContext.getCacheDuration().orElse(INDEFINITELY);
+    }
+
     /**
      * Whether the connection to the root API should be secure (i.e. using HTTPS). Defaults to {@code true}.
      */
@@ -124,6 +130,11 @@ abstract class AbstractRootProvider implements RootProvider {
         JsonCodec.setDecodeHeaders(httpHeaders);
     }
 
+    private <T> Mono<T> cache(Mono<T> source, ConnectionContext connectionContext) {
+        Duration cacheDuration = getRootCacheDuration(connectionContext);
+        return source.cache(value -> cacheDuration, t -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
     private String getScheme() {
         if (getSecure().orElse(true)) {
             return "https";
@@ -33,6 +33,13 @@ public interface ConnectionContext {
      */
     Optional<Duration> getCacheDuration();
 
+    /**
+     * The time taken to decode a response body above which the decode is logged, along with the bytes received and allocated.  Defaults to none.
+     */
+    default Optional<Duration> getDecodeLogThreshold() {
+        return Optional.empty();
+    }
+
     /**
      * The {@link HttpClient} to use
      */
@@ -43,11 +50,25 @@ public interface ConnectionContext {
      */
     Long getInvalidTokenRetries();
 
+    /**
+     * The {@link MetricsRecorder} to record request metrics with.  Defaults to none.
+     */
+    default Optional<MetricsRecorder> getMetricsRecorder() {
+        return Optional.empty();
+    }
+
     /**
      * The {@link ObjectMapper} to use
      */
     ObjectMapper getObjectMapper();
 
+    /**
+     * The {@link RequestTracer} to trace requests with.  Defaults to none.
+     */
+    default Optional<RequestTracer> getRequestTracer() {
+        return Optional.empty();
+    }
+
     /**
      * The {@link RootProvider} to use
      */
@@ -61,4 +82,15 @@ public interface ConnectionContext {
      */
     Mono<Void> trust(String host, int port);
 
+    /**
+     * Eagerly resolve the API root and negotiate a token so that the first request does not have to wait for them.  Implementations can choose to
+     * do additional work such as resolving and connecting to other endpoints.
+     *
+     * @param tokenProvider the {@link TokenProvider} to negotiate a token with
+     * @return completes when the connection context has been warmed up
+     */
+    default Mono<Void> warmUp(TokenProvider tokenProvider) {
+        return Mono.when(getRootProvider().getRoot(this), tokenProvider.getToken(this));
+    }
+
 }
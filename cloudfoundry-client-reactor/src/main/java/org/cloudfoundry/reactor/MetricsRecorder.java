@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import java.time.Duration;
+
+/**
+ * A recorder of metrics about the requests made by the client.  Requests are identified by the host of the endpoint they were made to and by
+ * the logical operation that made them, such as {@code applicationsV3.list}, rather than by their URI.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Called when the body of a response has been decoded
+     *
+     * @param endpoint       the host the request was made to
+     * @param operation      the logical operation that made the request
+     * @param responseType   the type that the body was decoded to
+     * @param bytesReceived  the size of the body
+     * @param bytesAllocated the bytes allocated on the decoding thread while decoding, or {@code -1} if the JVM cannot measure allocation
+     * @param duration       the time taken to decode the body
+     */
+    void recordDecode(String endpoint, String operation, Class<?> responseType, long bytesReceived, long bytesAllocated, Duration duration);
+
+    /**
+     * Called when the body of a response cannot be decoded
+     *
+     * @param endpoint     the host the request was made to
+     * @param operation    the logical operation that made the request
+     * @param responseType the type that the body was being decoded to
+     */
+    void recordDecodeFailure(String endpoint, String operation, Class<?> responseType);
+
+    /**
+     * Called when a request fails before a response is received
+     *
+     * @param endpoint  the host the request was made to
+     * @param operation the logical operation that made the request
+     * @param method    the HTTP method of the request
+     * @param duration  the time between sending the request and the failure
+     * @param error     the cause of the failure
+     */
+    void recordError(String endpoint, String operation, String method, Duration duration, Throwable error);
+
+    /**
+     * Called when the status and headers of a response are received
+     *
+     * @param endpoint  the host the request was made to
+     * @param operation the logical operation that made the request
+     * @param method    the HTTP method of the request
+     * @param status    the status code of the response
+     * @param duration  the time between sending the request and receiving the response
+     */
+    void recordResponse(String endpoint, String operation, String method, int status, Duration duration);
+
+    /**
+     * Called when a request is retried
+     *
+     * @param endpoint  the host the request was made to
+     * @param operation the logical operation that made the request
+     */
+    void recordRetry(String endpoint, String operation);
+
+    /**
+     * Called when a refresh of a cached root payload completes.  A payload that has outlived the cache duration continues to be served while it is
+     * refreshed, and is kept if the refresh fails.
+     *
+     * @param endpoint the host the payload was requested from
+     * @param age      the age of the payload being served when the refresh completed, or zero if there was none
+     * @param success  whether the refresh succeeded
+     */
+    void recordRootPayloadRefresh(String endpoint, Duration age, boolean success);
+
+    /**
+     * Called when a {@code 401 UNAUTHORIZED} response causes the token to be invalidated
+     *
+     * @param endpoint  the host the request was made to
+     * @param operation the logical operation that made the request
+     */
+    void recordTokenInvalidation(String endpoint, String operation);
+
+}
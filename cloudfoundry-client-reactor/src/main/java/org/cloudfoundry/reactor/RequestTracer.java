@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+
+/**
+ * A tracer of the requests made by the client.  A span is started for each request as it is about to be sent, and is named by the logical
+ * operation that made the request, such as {@code applicationsV3.list}, rather than by its URI.  Implementations can adapt this to a tracing
+ * library, using the request's {@link HttpClientRequest#currentContext() context} to find the parent span and its headers to propagate the
+ * trace.
+ */
+public interface RequestTracer {
+
+    /**
+     * Start a span for a request.  Headers added to the request, such as {@code traceparent}, are sent with it.
+     *
+     * @param operation    the logical operation that made the request
+     * @param resourceType the type of resource the operation acts on, such as {@code applicationsV3}
+     * @param request      the request that is about to be sent
+     * @return the started span
+     */
+    Span start(String operation, String resourceType, HttpClientRequest request);
+
+    /**
+     * A span started for a request
+     */
+    interface Span {
+
+        /**
+         * End the span because the request failed before a response was received
+         *
+         * @param error the cause of the failure
+         */
+        void error(Throwable error);
+
+        /**
+         * End the span because the status and headers of a response were received
+         *
+         * @param response the response
+         */
+        void response(HttpClientResponse response);
+
+    }
+
+}
@@ -22,32 +22,44 @@ import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.handler.logging.LogLevel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import org.cloudfoundry.Nullable;
 import org.cloudfoundry.reactor.util.ByteBufAllocatorMetricProviderWrapper;
 import org.cloudfoundry.reactor.util.DefaultSslCertificateTruster;
 import org.cloudfoundry.reactor.util.SslCertificateTruster;
+import org.cloudfoundry.reactor.util.SslHandshakeMetricProvider;
 import org.cloudfoundry.reactor.util.StaticTrustManagerFactory;
+import org.cloudfoundry.reactor.util.UserAgent;
 import org.immutables.value.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.SslProvider;
-import reactor.netty.tcp.SslProvider.DefaultConfigurationType;
 import reactor.netty.tcp.TcpClient;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.management.JMException;
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
+import javax.net.ssl.SSLException;
 import javax.net.ssl.TrustManagerFactory;
 import java.lang.management.ManagementFactory;
+import java.net.URI;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.UnaryOperator;
 
@@ -56,6 +68,7 @@ import static io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS;
 import static io.netty.channel.ChannelOption.SO_KEEPALIVE;
 import static io.netty.channel.ChannelOption.SO_RCVBUF;
 import static io.netty.channel.ChannelOption.SO_SNDBUF;
+import static io.netty.channel.ChannelOption.TCP_NODELAY;
 
 /**
  * The default implementation of the {@link ConnectionContext} interface. This is the implementation that should be used for most non-testing cases.
@@ -65,8 +78,12 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private static final int DEFAULT_PORT = 443;
 
+    private static final boolean MICROMETER_PRESENT = ClassUtils.isPresent("io.micrometer.core.instrument.MeterRegistry", _DefaultConnectionContext.class.getClassLoader());
+
     private static final int SEND_RECEIVE_BUFFER_SIZE = 10 * 1024 * 1024;
 
+    private static final List<String> WELL_KNOWN_ROOT_KEYS = Arrays.asList("cloud_controller_v2", "cloud_controller_v3", "logging", "network_policy_v1", "routing", "uaa");
+
     private final Logger logger = LoggerFactory.getLogger("cloudfoundry-client");
 
     /**
@@ -75,17 +92,31 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     @PreDestroy
     public final void dispose() {
         getConnectionProvider().ifPresent(ConnectionProvider::dispose);
-        getThreadPool().dispose();
 
-        try {
-            ObjectName name = getByteBufAllocatorObjectName();
+        if (!getLoopResources().isPresent()) {
+            getThreadPool().dispose();
+        }
 
-            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
-                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
-            }
+        try {
+            unregisterMBean(getByteBufAllocatorObjectName());
         } catch (JMException e) {
             this.logger.error("Unable to register ByteBufAllocator MBean", e);
         }
+
+        try {
+            unregisterMBean(getSslHandshakeObjectName());
+        } catch (JMException e) {
+            this.logger.error("Unable to unregister SslHandshake MBean", e);
+        }
+    }
+
+    /**
+     * Resolves every well-known endpoint, keyed by the key it is requested with.  The result can be persisted and supplied to a {@link PinnedRootProvider}
+     * so that later connection contexts do not need to discover endpoints.  Endpoints that are not advertised are omitted.
+     */
+    public Mono<Map<String, String>> exportRoots() {
+        return resolveRoots()
+            .collectMap(Tuple2::getT1, Tuple2::getT2);
     }
 
     @Override
@@ -100,6 +131,9 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
     }
 
+    @Override
+    public abstract Optional<Duration> getDecodeLogThreshold();
+
     @Override
     @Value.Default
     public HttpClient getHttpClient() {
@@ -117,6 +151,13 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return 5L;
     }
 
+    /**
+     * The {@link MetricsRecorder} to record request metrics with.  When set, and Micrometer is on the classpath, connection pool gauges are
+     * also published to the global Micrometer registry.
+     */
+    @Override
+    public abstract Optional<MetricsRecorder> getMetricsRecorder();
+
     @Override
     @Value.Default
     public ObjectMapper getObjectMapper() {
@@ -130,6 +171,18 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return objectMapper;
     }
 
+    /**
+     * The {@code SO_RCVBUF} value. Setting this to {@code null} leaves the receive buffer size to the operating system.  Defaults to 10 MiB.
+     */
+    @Nullable
+    @Value.Default
+    public Integer getReceiveBufferSize() {
+        return SEND_RECEIVE_BUFFER_SIZE;
+    }
+
+    @Override
+    public abstract Optional<RequestTracer> getRequestTracer();
+
     @Override
     @Value.Default
     public RootProvider getRootProvider() {
@@ -142,7 +195,16 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
     }
 
     /**
-     * The number of worker threads to use when processing requests and responses
+     * The {@code SO_SNDBUF} value. Setting this to {@code null} leaves the send buffer size to the operating system.  Defaults to 10 MiB.
+     */
+    @Nullable
+    @Value.Default
+    public Integer getSendBufferSize() {
+        return SEND_RECEIVE_BUFFER_SIZE;
+    }
+
+    /**
+     * The number of worker threads to use when processing requests and responses.  Ignored if {@code loopResources} is set.
      */
     @Value.Default
     public Integer getThreadPoolSize() {
@@ -156,6 +218,24 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(Mono.empty());
     }
 
+    /**
+     * Resolves the root payloads and every well-known endpoint, negotiates a token, and opens a pooled connection to each discovered HTTP endpoint, all
+     * in parallel.  Endpoints that are not advertised or cannot be reached are skipped.
+     */
+    @Override
+    public Mono<Void> warmUp(TokenProvider tokenProvider) {
+        return Mono.when(
+            resolveRoots()
+                .map(Tuple2::getT2)
+                .map(URI::create)
+                .filter(uri -> "http".equals(uri.getScheme()) || "https".equals(uri.getScheme()))
+                .map(uri -> String.format("%s://%s:%d/", uri.getScheme(), uri.getHost(), uri.getPort()))
+                .distinct()
+                .flatMap(this::openConnection),
+            getRootProvider().getRoot(this),
+            tokenProvider.getToken(this));
+    }
+
     /**
      * Additional configuration for the underlying HttpClient
      */
@@ -177,6 +257,7 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
         return Optional.ofNullable(getConnectionPoolSize())
             .map(connectionPoolSize -> builder.maxConnections(connectionPoolSize)
+                .metrics(getMetricsRecorder().isPresent() && MICROMETER_PRESENT)
                 .pendingAcquireMaxCount(-1)
                 .build());
     }
@@ -186,11 +267,24 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<Boolean> getKeepAlive();
 
+    /**
+     * The {@link LoopResources} to process requests and responses on.  Setting this allows a single set of event loops to be shared between
+     * multiple connection contexts, and the resources are not disposed with this connection context.  Defaults to a thread pool of
+     * {@code threadPoolSize} threads owned by this connection context.
+     */
+    abstract Optional<LoopResources> getLoopResources();
+
     /**
      * The port for the Cloud Foundry instance. Defaults to {@code 443}.
      */
     abstract Optional<Integer> getPort();
 
+    /**
+     * Whether to use the native transport (e.g. epoll on Linux) when it is available on the classpath, falling back to NIO when it is not.
+     * Defaults to {@code true}.
+     */
+    abstract Optional<Boolean> getPreferNativeTransport();
+
     /**
      * Jackson deserialization problem handlers. Typically only used for testing.
      */
@@ -230,32 +324,83 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
      */
     abstract Optional<Duration> getSslCloseNotifyReadTimeout();
 
+    @Value.Derived
+    SslContext getSslContext() {
+        SslContextBuilder sslContextBuilder = SslContextBuilder.forClient()
+            .sslProvider(getSslProvider());
+
+        getSslCertificateTruster()
+            .map(this::createTrustManagerFactory)
+            .ifPresent(sslContextBuilder::trustManager);
+
+        getSslSessionCacheSize().ifPresent(sslContextBuilder::sessionCacheSize);
+        getSslSessionTimeout().ifPresent(sessionTimeout -> sslContextBuilder.sessionTimeout(sessionTimeout.getSeconds()));
+
+        try {
+            return sslContextBuilder.build();
+        } catch (SSLException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    @Value.Derived
+    SslHandshakeMetricProvider getSslHandshakeMetricProvider() {
+        return new SslHandshakeMetricProvider();
+    }
+
     /**
      * The timeout for the SSL handshake negotiation
      */
     abstract Optional<Duration> getSslHandshakeTimeout();
 
+    /**
+     * The maximum number of TLS sessions to cache for resumption.  Defaults to the SSL provider's default.
+     */
+    abstract Optional<Long> getSslSessionCacheSize();
+
+    /**
+     * The duration that cached TLS sessions are valid for resumption.  Defaults to the SSL provider's default.
+     */
+    abstract Optional<Duration> getSslSessionTimeout();
+
+    /**
+     * The {@code TCP_NODELAY} value
+     */
+    abstract Optional<Boolean> getTcpNoDelay();
+
     @Value.Derived
     LoopResources getThreadPool() {
-        return LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true);
+        return getLoopResources()
+            .orElseGet(() -> LoopResources.create("cloudfoundry-client", getThreadPoolSize(), true));
     }
 
+    /**
+     * Whether to use the OpenSSL (netty-tcnative) TLS implementation when it is available.  Defaults to {@code false}.
+     */
+    abstract Optional<Boolean> getUseOpenSsl();
+
     @PostConstruct
+    void monitor() {
+        monitorByteBufAllocator();
+        monitorSslHandshakes();
+    }
+
     void monitorByteBufAllocator() {
         try {
-            ObjectName name = getByteBufAllocatorObjectName();
-
-            if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
-                this.logger.warn("MBean '{}' is already registered and will be removed. You should only have a single DefaultConnectionContext per endpoint.", name);
-                ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
-            }
-
-            ManagementFactory.getPlatformMBeanServer().registerMBean(new ByteBufAllocatorMetricProviderWrapper(PooledByteBufAllocator.DEFAULT), name);
+            registerMBean(getByteBufAllocatorObjectName(), new ByteBufAllocatorMetricProviderWrapper(PooledByteBufAllocator.DEFAULT));
         } catch (JMException e) {
             this.logger.error("Unable to register ByteBufAllocator MBean", e);
         }
     }
 
+    void monitorSslHandshakes() {
+        try {
+            registerMBean(getSslHandshakeObjectName(), getSslHandshakeMetricProvider());
+        } catch (JMException e) {
+            this.logger.error("Unable to register SslHandshake MBean", e);
+        }
+    }
+
     private TcpClient configureConnectTimeout(TcpClient tcpClient) {
         return getConnectTimeout()
             .map(connectTimeout -> tcpClient.option(CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis()))
@@ -268,14 +413,33 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(tcpClient);
     }
 
+    private TcpClient configureNoDelay(TcpClient tcpClient) {
+        return getTcpNoDelay()
+            .map(noDelay -> tcpClient.option(TCP_NODELAY, noDelay))
+            .orElse(tcpClient);
+    }
+
     private TcpClient configureProxy(TcpClient tcpClient) {
         return getProxyConfiguration()
             .map(proxyConfiguration -> proxyConfiguration.configure(tcpClient))
             .orElse(tcpClient);
     }
 
+    private TcpClient configureSocketBuffers(TcpClient tcpClient) {
+        if (getSendBufferSize() != null) {
+            tcpClient = tcpClient.option(SO_SNDBUF, getSendBufferSize());
+        }
+
+        if (getReceiveBufferSize() != null) {
+            tcpClient = tcpClient.option(SO_RCVBUF, getReceiveBufferSize());
+        }
+
+        return tcpClient;
+    }
+
     private void configureSsl(SslProvider.SslContextSpec ssl) {
-        SslProvider.Builder builder = ssl.sslContext(createSslContextBuilder()).defaultConfiguration(DefaultConfigurationType.TCP);
+        SslProvider.Builder builder = ssl.sslContext(getSslContext())
+            .handlerConfigurator(getSslHandshakeMetricProvider()::record);
 
         getSslCloseNotifyReadTimeout().ifPresent(builder::closeNotifyReadTimeout);
         getSslHandshakeTimeout().ifPresent(builder::handshakeTimeout);
@@ -284,10 +448,10 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
 
     private TcpClient configureTcpClient(TcpClient tcpClient) {
         tcpClient = configureProxy(tcpClient);
-        tcpClient = tcpClient.runOn(getThreadPool())
-            .option(SO_SNDBUF, SEND_RECEIVE_BUFFER_SIZE)
-            .option(SO_RCVBUF, SEND_RECEIVE_BUFFER_SIZE);
+        tcpClient = tcpClient.runOn(getThreadPool(), isPreferNativeTransport());
+        tcpClient = configureSocketBuffers(tcpClient);
         tcpClient = configureKeepAlive(tcpClient);
+        tcpClient = configureNoDelay(tcpClient);
         tcpClient = tcpClient.wiretap("cloudfoundry-client.wire", LogLevel.TRACE);
 
         return configureConnectTimeout(tcpClient);
@@ -299,16 +463,6 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
             .orElse(HttpClient.create());
     }
 
-    private SslContextBuilder createSslContextBuilder() {
-        SslContextBuilder sslContextBuilder = SslContextBuilder.forClient();
-
-        getSslCertificateTruster()
-            .map(this::createTrustManagerFactory)
-            .ifPresent(sslContextBuilder::trustManager);
-
-        return sslContextBuilder;
-    }
-
     private TrustManagerFactory createTrustManagerFactory(SslCertificateTruster sslCertificateTruster) {
         return new StaticTrustManagerFactory(sslCertificateTruster);
     }
@@ -317,4 +471,70 @@ abstract class _DefaultConnectionContext implements ConnectionContext {
         return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=ByteBufAllocator,endpoint=%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
     }
 
+    private ObjectName getSslHandshakeObjectName() throws MalformedObjectNameException {
+        return ObjectName.getInstance(String.format("org.cloudfoundry.reactor:type=SslHandshake,endpoint=%s/%d", getApiHost(), getPort().orElse(DEFAULT_PORT)));
+    }
+
+    private io.netty.handler.ssl.SslProvider getSslProvider() {
+        if (!getUseOpenSsl().orElse(false)) {
+            return io.netty.handler.ssl.SslProvider.JDK;
+        }
+
+        if (!OpenSsl.isAvailable()) {
+            this.logger.warn("OpenSSL was requested but is not available, falling back to the JDK TLS implementation", OpenSsl.unavailabilityCause());
+            return io.netty.handler.ssl.SslProvider.JDK;
+        }
+
+        return io.netty.handler.ssl.SslProvider.OPENSSL;
+    }
+
+    private boolean isPreferNativeTransport() {
+        boolean preferNativeTransport = getPreferNativeTransport().orElse(true);
+
+        if (preferNativeTransport && !LoopResources.hasNativeSupport()) {
+            this.logger.debug("Native transport is not available, falling back to NIO");
+        }
+
+        return preferNativeTransport;
+    }
+
+    private Mono<Void> openConnection(String root) {
+        return getHttpClient()
+            .headers(UserAgent::setUserAgent)
+            .head()
+            .uri(root)
+            .response()
+            .doOnSubscribe(s -> this.logger.debug("Opening connection to {} during warm up", root))
+            .onErrorResume(t -> {
+                this.logger.debug("Unable to open connection to {} during warm up", root, t);
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    private void registerMBean(ObjectName name, Object mBean) throws JMException {
+        if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+            this.logger.warn("MBean '{}' is already registered and will be removed. You should only have a single DefaultConnectionContext per endpoint.", name);
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(mBean, name);
+    }
+
+    private Flux<Tuple2<String, String>> resolveRoots() {
+        return Flux.fromIterable(WELL_KNOWN_ROOT_KEYS)
+            .flatMap(key -> getRootProvider().getRoot(key, this)
+                .map(root -> Tuples.of(key, root))
+                .onErrorResume(t -> {
+                    this.logger.debug("Unable to resolve root '{}'", key, t);
+                    return Mono.empty();
+                }));
+    }
+
+    private void unregisterMBean(ObjectName name) throws JMException {
+        if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
 }
@@ -16,7 +16,6 @@
 
 package org.cloudfoundry.reactor;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.immutables.value.Value;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -28,32 +27,11 @@ import java.util.Map;
  * A {@link RootProvider} that returns endpoints extracted from the `/v2/info` API for the configured endpoint.
  */
 @Value.Immutable
-abstract class _InfoPayloadRootProvider extends AbstractRootProvider {
-
-    protected Mono<UriComponents> doGetRoot(ConnectionContext connectionContext) {
-        return Mono.just(getRoot());
-    }
-
-    protected Mono<UriComponents> doGetRoot(String key, ConnectionContext connectionContext) {
-        return getInfo(connectionContext)
-            .map(info -> {
-                if (!info.containsKey(key)) {
-                    throw new IllegalArgumentException(String.format("Info payload does not contain key '%s'", key));
-                }
-
-                return normalize(UriComponentsBuilder.fromUriString(info.get(key)));
-            });
-    }
-
-    abstract ObjectMapper getObjectMapper();
-
-    private UriComponentsBuilder buildInfoUri(UriComponentsBuilder root) {
-        return root.pathSegment("v2", "info");
-    }
+abstract class _InfoPayloadRootProvider extends AbstractPayloadCachingRootProvider {
 
+    @Override
     @SuppressWarnings("unchecked")
-    @Value.Derived
-    private Mono<Map<String, String>> getInfo(ConnectionContext connectionContext) {
+    protected Mono<Map<String, String>> doGetPayload(ConnectionContext connectionContext) {
         return createOperator(connectionContext)
             .flatMap(operator -> operator.get()
                 .uri(this::buildInfoUri)
@@ -64,4 +42,13 @@ abstract class _InfoPayloadRootProvider extends AbstractRootProvider {
             .checkpoint();
     }
 
+    @Override
+    protected Mono<UriComponents> doGetRoot(ConnectionContext connectionContext) {
+        return Mono.just(getRoot());
+    }
+
+    private UriComponentsBuilder buildInfoUri(UriComponentsBuilder root) {
+        return root.pathSegment("v2", "info");
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.immutables.value.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link RootProvider} that returns endpoints from a pre-resolved map, such as one exported by {@link DefaultConnectionContext#exportRoots()},
+ * without making any requests to discover them.  If configured to validate, the endpoints are compared with those advertised by the API the first
+ * time one is requested, and any that have changed are replaced.  That first request waits for the validation, so no request is made to an endpoint
+ * that has changed.
+ */
+@Value.Immutable
+abstract class _PinnedRootProvider extends AbstractRootProvider {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.root");
+
+    private final AtomicReference<Mono<Map<String, String>>> validatedEndpoints = new AtomicReference<>();
+
+    @Override
+    protected Mono<UriComponents> doGetRoot(ConnectionContext connectionContext) {
+        return Mono.just(getRoot());
+    }
+
+    @Override
+    protected Mono<UriComponents> doGetRoot(String key, ConnectionContext connectionContext) {
+        return resolveEndpoints(connectionContext)
+            .flatMap(endpoints -> {
+                if (!endpoints.containsKey(key)) {
+                    return Mono.error(new IllegalArgumentException(String.format("Pinned endpoints do not contain key '%s'", key)));
+                }
+
+                return Mono.just(normalize(UriComponentsBuilder.fromUriString(endpoints.get(key))));
+            });
+    }
+
+    /**
+     * The endpoints, keyed by the key they are requested with (e.g. {@code cloud_controller_v2} or {@code uaa})
+     */
+    abstract Map<String, String> getEndpoints();
+
+    /**
+     * Whether to validate the endpoints against those advertised by the API before the first is returned.  Defaults to {@code false}.
+     */
+    abstract Optional<Boolean> getValidate();
+
+    private Map<String, String> replaceChanged(Map<String, String> advertised) {
+        Map<String, String> endpoints = new HashMap<>(getEndpoints());
+
+        advertised.forEach((key, endpoint) -> {
+            String pinned = normalize(UriComponentsBuilder.fromUriString(endpoints.get(key))).toUriString();
+
+            if (!pinned.equals(endpoint)) {
+                LOGGER.warn("Pinned endpoint '{}' is {} but {} is advertised, using advertised endpoint", key, pinned, endpoint);
+                endpoints.put(key, endpoint);
+            }
+        });
+
+        return endpoints;
+    }
+
+    private Mono<Map<String, String>> resolveEndpoints(ConnectionContext connectionContext) {
+        if (!getValidate().orElse(false)) {
+            return Mono.just(getEndpoints());
+        }
+
+        return this.validatedEndpoints.updateAndGet(validated -> validated == null ? validate(connectionContext).cache() : validated);
+    }
+
+    private Mono<Map<String, String>> validate(ConnectionContext connectionContext) {
+        DelegatingRootProvider rootProvider = DelegatingRootProvider.builder()
+            .apiHost(getApiHost())
+            .objectMapper(connectionContext.getObjectMapper())
+            .port(getPort())
+            .secure(getSecure())
+            .build();
+
+        return Flux.fromIterable(getEndpoints().keySet())
+            .flatMap(key -> rootProvider.getRoot(key, connectionContext)
+                .map(endpoint -> Tuples.of(key, endpoint))
+                .onErrorResume(t -> {
+                    LOGGER.debug("Unable to validate pinned endpoint '{}'", key, t);
+                    return Mono.empty();
+                }))
+            .collectMap(Tuple2::getT1, Tuple2::getT2)
+            .map(this::replaceChanged);
+    }
+
+}
@@ -16,10 +16,8 @@
 
 package org.cloudfoundry.reactor;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.immutables.value.Value;
 import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -30,30 +28,11 @@ import java.util.stream.Collectors;
  * A {@link RootProvider} that returns endpoints extracted from the `/` API for the configured endpoint.
  */
 @Value.Immutable
-abstract class _RootPayloadRootProvider extends AbstractRootProvider {
+abstract class _RootPayloadRootProvider extends AbstractPayloadCachingRootProvider {
 
     @Override
-    protected Mono<UriComponents> doGetRoot(ConnectionContext connectionContext) {
-        return Mono.just(getRoot());
-    }
-
-    @Override
-    protected Mono<UriComponents> doGetRoot(String key, ConnectionContext connectionContext) {
-        return getPayload(connectionContext)
-            .map(payload -> {
-                if (!payload.containsKey(key)) {
-                    throw new IllegalArgumentException(String.format("Root payload does not contain key '%s'", key));
-                }
-
-                return normalize(UriComponentsBuilder.fromUriString(payload.get(key)));
-            });
-    }
-
-    abstract ObjectMapper getObjectMapper();
-
     @SuppressWarnings("unchecked")
-    @Value.Derived
-    private Mono<Map<String, String>> getPayload(ConnectionContext connectionContext) {
+    protected Mono<Map<String, String>> doGetPayload(ConnectionContext connectionContext) {
         return createOperator(connectionContext)
             .flatMap(operator -> operator.get()
                 .uri(Function.identity())
@@ -65,6 +44,11 @@ abstract class _RootPayloadRootProvider extends AbstractRootProvider {
             .checkpoint();
     }
 
+    @Override
+    protected Mono<UriComponents> doGetRoot(ConnectionContext connectionContext) {
+        return Mono.just(getRoot());
+    }
+
     private Map<String, String> processPayload(Map<String, Map<String, Map<String, String>>> payload) {
         return payload.get("links").entrySet().stream()
             .filter(item -> null != item.getValue())
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.client;
+
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.client.v3.Checksum;
+import org.cloudfoundry.client.v3.ChecksumType;
+import org.cloudfoundry.util.FileUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+
+/**
+ * Verifies downloaded content against an expected hash
+ */
+public final class ChecksumVerifier {
+
+    private ChecksumVerifier() {
+    }
+
+    /**
+     * Verifies the content of a file
+     *
+     * @param path     the file to verify
+     * @param checksum the expected checksum.  If {@code null}, or without a value, the file is not verified.
+     * @return a {@link Mono} that completes if the content matches the checksum, or errors with an {@link IllegalStateException} if it does not
+     */
+    public static Mono<Void> verify(Path path, @Nullable Checksum checksum) {
+        if (checksum == null) {
+            return Mono.empty();
+        }
+
+        return verify(path, getAlgorithm(checksum.getType()), checksum.getValue());
+    }
+
+    /**
+     * Verifies the content of a file
+     *
+     * @param path      the file to verify
+     * @param algorithm the name of the {@link java.security.MessageDigest} algorithm of the expected hash
+     * @param expected  the expected hash.  If {@code null}, the file is not verified.
+     * @return a {@link Mono} that completes if the content matches the hash, or errors with an {@link IllegalStateException} if it does not
+     */
+    public static Mono<Void> verify(Path path, String algorithm, @Nullable String expected) {
+        if (expected == null) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(() -> FileUtils.hash(path, algorithm))
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(actual -> {
+                if (actual.equalsIgnoreCase(expected)) {
+                    return Mono.empty();
+                }
+
+                return Mono.error(new IllegalStateException(String.format("Checksum mismatch for %s: expected %s %s but was %s", path, algorithm, expected, actual)));
+            });
+    }
+
+    private static String getAlgorithm(ChecksumType type) {
+        switch (type) {
+            case SHA1:
+                return "SHA-1";
+            case SHA256:
+                return "SHA-256";
+            default:
+                throw new IllegalArgumentException(String.format("Unknown checksum type: %s", type));
+        }
+    }
+
+}
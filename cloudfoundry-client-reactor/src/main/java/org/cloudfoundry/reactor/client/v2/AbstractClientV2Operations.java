@@ -24,19 +24,21 @@ import org.cloudfoundry.reactor.util.DelegatingUriQueryParameterBuilder;
 import org.cloudfoundry.reactor.util.ErrorPayloadMappers;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.reactor.util.Operator;
+import org.cloudfoundry.reactor.util.RangeDownloader;
 import org.cloudfoundry.reactor.util.UriQueryParameter;
 import org.cloudfoundry.reactor.util.UriQueryParameterBuilder;
 import org.cloudfoundry.reactor.util.UriQueryParameters;
+import org.reactivestreams.Publisher;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
-import reactor.netty.http.client.HttpClientForm;
+import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClientRequest;
 
+import java.nio.file.Path;
 import java.util.Map;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -47,12 +49,12 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
     }
 
     @Override
-    protected Mono<Operator> createOperator() {
-        return super.createOperator().map(this::attachErrorPayloadMapper);
+    protected Mono<Operator> createOperator(String operation) {
+        return super.createOperator(operation).map(this::attachErrorPayloadMapper);
     }
 
-    protected final <T> Mono<T> delete(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> delete(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.delete()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
                 .send(requestPayload)
@@ -60,8 +62,16 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
                 .parseBody(responseType));
     }
 
-    protected final <T> Flux<T> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<ByteBufFlux, Flux<T>> bodyTransformer) {
-        return createOperator()
+    protected final Mono<Void> download(String operation, Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Path target) {
+        return createOperator(operation)
+            .flatMap(operator -> operator.get()
+                .uri(queryTransformer(requestPayload).andThen(uriTransformer))
+                .response()
+                .parseBodyToMono(responseWithBody -> new RangeDownloader(this.connectionContext.getHttpClient()).download(responseWithBody, target)));
+    }
+
+    protected final <T> Flux<T> get(String operation, Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<ByteBufFlux, Flux<T>> bodyTransformer) {
+        return createOperator(operation)
             .flatMapMany(operator -> operator.followRedirects()
                 .get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -69,16 +79,16 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
                 .parseBodyToFlux(responseWithBody -> bodyTransformer.apply(responseWithBody.getBody())));
     }
 
-    protected final <T> Mono<T> get(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> get(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> post(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.post()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
                 .send(requestPayload)
@@ -86,19 +96,18 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
-                                    Consumer<MultipartHttpClientRequest> requestTransformer, Runnable onTerminate) {
-        return createOperator()
+    protected final <T> Mono<T> put(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+                                    Function<MultipartHttpClientRequest, Publisher<Void>> requestTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.put()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
-                .sendForm(multipartRequest(requestTransformer))
+                .send(multipartRequest(requestTransformer))
                 .response()
-                .parseBody(responseType))
-            .doFinally(signalType -> onTerminate.run());
+                .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> put(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.put()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
                 .send(requestPayload)
@@ -110,19 +119,16 @@ public abstract class AbstractClientV2Operations extends AbstractReactorOperatio
         return operator.withErrorPayloadMapper(ErrorPayloadMappers.clientV2(this.connectionContext.getObjectMapper()));
     }
 
-    private MultipartHttpClientRequest createMultipartRequest(HttpClientRequest request, HttpClientForm form) {
-        return new MultipartHttpClientRequest(this.connectionContext.getObjectMapper(), request, form);
+    private MultipartHttpClientRequest createMultipartRequest(HttpClientRequest request, NettyOutbound outbound) {
+        return new MultipartHttpClientRequest(this.connectionContext.getObjectMapper(), request, outbound);
     }
 
     private UriQueryParameterBuilder getUriQueryParameterBuilder() {
         return DelegatingUriQueryParameterBuilder.builder().builders(new FilterBuilder(), new QueryBuilder()).build();
     }
 
-    private BiConsumer<HttpClientRequest, HttpClientForm> multipartRequest(Consumer<MultipartHttpClientRequest> requestTransformer) {
-        return (request, form) -> {
-            MultipartHttpClientRequest multipartRequest = createMultipartRequest(request, form);
-            requestTransformer.accept(multipartRequest);
-        };
+    private BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> multipartRequest(Function<MultipartHttpClientRequest, Publisher<Void>> requestTransformer) {
+        return (request, outbound) -> requestTransformer.apply(createMultipartRequest(request, outbound));
     }
 
     private Function<UriComponentsBuilder, UriComponentsBuilder> queryTransformer(Object requestPayload) {
@@ -44,6 +44,7 @@ import org.cloudfoundry.client.v2.applications.ListApplicationsRequest;
 import org.cloudfoundry.client.v2.applications.ListApplicationsResponse;
 import org.cloudfoundry.client.v2.applications.RemoveApplicationRouteRequest;
 import org.cloudfoundry.client.v2.applications.RemoveApplicationServiceBindingRequest;
+import org.cloudfoundry.client.v2.applications.Resource;
 import org.cloudfoundry.client.v2.applications.RestageApplicationRequest;
 import org.cloudfoundry.client.v2.applications.RestageApplicationResponse;
 import org.cloudfoundry.client.v2.applications.SummaryApplicationRequest;
@@ -57,18 +58,19 @@ import org.cloudfoundry.client.v2.applications.UploadApplicationRequest;
 import org.cloudfoundry.client.v2.applications.UploadApplicationResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.ChecksumVerifier;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
-import reactor.core.Exceptions;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_JSON;
 
@@ -91,172 +93,176 @@ public final class ReactorApplicationsV2 extends AbstractClientV2Operations impl
 
     @Override
     public Mono<AssociateApplicationRouteResponse> associateRoute(AssociateApplicationRouteRequest request) {
-        return put(request, AssociateApplicationRouteResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes", request.getRouteId()))
+        return put("associateRoute", request, AssociateApplicationRouteResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CopyApplicationResponse> copy(CopyApplicationRequest request) {
-        return post(request, CopyApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "copy_bits"))
+        return post("copy", request, CopyApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "copy_bits"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateApplicationResponse> create(CreateApplicationRequest request) {
-        return post(request, CreateApplicationResponse.class, builder -> builder.pathSegment("apps"))
+        return post("create", request, CreateApplicationResponse.class, builder -> builder.pathSegment("apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return delete("delete", request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> download(DownloadApplicationRequest request) {
-        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "download"), ByteBufFlux::asByteArray)
+        return get("download", request, builder -> builder.pathSegment("apps", request.getApplicationId(), "download"), ByteBufFlux::asByteArray)
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<Void> download(DownloadApplicationRequest request, Path target) {
+        return download("download", request, builder -> builder.pathSegment("apps", request.getApplicationId(), "download"), target)
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request) {
-        return get(request, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "download"), ByteBufFlux::asByteArray)
+        return get("downloadDroplet", request, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "download"), ByteBufFlux::asByteArray)
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<Void> downloadDroplet(DownloadApplicationDropletRequest request, Path target) {
+        return download("downloadDroplet", request, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "download"), target)
+            .then(ChecksumVerifier.verify(target, "SHA-1", request.getHash()))
             .checkpoint();
     }
 
     @Override
     public Mono<ApplicationEnvironmentResponse> environment(ApplicationEnvironmentRequest request) {
-        return get(request, ApplicationEnvironmentResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
+        return get("environment", request, ApplicationEnvironmentResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return get("get", request, GetApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationPermissionsResponse> getPermissions(GetApplicationPermissionsRequest request) {
-        return get(request, GetApplicationPermissionsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "permissions"))
+        return get("getPermissions", request, GetApplicationPermissionsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "permissions"))
             .checkpoint();
     }
 
     @Override
     public Mono<ApplicationInstancesResponse> instances(ApplicationInstancesRequest request) {
-        return get(request, ApplicationInstancesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "instances"))
+        return get("instances", request, ApplicationInstancesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationsResponse> list(ListApplicationsRequest request) {
-        return get(request, ListApplicationsResponse.class, builder -> builder.pathSegment("apps"))
+        return get("list", request, ListApplicationsResponse.class, builder -> builder.pathSegment("apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes"))
+        return get("listRoutes", request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationServiceBindingsResponse> listServiceBindings(ListApplicationServiceBindingsRequest request) {
-        return get(request, ListApplicationServiceBindingsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "service_bindings"))
+        return get("listServiceBindings", request, ListApplicationServiceBindingsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "service_bindings"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeRoute(RemoveApplicationRouteRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes", request.getRouteId()))
+        return delete("removeRoute", request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeServiceBinding(RemoveApplicationServiceBindingRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "service_bindings", request.getServiceBindingId()))
+        return delete("removeServiceBinding", request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "service_bindings", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RestageApplicationResponse> restage(RestageApplicationRequest request) {
-        return post(request, RestageApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "restage"))
+        return post("restage", request, RestageApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "restage"))
             .checkpoint();
     }
 
     @Override
     public Mono<ApplicationStatisticsResponse> statistics(ApplicationStatisticsRequest request) {
-        return get(request, ApplicationStatisticsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "stats"))
+        return get("statistics", request, ApplicationStatisticsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "stats"))
             .checkpoint();
     }
 
     @Override
     public Mono<SummaryApplicationResponse> summary(SummaryApplicationRequest request) {
-        return get(request, SummaryApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "summary"))
+        return get("summary", request, SummaryApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "summary"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "instances", request.getIndex()))
+        return delete("terminateInstance", request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "instances", request.getIndex()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
-        return put(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return put("update", request, UpdateApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UploadApplicationResponse> upload(UploadApplicationRequest request) {
-        Path application = request.getApplication();
-
-        if (application.toFile().isDirectory()) {
-            return FileUtils.compress(application)
-                .map(temporaryFile -> UploadApplicationRequest.builder()
-                    .from(request)
-                    .application(temporaryFile)
-                    .build())
-                .flatMap(requestWithTemporaryFile -> upload(requestWithTemporaryFile, () -> {
-                    try {
-                        Files.delete(requestWithTemporaryFile.getApplication());
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(e);
-                    }
-                }));
-        } else {
-            return upload(request, () -> {
-            });
-        }
+        return put("upload", request, UploadApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "bits"),
+            multipartRequest -> upload(request.getApplication(), multipartRequest, request))
+            .checkpoint();
     }
 
     @Override
     public Mono<UploadApplicationDropletResponse> uploadDroplet(UploadApplicationDropletRequest request) {
-        return put(request, UploadApplicationDropletResponse.class,
+        return put("uploadDroplet", request, UploadApplicationDropletResponse.class,
             builder -> builder.pathSegment("apps", request.getApplicationId(), "droplet", "upload"),
-            multipartRequest -> upload(multipartRequest, request), () -> {
-            }).checkpoint();
-    }
-
-    private Mono<UploadApplicationResponse> upload(UploadApplicationRequest request, Runnable onTerminate) {
-        return put(request, UploadApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "bits"),
-            multipartRequest -> upload(request.getApplication(), multipartRequest, request), onTerminate).checkpoint();
+            multipartRequest -> upload(multipartRequest, request))
+            .checkpoint();
     }
 
-    private void upload(Path application, MultipartHttpClientRequest multipartRequest, UploadApplicationRequest request) {
-        multipartRequest.addPart(part -> part.setName("resources")
+    private Publisher<Void> upload(Path application, MultipartHttpClientRequest multipartRequest, UploadApplicationRequest request) {
+        return multipartRequest.addPart(part -> part.setName("resources")
             .setContentType(APPLICATION_JSON.toString())
             .send(request.getResources()))
-            .addPart(part -> part.setName("application")
-                .setContentType(APPLICATION_ZIP)
-                .sendFile(application))
+            .addPart(part -> {
+                part.setName("application")
+                    .setContentType(APPLICATION_ZIP);
+
+                if (application.toFile().isDirectory()) {
+                    Set<String> matchedPaths = request.getResources().stream()
+                        .map(Resource::getPath)
+                        .collect(Collectors.toSet());
+
+                    part.setFilename(application.getFileName() + ".zip")
+                        .sendWriter(out -> FileUtils.compress(application, path -> !matchedPaths.contains(path), out));
+                } else {
+                    part.sendFile(application);
+                }
+            })
             .done();
     }
 
-    private void upload(MultipartHttpClientRequest multipartRequest, UploadApplicationDropletRequest request) {
-        multipartRequest.addPart(part -> part.setName("droplet")
+    private Publisher<Void> upload(MultipartHttpClientRequest multipartRequest, UploadApplicationDropletRequest request) {
+        return multipartRequest.addPart(part -> part.setName("droplet")
             .sendFile(request.getDroplet()))
             .done();
     }
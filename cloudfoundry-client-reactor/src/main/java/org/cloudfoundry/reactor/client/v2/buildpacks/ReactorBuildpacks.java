@@ -34,11 +34,9 @@ import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.reactor.client.v2.AbstractClientV2Operations;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
-import reactor.core.Exceptions;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -61,68 +59,54 @@ public final class ReactorBuildpacks extends AbstractClientV2Operations implemen
 
     @Override
     public Mono<CreateBuildpackResponse> create(CreateBuildpackRequest request) {
-        return post(request, CreateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks"))
+        return post("create", request, CreateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteBuildpackResponse> delete(DeleteBuildpackRequest request) {
-        return delete(request, DeleteBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return delete("delete", request, DeleteBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetBuildpackResponse> get(GetBuildpackRequest request) {
-        return get(request, GetBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return get("get", request, GetBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListBuildpacksResponse> list(ListBuildpacksRequest request) {
-        return get(request, ListBuildpacksResponse.class, builder -> builder.pathSegment("buildpacks"))
+        return get("list", request, ListBuildpacksResponse.class, builder -> builder.pathSegment("buildpacks"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateBuildpackResponse> update(UpdateBuildpackRequest request) {
-        return put(request, UpdateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
+        return put("update", request, UpdateBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UploadBuildpackResponse> upload(UploadBuildpackRequest request) {
-        Path buildpack = request.getBuildpack();
-
-        if (buildpack.toFile().isDirectory()) {
-            return FileUtils.compress(buildpack)
-                .map(temporaryFile -> UploadBuildpackRequest.builder()
-                    .from(request)
-                    .buildpack(temporaryFile)
-                    .build())
-                .flatMap(requestWithTemporaryFile -> upload(requestWithTemporaryFile, request.getFilename() + ".zip", () -> {
-                    try {
-                        Files.delete(requestWithTemporaryFile.getBuildpack());
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(e);
-                    }
-                }));
-        } else {
-            return upload(request, request.getFilename(), () -> {
-            });
-        }
-    }
-
-    private Mono<UploadBuildpackResponse> upload(UploadBuildpackRequest request, String filename, Runnable onTerminate) {
-        return put(request, UploadBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId(), "bits"),
-            multipartRequest -> upload(request.getBuildpack(), multipartRequest, filename), onTerminate)
+        return put("upload", request, UploadBuildpackResponse.class, builder -> builder.pathSegment("buildpacks", request.getBuildpackId(), "bits"),
+            multipartRequest -> upload(request.getBuildpack(), multipartRequest, request.getFilename()))
             .checkpoint();
     }
 
-    private void upload(Path buildpack, MultipartHttpClientRequest multipartRequest, String filename) {
-        multipartRequest.addPart(part -> part.setName("buildpack")
-            .setFilename(filename)
-            .setContentType(APPLICATION_ZIP)
-            .sendFile(buildpack))
+    private Publisher<Void> upload(Path buildpack, MultipartHttpClientRequest multipartRequest, String filename) {
+        return multipartRequest.addPart(part -> {
+            part.setName("buildpack")
+                .setContentType(APPLICATION_ZIP);
+
+            if (buildpack.toFile().isDirectory()) {
+                part.setFilename(filename + ".zip")
+                    .sendWriter(out -> FileUtils.compress(buildpack, path -> true, out));
+            } else {
+                part.setFilename(filename)
+                    .sendFile(buildpack);
+            }
+        })
             .done();
     }
 
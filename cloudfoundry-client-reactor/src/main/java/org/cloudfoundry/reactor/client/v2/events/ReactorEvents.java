@@ -47,13 +47,13 @@ public final class ReactorEvents extends AbstractClientV2Operations implements E
 
     @Override
     public Mono<GetEventResponse> get(GetEventRequest request) {
-        return get(request, GetEventResponse.class, builder -> builder.pathSegment("events", request.getEventId()))
+        return get("get", request, GetEventResponse.class, builder -> builder.pathSegment("events", request.getEventId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListEventsResponse> list(ListEventsRequest request) {
-        return get(request, ListEventsResponse.class, builder -> builder.pathSegment("events"))
+        return get("list", request, ListEventsResponse.class, builder -> builder.pathSegment("events"))
             .checkpoint();
     }
 
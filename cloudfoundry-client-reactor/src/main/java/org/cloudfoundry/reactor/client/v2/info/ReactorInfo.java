@@ -45,7 +45,7 @@ public final class ReactorInfo extends AbstractClientV2Operations implements Inf
 
     @Override
     public Mono<GetInfoResponse> get(GetInfoRequest request) {
-        return get(request, GetInfoResponse.class, builder -> builder.pathSegment("info"))
+        return get("get", request, GetInfoResponse.class, builder -> builder.pathSegment("info"))
             .checkpoint();
     }
 
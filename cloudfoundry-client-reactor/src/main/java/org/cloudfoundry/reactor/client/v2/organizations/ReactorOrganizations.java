@@ -106,220 +106,220 @@ public final class ReactorOrganizations extends AbstractClientV2Operations imple
 
     @Override
     public Mono<AssociateOrganizationAuditorResponse> associateAuditor(AssociateOrganizationAuditorRequest request) {
-        return put(request, AssociateOrganizationAuditorResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors", request.getAuditorId()))
+        return put("associateAuditor", request, AssociateOrganizationAuditorResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors", request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationAuditorByUsernameResponse> associateAuditorByUsername(AssociateOrganizationAuditorByUsernameRequest request) {
-        return put(request, AssociateOrganizationAuditorByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
+        return put("associateAuditorByUsername", request, AssociateOrganizationAuditorByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationBillingManagerResponse> associateBillingManager(AssociateOrganizationBillingManagerRequest request) {
-        return put(request, AssociateOrganizationBillingManagerResponse.class,
+        return put("associateBillingManager", request, AssociateOrganizationBillingManagerResponse.class,
             builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationBillingManagerByUsernameResponse> associateBillingManagerByUsername(AssociateOrganizationBillingManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationBillingManagerByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
+        return put("associateBillingManagerByUsername", request, AssociateOrganizationBillingManagerByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationManagerResponse> associateManager(AssociateOrganizationManagerRequest request) {
-        return put(request, AssociateOrganizationManagerResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers", request.getManagerId()))
+        return put("associateManager", request, AssociateOrganizationManagerResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers", request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationManagerByUsernameResponse> associateManagerByUsername(AssociateOrganizationManagerByUsernameRequest request) {
-        return put(request, AssociateOrganizationManagerByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
+        return put("associateManagerByUsername", request, AssociateOrganizationManagerByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationPrivateDomainResponse> associatePrivateDomain(AssociateOrganizationPrivateDomainRequest request) {
-        return put(request, AssociateOrganizationPrivateDomainResponse.class,
+        return put("associatePrivateDomain", request, AssociateOrganizationPrivateDomainResponse.class,
             builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationUserResponse> associateUser(AssociateOrganizationUserRequest request) {
-        return put(request, AssociateOrganizationUserResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users", request.getUserId()))
+        return put("associateUser", request, AssociateOrganizationUserResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateOrganizationUserByUsernameResponse> associateUserByUsername(AssociateOrganizationUserByUsernameRequest request) {
-        return put(request, AssociateOrganizationUserByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
+        return put("associateUserByUsername", request, AssociateOrganizationUserByUsernameResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateOrganizationResponse> create(CreateOrganizationRequest request) {
-        return post(request, CreateOrganizationResponse.class, builder -> builder.pathSegment("organizations"))
+        return post("create", request, CreateOrganizationResponse.class, builder -> builder.pathSegment("organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteOrganizationResponse> delete(DeleteOrganizationRequest request) {
-        return delete(request, DeleteOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return delete("delete", request, DeleteOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationResponse> get(GetOrganizationRequest request) {
-        return get(request, GetOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return get("get", request, GetOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationInstanceUsageResponse> getInstanceUsage(GetOrganizationInstanceUsageRequest request) {
-        return get(request, GetOrganizationInstanceUsageResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "instance_usage"))
+        return get("getInstanceUsage", request, GetOrganizationInstanceUsageResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "instance_usage"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationMemoryUsageResponse> getMemoryUsage(GetOrganizationMemoryUsageRequest request) {
-        return get(request, GetOrganizationMemoryUsageResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "memory_usage"))
+        return get("getMemoryUsage", request, GetOrganizationMemoryUsageResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "memory_usage"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationUserRolesResponse> getUserRoles(GetOrganizationUserRolesRequest request) {
-        return get(request, GetOrganizationUserRolesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "user_roles"))
+        return get("getUserRoles", request, GetOrganizationUserRolesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "user_roles"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationsResponse> list(ListOrganizationsRequest request) {
-        return get(request, ListOrganizationsResponse.class, builder -> builder.pathSegment("organizations"))
+        return get("list", request, ListOrganizationsResponse.class, builder -> builder.pathSegment("organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationAuditorsResponse> listAuditors(ListOrganizationAuditorsRequest request) {
-        return get(request, ListOrganizationAuditorsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
+        return get("listAuditors", request, ListOrganizationAuditorsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationBillingManagersResponse> listBillingManagers(ListOrganizationBillingManagersRequest request) {
-        return get(request, ListOrganizationBillingManagersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
+        return get("listBillingManagers", request, ListOrganizationBillingManagersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<ListOrganizationDomainsResponse> listDomains(ListOrganizationDomainsRequest request) {
-        return get(request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains"))
+        return get("listDomains", request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationManagersResponse> listManagers(ListOrganizationManagersRequest request) {
-        return get(request, ListOrganizationManagersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
+        return get("listManagers", request, ListOrganizationManagersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationPrivateDomainsResponse> listPrivateDomains(ListOrganizationPrivateDomainsRequest request) {
-        return get(request, ListOrganizationPrivateDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains"))
+        return get("listPrivateDomains", request, ListOrganizationPrivateDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationServicesResponse> listServices(ListOrganizationServicesRequest request) {
-        return get(request, ListOrganizationServicesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "services"))
+        return get("listServices", request, ListOrganizationServicesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "services"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationSpaceQuotaDefinitionsResponse> listSpaceQuotaDefinitions(ListOrganizationSpaceQuotaDefinitionsRequest request) {
-        return get(request, ListOrganizationSpaceQuotaDefinitionsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "space_quota_definitions"))
+        return get("listSpaceQuotaDefinitions", request, ListOrganizationSpaceQuotaDefinitionsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "space_quota_definitions"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationSpacesResponse> listSpaces(ListOrganizationSpacesRequest request) {
-        return get(request, ListOrganizationSpacesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "spaces"))
+        return get("listSpaces", request, ListOrganizationSpacesResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationUsersResponse> listUsers(ListOrganizationUsersRequest request) {
-        return get(request, ListOrganizationUsersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
+        return get("listUsers", request, ListOrganizationUsersResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditor(RemoveOrganizationAuditorRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors", request.getAuditorId()))
+        return delete("removeAuditor", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors", request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditorByUsername(RemoveOrganizationAuditorByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
+        return delete("removeAuditorByUsername", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "auditors"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeBillingManager(RemoveOrganizationBillingManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()))
+        return delete("removeBillingManager", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers", request.getBillingManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeBillingManagerByUsername(RemoveOrganizationBillingManagerByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
+        return delete("removeBillingManagerByUsername", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "billing_managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManager(RemoveOrganizationManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers", request.getManagerId()))
+        return delete("removeManager", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers", request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManagerByUsername(RemoveOrganizationManagerByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
+        return delete("removeManagerByUsername", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removePrivateDomain(RemoveOrganizationPrivateDomainRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()))
+        return delete("removePrivateDomain", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "private_domains", request.getPrivateDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeUser(RemoveOrganizationUserRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users", request.getUserId()))
+        return delete("removeUser", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeUserByUsername(RemoveOrganizationUserByUsernameRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
+        return delete("removeUserByUsername", request, Void.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "users"))
             .checkpoint();
     }
 
     @Override
     public Mono<SummaryOrganizationResponse> summary(SummaryOrganizationRequest request) {
-        return get(request, SummaryOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "summary"))
+        return get("summary", request, SummaryOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "summary"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateOrganizationResponse> update(UpdateOrganizationRequest request) {
-        return put(request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return put("update", request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
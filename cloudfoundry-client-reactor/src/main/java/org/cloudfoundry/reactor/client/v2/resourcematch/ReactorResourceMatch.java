@@ -45,7 +45,7 @@ public final class ReactorResourceMatch extends AbstractClientV2Operations imple
 
     @Override
     public Mono<ListMatchingResourcesResponse> list(ListMatchingResourcesRequest request) {
-        return put(request, ListMatchingResourcesResponse.class, builder -> builder.pathSegment("resource_match"))
+        return put("list", request, ListMatchingResourcesResponse.class, builder -> builder.pathSegment("resource_match"))
             .checkpoint();
     }
 
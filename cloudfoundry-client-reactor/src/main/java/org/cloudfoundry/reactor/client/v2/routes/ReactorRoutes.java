@@ -65,25 +65,25 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     @Override
     public Mono<AssociateRouteApplicationResponse> associateApplication(AssociateRouteApplicationRequest request) {
-        return put(request, AssociateRouteApplicationResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps", request.getApplicationId()))
+        return put("associateApplication", request, AssociateRouteApplicationResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateRouteResponse> create(CreateRouteRequest request) {
-        return post(request, CreateRouteResponse.class, builder -> builder.pathSegment("routes"))
+        return post("create", request, CreateRouteResponse.class, builder -> builder.pathSegment("routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteRouteResponse> delete(DeleteRouteRequest request) {
-        return delete(request, DeleteRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
+        return delete("delete", request, DeleteRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Boolean> exists(RouteExistsRequest request) {
-        return get(request, Boolean.class,
+        return get("exists", request, Boolean.class,
             builder -> {
                 builder.pathSegment("routes", "reserved", "domain", request.getDomainId());
                 Optional.ofNullable(request.getHost()).ifPresent(host -> builder.pathSegment("host", host));
@@ -96,37 +96,37 @@ public final class ReactorRoutes extends AbstractClientV2Operations implements R
 
     @Override
     public Mono<GetRouteResponse> get(GetRouteRequest request) {
-        return get(request, GetRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
+        return get("get", request, GetRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRoutesResponse> list(ListRoutesRequest request) {
-        return get(request, ListRoutesResponse.class, builder -> builder.pathSegment("routes"))
+        return get("list", request, ListRoutesResponse.class, builder -> builder.pathSegment("routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteApplicationsResponse> listApplications(ListRouteApplicationsRequest request) {
-        return get(request, ListRouteApplicationsResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps"))
+        return get("listApplications", request, ListRouteApplicationsResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteMappingsResponse> listMappings(ListRouteMappingsRequest request) {
-        return get(request, ListRouteMappingsResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "route_mappings"))
+        return get("listMappings", request, ListRouteMappingsResponse.class, builder -> builder.pathSegment("routes", request.getRouteId(), "route_mappings"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeApplication(RemoveRouteApplicationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps", request.getApplicationId()))
+        return delete("removeApplication", request, Void.class, builder -> builder.pathSegment("routes", request.getRouteId(), "apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateRouteResponse> update(UpdateRouteRequest request) {
-        return put(request, UpdateRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
+        return put("update", request, UpdateRouteResponse.class, builder -> builder.pathSegment("routes", request.getRouteId()))
             .checkpoint();
     }
 
@@ -68,85 +68,85 @@ public class ReactorSecurityGroups extends AbstractClientV2Operations implements
 
     @Override
     public Mono<AssociateSecurityGroupSpaceResponse> associateSpace(AssociateSecurityGroupSpaceRequest request) {
-        return put(request, AssociateSecurityGroupSpaceResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces", request.getSpaceId()))
+        return put("associateSpace", request, AssociateSecurityGroupSpaceResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSecurityGroupResponse> create(CreateSecurityGroupRequest request) {
-        return post(request, CreateSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups"))
+        return post("create", request, CreateSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteSecurityGroupResponse> delete(DeleteSecurityGroupRequest request) {
-        return delete(request, DeleteSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
+        return delete("delete", request, DeleteSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSecurityGroupResponse> get(GetSecurityGroupRequest request) {
-        return get(request, GetSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
+        return get("get", request, GetSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupsResponse> list(ListSecurityGroupsRequest request) {
-        return get(request, ListSecurityGroupsResponse.class, builder -> builder.pathSegment("security_groups"))
+        return get("list", request, ListSecurityGroupsResponse.class, builder -> builder.pathSegment("security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupRunningDefaultsResponse> listRunningDefaults(ListSecurityGroupRunningDefaultsRequest request) {
-        return get(request, ListSecurityGroupRunningDefaultsResponse.class, builder -> builder.pathSegment("config", "running_security_groups"))
+        return get("listRunningDefaults", request, ListSecurityGroupRunningDefaultsResponse.class, builder -> builder.pathSegment("config", "running_security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupSpacesResponse> listSpaces(ListSecurityGroupSpacesRequest request) {
-        return get(request, ListSecurityGroupSpacesResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces"))
+        return get("listSpaces", request, ListSecurityGroupSpacesResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSecurityGroupStagingDefaultsResponse> listStagingDefaults(ListSecurityGroupStagingDefaultsRequest request) {
-        return get(request, ListSecurityGroupStagingDefaultsResponse.class, builder -> builder.pathSegment("config", "staging_security_groups"))
+        return get("listStagingDefaults", request, ListSecurityGroupStagingDefaultsResponse.class, builder -> builder.pathSegment("config", "staging_security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeRunningDefault(RemoveSecurityGroupRunningDefaultRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("config", "running_security_groups", request.getSecurityGroupId()))
+        return delete("removeRunningDefault", request, Void.class, builder -> builder.pathSegment("config", "running_security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSpace(RemoveSecurityGroupSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces", request.getSpaceId()))
+        return delete("removeSpace", request, Void.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId(), "spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeStagingDefault(RemoveSecurityGroupStagingDefaultRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("config", "staging_security_groups", request.getSecurityGroupId()))
+        return delete("removeStagingDefault", request, Void.class, builder -> builder.pathSegment("config", "staging_security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SetSecurityGroupRunningDefaultResponse> setRunningDefault(SetSecurityGroupRunningDefaultRequest request) {
-        return put(request, SetSecurityGroupRunningDefaultResponse.class, builder -> builder.pathSegment("config", "running_security_groups", request.getSecurityGroupId()))
+        return put("setRunningDefault", request, SetSecurityGroupRunningDefaultResponse.class, builder -> builder.pathSegment("config", "running_security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SetSecurityGroupStagingDefaultResponse> setStagingDefault(SetSecurityGroupStagingDefaultRequest request) {
-        return put(request, SetSecurityGroupStagingDefaultResponse.class, builder -> builder.pathSegment("config", "staging_security_groups", request.getSecurityGroupId()))
+        return put("setStagingDefault", request, SetSecurityGroupStagingDefaultResponse.class, builder -> builder.pathSegment("config", "staging_security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSecurityGroupResponse> update(UpdateSecurityGroupRequest request) {
-        return put(request, UpdateSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
+        return put("update", request, UpdateSecurityGroupResponse.class, builder -> builder.pathSegment("security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
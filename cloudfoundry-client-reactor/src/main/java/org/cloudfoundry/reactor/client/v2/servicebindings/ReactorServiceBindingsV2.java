@@ -53,31 +53,31 @@ public final class ReactorServiceBindingsV2 extends AbstractClientV2Operations i
 
     @Override
     public Mono<CreateServiceBindingResponse> create(CreateServiceBindingRequest request) {
-        return post(request, CreateServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings"))
+        return post("create", request, CreateServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteServiceBindingResponse> delete(DeleteServiceBindingRequest request) {
-        return delete(request, DeleteServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
+        return delete("delete", request, DeleteServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBindingResponse> get(GetServiceBindingRequest request) {
-        return get(request, GetServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
+        return get("get", request, GetServiceBindingResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBindingParametersResponse> getParameters(GetServiceBindingParametersRequest request) {
-        return get(request, GetServiceBindingParametersResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId(), "parameters"))
+        return get("getParameters", request, GetServiceBindingParametersResponse.class, builder -> builder.pathSegment("service_bindings", request.getServiceBindingId(), "parameters"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceBindingsResponse> list(ListServiceBindingsRequest request) {
-        return get(request, ListServiceBindingsResponse.class, builder -> builder.pathSegment("service_bindings"))
+        return get("list", request, ListServiceBindingsResponse.class, builder -> builder.pathSegment("service_bindings"))
             .checkpoint();
     }
 
@@ -52,31 +52,31 @@ public final class ReactorServiceBrokers extends AbstractClientV2Operations impl
 
     @Override
     public Mono<CreateServiceBrokerResponse> create(CreateServiceBrokerRequest request) {
-        return post(request, CreateServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers"))
+        return post("create", request, CreateServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteServiceBrokerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
+        return delete("delete", request, Void.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServiceBrokerResponse> get(GetServiceBrokerRequest request) {
-        return get(request, GetServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
+        return get("get", request, GetServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServiceBrokersResponse> list(ListServiceBrokersRequest request) {
-        return get(request, ListServiceBrokersResponse.class, builder -> builder.pathSegment("service_brokers"))
+        return get("list", request, ListServiceBrokersResponse.class, builder -> builder.pathSegment("service_brokers"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServiceBrokerResponse> update(UpdateServiceBrokerRequest request) {
-        return put(request, UpdateServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
+        return put("update", request, UpdateServiceBrokerResponse.class, builder -> builder.pathSegment("service_brokers", request.getServiceBrokerId()))
             .checkpoint();
     }
 
@@ -53,32 +53,32 @@ public final class ReactorServicePlans extends AbstractClientV2Operations implem
 
     @Override
     public Mono<DeleteServicePlanResponse> delete(DeleteServicePlanRequest request) {
-        return delete(request, DeleteServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return delete("delete", request, DeleteServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetServicePlanResponse> get(GetServicePlanRequest request) {
-        return get(request, GetServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return get("get", request, GetServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServicePlansResponse> list(ListServicePlansRequest request) {
-        return get(request, ListServicePlansResponse.class, builder -> builder.pathSegment("service_plans"))
+        return get("list", request, ListServicePlansResponse.class, builder -> builder.pathSegment("service_plans"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListServicePlanServiceInstancesResponse> listServiceInstances(ListServicePlanServiceInstancesRequest request) {
-        return get(request, ListServicePlanServiceInstancesResponse.class,
+        return get("listServiceInstances", request, ListServicePlanServiceInstancesResponse.class,
             builder -> builder.pathSegment("service_plans", request.getServicePlanId(), "service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateServicePlanResponse> update(UpdateServicePlanRequest request) {
-        return put(request, UpdateServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
+        return put("update", request, UpdateServicePlanResponse.class, builder -> builder.pathSegment("service_plans", request.getServicePlanId()))
             .checkpoint();
     }
 
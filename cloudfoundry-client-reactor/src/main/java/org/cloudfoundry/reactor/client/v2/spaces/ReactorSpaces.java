@@ -101,188 +101,188 @@ public final class ReactorSpaces extends AbstractClientV2Operations implements S
 
     @Override
     public Mono<AssociateSpaceAuditorResponse> associateAuditor(AssociateSpaceAuditorRequest request) {
-        return put(request, AssociateSpaceAuditorResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors", request.getAuditorId()))
+        return put("associateAuditor", request, AssociateSpaceAuditorResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors", request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceAuditorByUsernameResponse> associateAuditorByUsername(AssociateSpaceAuditorByUsernameRequest request) {
-        return put(request, AssociateSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+        return put("associateAuditorByUsername", request, AssociateSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceDeveloperResponse> associateDeveloper(AssociateSpaceDeveloperRequest request) {
-        return put(request, AssociateSpaceDeveloperResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers", request.getDeveloperId()))
+        return put("associateDeveloper", request, AssociateSpaceDeveloperResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers", request.getDeveloperId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceDeveloperByUsernameResponse> associateDeveloperByUsername(AssociateSpaceDeveloperByUsernameRequest request) {
-        return put(request, AssociateSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+        return put("associateDeveloperByUsername", request, AssociateSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceManagerResponse> associateManager(AssociateSpaceManagerRequest request) {
-        return put(request, AssociateSpaceManagerResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers", request.getManagerId()))
+        return put("associateManager", request, AssociateSpaceManagerResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers", request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceManagerByUsernameResponse> associateManagerByUsername(AssociateSpaceManagerByUsernameRequest request) {
-        return put(request, AssociateSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+        return put("associateManagerByUsername", request, AssociateSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateSpaceSecurityGroupResponse> associateSecurityGroup(AssociateSpaceSecurityGroupRequest request) {
-        return put(request, AssociateSpaceSecurityGroupResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()))
+        return put("associateSecurityGroup", request, AssociateSpaceSecurityGroupResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSpaceResponse> create(CreateSpaceRequest request) {
-        return post(request, CreateSpaceResponse.class, builder -> builder.pathSegment("spaces"))
+        return post("create", request, CreateSpaceResponse.class, builder -> builder.pathSegment("spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteSpaceResponse> delete(DeleteSpaceRequest request) {
-        return delete(request, DeleteSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return delete("delete", request, DeleteSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceResponse> get(GetSpaceRequest request) {
-        return get(request, GetSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return get("get", request, GetSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceSummaryResponse> getSummary(GetSpaceSummaryRequest request) {
-        return get(request, GetSpaceSummaryResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "summary"))
+        return get("getSummary", request, GetSpaceSummaryResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "summary"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpacesResponse> list(ListSpacesRequest request) {
-        return get(request, ListSpacesResponse.class, builder -> builder.pathSegment("spaces"))
+        return get("list", request, ListSpacesResponse.class, builder -> builder.pathSegment("spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceApplicationsResponse> listApplications(ListSpaceApplicationsRequest request) {
-        return get(request, ListSpaceApplicationsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "apps"))
+        return get("listApplications", request, ListSpaceApplicationsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceAuditorsResponse> listAuditors(ListSpaceAuditorsRequest request) {
-        return get(request, ListSpaceAuditorsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+        return get("listAuditors", request, ListSpaceAuditorsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceDevelopersResponse> listDevelopers(ListSpaceDevelopersRequest request) {
-        return get(request, ListSpaceDevelopersResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+        return get("listDevelopers", request, ListSpaceDevelopersResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
             .checkpoint();
     }
 
     @Override
     @SuppressWarnings("deprecation")
     public Mono<ListSpaceDomainsResponse> listDomains(ListSpaceDomainsRequest request) {
-        return get(request, ListSpaceDomainsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "domains"))
+        return get("listDomains", request, ListSpaceDomainsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceEventsResponse> listEvents(ListSpaceEventsRequest request) {
-        return get(request, ListSpaceEventsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "events"))
+        return get("listEvents", request, ListSpaceEventsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "events"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceManagersResponse> listManagers(ListSpaceManagersRequest request) {
-        return get(request, ListSpaceManagersResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+        return get("listManagers", request, ListSpaceManagersResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceRoutesResponse> listRoutes(ListSpaceRoutesRequest request) {
-        return get(request, ListSpaceRoutesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes"))
+        return get("listRoutes", request, ListSpaceRoutesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceSecurityGroupsResponse> listSecurityGroups(ListSpaceSecurityGroupsRequest request) {
-        return get(request, ListSpaceSecurityGroupsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups"))
+        return get("listSecurityGroups", request, ListSpaceSecurityGroupsResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceServiceInstancesResponse> listServiceInstances(ListSpaceServiceInstancesRequest request) {
-        return get(request, ListSpaceServiceInstancesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "service_instances"))
+        return get("listServiceInstances", request, ListSpaceServiceInstancesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceServicesResponse> listServices(ListSpaceServicesRequest request) {
-        return get(request, ListSpaceServicesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "services"))
+        return get("listServices", request, ListSpaceServicesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "services"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpaceUserRolesResponse> listUserRoles(ListSpaceUserRolesRequest request) {
-        return get(request, ListSpaceUserRolesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "user_roles"))
+        return get("listUserRoles", request, ListSpaceUserRolesResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "user_roles"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditor(RemoveSpaceAuditorRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors", request.getAuditorId()))
+        return delete("removeAuditor", request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors", request.getAuditorId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveSpaceAuditorByUsernameResponse> removeAuditorByUsername(RemoveSpaceAuditorByUsernameRequest request) {
-        return delete(request, RemoveSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
+        return delete("removeAuditorByUsername", request, RemoveSpaceAuditorByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "auditors"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeDeveloper(RemoveSpaceDeveloperRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers", request.getDeveloperId()))
+        return delete("removeDeveloper", request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers", request.getDeveloperId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveSpaceDeveloperByUsernameResponse> removeDeveloperByUsername(RemoveSpaceDeveloperByUsernameRequest request) {
-        return delete(request, RemoveSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
+        return delete("removeDeveloperByUsername", request, RemoveSpaceDeveloperByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "developers"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManager(RemoveSpaceManagerRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers", request.getManagerId()))
+        return delete("removeManager", request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers", request.getManagerId()))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveSpaceManagerByUsernameResponse> removeManagerByUsername(RemoveSpaceManagerByUsernameRequest request) {
-        return delete(request, RemoveSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
+        return delete("removeManagerByUsername", request, RemoveSpaceManagerByUsernameResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "managers"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSecurityGroup(RemoveSpaceSecurityGroupRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()))
+        return delete("removeSecurityGroup", request, Void.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "security_groups", request.getSecurityGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSpaceResponse> update(UpdateSpaceRequest request) {
-        return put(request, UpdateSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return put("update", request, UpdateSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
             .checkpoint();
     }
 
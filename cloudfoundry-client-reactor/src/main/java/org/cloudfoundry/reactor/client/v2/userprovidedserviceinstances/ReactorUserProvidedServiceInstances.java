@@ -59,58 +59,58 @@ public final class ReactorUserProvidedServiceInstances extends AbstractClientV2O
 
     @Override
     public Mono<AssociateUserProvidedServiceInstanceRouteResponse> associateRoute(AssociateUserProvidedServiceInstanceRouteRequest request) {
-        return put(request, AssociateUserProvidedServiceInstanceRouteResponse.class,
+        return put("associateRoute", request, AssociateUserProvidedServiceInstanceRouteResponse.class,
             builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateUserProvidedServiceInstanceResponse> create(CreateUserProvidedServiceInstanceRequest request) {
-        return post(request, CreateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances"))
+        return post("create", request, CreateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteUserProvidedServiceInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
+        return delete("delete", request, Void.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetUserProvidedServiceInstanceResponse> get(GetUserProvidedServiceInstanceRequest request) {
-        return get(request, GetUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
+        return get("get", request, GetUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserProvidedServiceInstancesResponse> list(ListUserProvidedServiceInstancesRequest request) {
-        return get(request, ListUserProvidedServiceInstancesResponse.class, builder -> builder.pathSegment("user_provided_service_instances"))
+        return get("list", request, ListUserProvidedServiceInstancesResponse.class, builder -> builder.pathSegment("user_provided_service_instances"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserProvidedServiceInstanceRoutesResponse> listRoutes(ListUserProvidedServiceInstanceRoutesRequest request) {
-        return get(request, ListUserProvidedServiceInstanceRoutesResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(),
+        return get("listRoutes", request, ListUserProvidedServiceInstanceRoutesResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(),
             "routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserProvidedServiceInstanceServiceBindingsResponse> listServiceBindings(ListUserProvidedServiceInstanceServiceBindingsRequest request) {
-        return get(request, ListUserProvidedServiceInstanceServiceBindingsResponse.class,
+        return get("listServiceBindings", request, ListUserProvidedServiceInstanceServiceBindingsResponse.class,
             builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "service_bindings"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeRoute(RemoveUserProvidedServiceInstanceRouteRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "routes", request.getRouteId()))
+        return delete("removeRoute", request, Void.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId(), "routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateUserProvidedServiceInstanceResponse> update(UpdateUserProvidedServiceInstanceRequest request) {
-        return put(request, UpdateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
+        return put("update", request, UpdateUserProvidedServiceInstanceResponse.class, builder -> builder.pathSegment("user_provided_service_instances", request.getUserProvidedServiceInstanceId()))
             .checkpoint();
     }
 
@@ -90,166 +90,166 @@ public final class ReactorUsers extends AbstractClientV2Operations implements Us
 
     @Override
     public Mono<AssociateUserAuditedOrganizationResponse> associateAuditedOrganization(AssociateUserAuditedOrganizationRequest request) {
-        return put(request, AssociateUserAuditedOrganizationResponse.class, builder ->
+        return put("associateAuditedOrganization", request, AssociateUserAuditedOrganizationResponse.class, builder ->
             builder.pathSegment("users", request.getUserId(), "audited_organizations", request.getAuditedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserAuditedSpaceResponse> associateAuditedSpace(AssociateUserAuditedSpaceRequest request) {
-        return put(request, AssociateUserAuditedSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces", request.getAuditedSpaceId()))
+        return put("associateAuditedSpace", request, AssociateUserAuditedSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces", request.getAuditedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserBillingManagedOrganizationResponse> associateBillingManagedOrganization(AssociateUserBillingManagedOrganizationRequest request) {
-        return put(request, AssociateUserBillingManagedOrganizationResponse.class, builder ->
+        return put("associateBillingManagedOrganization", request, AssociateUserBillingManagedOrganizationResponse.class, builder ->
             builder.pathSegment("users", request.getUserId(), "billing_managed_organizations", request.getBillingManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserManagedOrganizationResponse> associateManagedOrganization(AssociateUserManagedOrganizationRequest request) {
-        return put(request, AssociateUserManagedOrganizationResponse.class, builder ->
+        return put("associateManagedOrganization", request, AssociateUserManagedOrganizationResponse.class, builder ->
             builder.pathSegment("users", request.getUserId(), "managed_organizations", request.getManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserManagedSpaceResponse> associateManagedSpace(AssociateUserManagedSpaceRequest request) {
-        return put(request, AssociateUserManagedSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces", request.getManagedSpaceId()))
+        return put("associateManagedSpace", request, AssociateUserManagedSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces", request.getManagedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserOrganizationResponse> associateOrganization(AssociateUserOrganizationRequest request) {
-        return put(request, AssociateUserOrganizationResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations", request.getOrganizationId()))
+        return put("associateOrganization", request, AssociateUserOrganizationResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<AssociateUserSpaceResponse> associateSpace(AssociateUserSpaceRequest request) {
-        return put(request, AssociateUserSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces", request.getSpaceId()))
+        return put("associateSpace", request, AssociateUserSpaceResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateUserResponse> create(CreateUserRequest request) {
-        return post(request, CreateUserResponse.class, builder -> builder.pathSegment("users"))
+        return post("create", request, CreateUserResponse.class, builder -> builder.pathSegment("users"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteUserResponse> delete(DeleteUserRequest request) {
-        return delete(request, DeleteUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
+        return delete("delete", request, DeleteUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetUserResponse> get(GetUserRequest request) {
-        return get(request, GetUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
+        return get("get", request, GetUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUsersResponse> list(ListUsersRequest request) {
-        return get(request, ListUsersResponse.class, builder -> builder.pathSegment("users"))
+        return get("list", request, ListUsersResponse.class, builder -> builder.pathSegment("users"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserAuditedOrganizationsResponse> listAuditedOrganizations(ListUserAuditedOrganizationsRequest request) {
-        return get(request, ListUserAuditedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_organizations"))
+        return get("listAuditedOrganizations", request, ListUserAuditedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserAuditedSpacesResponse> listAuditedSpaces(ListUserAuditedSpacesRequest request) {
-        return get(request, ListUserAuditedSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces"))
+        return get("listAuditedSpaces", request, ListUserAuditedSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserBillingManagedOrganizationsResponse> listBillingManagedOrganizations(ListUserBillingManagedOrganizationsRequest request) {
-        return get(request, ListUserBillingManagedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "billing_managed_organizations"))
+        return get("listBillingManagedOrganizations", request, ListUserBillingManagedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "billing_managed_organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserManagedOrganizationsResponse> listManagedOrganizations(ListUserManagedOrganizationsRequest request) {
-        return get(request, ListUserManagedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_organizations"))
+        return get("listManagedOrganizations", request, ListUserManagedOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserManagedSpacesResponse> listManagedSpaces(ListUserManagedSpacesRequest request) {
-        return get(request, ListUserManagedSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces"))
+        return get("listManagedSpaces", request, ListUserManagedSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserOrganizationsResponse> listOrganizations(ListUserOrganizationsRequest request) {
-        return get(request, ListUserOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations"))
+        return get("listOrganizations", request, ListUserOrganizationsResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUserSpacesResponse> listSpaces(ListUserSpacesRequest request) {
-        return get(request, ListUserSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces"))
+        return get("listSpaces", request, ListUserSpacesResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditedOrganization(RemoveUserAuditedOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_organizations", request.getAuditedOrganizationId()))
+        return delete("removeAuditedOrganization", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_organizations", request.getAuditedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeAuditedSpace(RemoveUserAuditedSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces", request.getAuditedSpaceId()))
+        return delete("removeAuditedSpace", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "audited_spaces", request.getAuditedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeBillingManagedOrganization(RemoveUserBillingManagedOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "billing_managed_organizations", request.getBillingManagedOrganizationId()))
+        return delete("removeBillingManagedOrganization", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "billing_managed_organizations", request.getBillingManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManagedOrganization(RemoveUserManagedOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_organizations", request.getManagedOrganizationId()))
+        return delete("removeManagedOrganization", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_organizations", request.getManagedOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeManagedSpace(RemoveUserManagedSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces", request.getManagedSpaceId()))
+        return delete("removeManagedSpace", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "managed_spaces", request.getManagedSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeOrganization(RemoveUserOrganizationRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations", request.getOrganizationId()))
+        return delete("removeOrganization", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeSpace(RemoveUserSpaceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces", request.getSpaceId()))
+        return delete("removeSpace", request, Void.class, builder -> builder.pathSegment("users", request.getUserId(), "spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<SummaryUserResponse> summary(SummaryUserRequest request) {
-        return get(request, SummaryUserResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "summary"))
+        return get("summary", request, SummaryUserResponse.class, builder -> builder.pathSegment("users", request.getUserId(), "summary"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateUserResponse> update(UpdateUserRequest request) {
-        return put(request, UpdateUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
+        return put("update", request, UpdateUserResponse.class, builder -> builder.pathSegment("users", request.getUserId()))
             .checkpoint();
     }
 
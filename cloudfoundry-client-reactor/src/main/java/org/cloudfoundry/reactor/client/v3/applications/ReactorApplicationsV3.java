@@ -87,139 +87,139 @@ public final class ReactorApplicationsV3 extends AbstractClientV3Operations impl
 
     @Override
     public Mono<CreateApplicationResponse> create(CreateApplicationRequest request) {
-        return post(request, CreateApplicationResponse.class, builder -> builder.pathSegment("apps"))
+        return post("create", request, CreateApplicationResponse.class, builder -> builder.pathSegment("apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteApplicationRequest request) {
-        return delete(request, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return delete("delete", request, builder -> builder.pathSegment("apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationResponse> get(GetApplicationRequest request) {
-        return get(request, GetApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return get("get", request, GetApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationCurrentDropletResponse> getCurrentDroplet(GetApplicationCurrentDropletRequest request) {
-        return get(request, GetApplicationCurrentDropletResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplets", "current"))
+        return get("getCurrentDroplet", request, GetApplicationCurrentDropletResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplets", "current"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationCurrentDropletRelationshipResponse> getCurrentDropletRelationship(GetApplicationCurrentDropletRelationshipRequest request) {
-        return get(request, GetApplicationCurrentDropletRelationshipResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "relationships", "current_droplet"))
+        return get("getCurrentDropletRelationship", request, GetApplicationCurrentDropletRelationshipResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "relationships", "current_droplet"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationEnvironmentResponse> getEnvironment(GetApplicationEnvironmentRequest request) {
-        return get(request, GetApplicationEnvironmentResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
+        return get("getEnvironment", request, GetApplicationEnvironmentResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "env"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationEnvironmentVariablesResponse> getEnvironmentVariables(GetApplicationEnvironmentVariablesRequest request) {
-        return get(request, GetApplicationEnvironmentVariablesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "environment_variables"))
+        return get("getEnvironmentVariables", request, GetApplicationEnvironmentVariablesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "environment_variables"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationProcessResponse> getProcess(GetApplicationProcessRequest request) {
-        return get(request, GetApplicationProcessResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType()))
+        return get("getProcess", request, GetApplicationProcessResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetApplicationProcessStatisticsResponse> getProcessStatistics(GetApplicationProcessStatisticsRequest request) {
-        return get(request, GetApplicationProcessStatisticsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "stats"))
+        return get("getProcessStatistics", request, GetApplicationProcessStatisticsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "stats"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationsResponse> list(ListApplicationsRequest request) {
-        return get(request, ListApplicationsResponse.class, builder -> builder.pathSegment("apps"))
+        return get("list", request, ListApplicationsResponse.class, builder -> builder.pathSegment("apps"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationBuildsResponse> listBuilds(ListApplicationBuildsRequest request) {
-        return get(request, ListApplicationBuildsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "builds"))
+        return get("listBuilds", request, ListApplicationBuildsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "builds"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationDropletsResponse> listDroplets(ListApplicationDropletsRequest request) {
-        return get(request, ListApplicationDropletsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplets"))
+        return get("listDroplets", request, ListApplicationDropletsResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "droplets"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationPackagesResponse> listPackages(ListApplicationPackagesRequest request) {
-        return get(request, ListApplicationPackagesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "packages"))
+        return get("listPackages", request, ListApplicationPackagesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationProcessesResponse> listProcesses(ListApplicationProcessesRequest request) {
-        return get(request, ListApplicationProcessesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes"))
+        return get("listProcesses", request, ListApplicationProcessesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationRoutesResponse> listRoutes(ListApplicationRoutesRequest request) {
-        return get(request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes"))
+        return get("listRoutes", request, ListApplicationRoutesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListApplicationTasksResponse> listTasks(ListApplicationTasksRequest request) {
-        return get(request, ListApplicationTasksResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "tasks"))
+        return get("listTasks", request, ListApplicationTasksResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "tasks"))
             .checkpoint();
     }
 
     @Override
     public Mono<ScaleApplicationResponse> scale(ScaleApplicationRequest request) {
-        return put(request, ScaleApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "actions", "scale"))
+        return put("scale", request, ScaleApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "actions", "scale"))
             .checkpoint();
     }
 
     @Override
     public Mono<SetApplicationCurrentDropletResponse> setCurrentDroplet(SetApplicationCurrentDropletRequest request) {
-        return patch(request, SetApplicationCurrentDropletResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "relationships", "current_droplet"))
+        return patch("setCurrentDroplet", request, SetApplicationCurrentDropletResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "relationships", "current_droplet"))
             .checkpoint();
     }
 
     @Override
     public Mono<StartApplicationResponse> start(StartApplicationRequest request) {
-        return post(request, StartApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "actions", "start"))
+        return post("start", request, StartApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "actions", "start"))
             .checkpoint();
     }
 
     @Override
     public Mono<StopApplicationResponse> stop(StopApplicationRequest request) {
-        return post(request, StopApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "actions", "stop"))
+        return post("stop", request, StopApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "actions", "stop"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> terminateInstance(TerminateApplicationInstanceRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "instances", request.getIndex()))
+        return delete("terminateInstance", request, Void.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "processes", request.getType(), "instances", request.getIndex()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationResponse> update(UpdateApplicationRequest request) {
-        return patch(request, UpdateApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
+        return patch("update", request, UpdateApplicationResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateApplicationEnvironmentVariablesResponse> updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest request) {
-        return patch(request, UpdateApplicationEnvironmentVariablesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "environment_variables"))
+        return patch("updateEnvironmentVariables", request, UpdateApplicationEnvironmentVariablesResponse.class, builder -> builder.pathSegment("apps", request.getApplicationId(), "environment_variables"))
             .checkpoint();
     }
 
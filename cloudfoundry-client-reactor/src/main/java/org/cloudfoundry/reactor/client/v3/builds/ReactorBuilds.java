@@ -50,19 +50,19 @@ public final class ReactorBuilds extends AbstractClientV3Operations implements B
 
     @Override
     public Mono<CreateBuildResponse> create(CreateBuildRequest request) {
-        return post(request, CreateBuildResponse.class, builder -> builder.pathSegment("builds"))
+        return post("create", request, CreateBuildResponse.class, builder -> builder.pathSegment("builds"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetBuildResponse> get(GetBuildRequest request) {
-        return get(request, GetBuildResponse.class, builder -> builder.pathSegment("builds", request.getBuildId()))
+        return get("get", request, GetBuildResponse.class, builder -> builder.pathSegment("builds", request.getBuildId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListBuildsResponse> list(ListBuildsRequest request) {
-        return get(request, ListBuildsResponse.class, builder -> builder.pathSegment("builds"))
+        return get("list", request, ListBuildsResponse.class, builder -> builder.pathSegment("builds"))
             .checkpoint();
     }
 
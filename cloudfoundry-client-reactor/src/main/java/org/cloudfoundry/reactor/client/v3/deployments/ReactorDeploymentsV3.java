@@ -51,25 +51,25 @@ public final class ReactorDeploymentsV3 extends AbstractClientV3Operations imple
 
     @Override
     public Mono<CancelDeploymentResponse> cancel(CancelDeploymentRequest request) {
-        return post(request, CancelDeploymentResponse.class, builder -> builder.pathSegment("deployments", request.getDeploymentId(), "actions", "cancel"))
+        return post("cancel", request, CancelDeploymentResponse.class, builder -> builder.pathSegment("deployments", request.getDeploymentId(), "actions", "cancel"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateDeploymentResponse> create(CreateDeploymentRequest request) {
-        return post(request, CreateDeploymentResponse.class, builder -> builder.pathSegment("deployments"))
+        return post("create", request, CreateDeploymentResponse.class, builder -> builder.pathSegment("deployments"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetDeploymentResponse> get(GetDeploymentRequest request) {
-        return get(request, GetDeploymentResponse.class, builder -> builder.pathSegment("deployments", request.getDeploymentId()))
+        return get("get", request, GetDeploymentResponse.class, builder -> builder.pathSegment("deployments", request.getDeploymentId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListDeploymentsResponse> list(ListDeploymentsRequest request) {
-        return get(request, ListDeploymentsResponse.class, builder -> builder.pathSegment("deployments"))
+        return get("list", request, ListDeploymentsResponse.class, builder -> builder.pathSegment("deployments"))
             .checkpoint();
     }
 
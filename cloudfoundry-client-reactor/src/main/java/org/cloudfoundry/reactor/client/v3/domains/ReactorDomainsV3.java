@@ -57,49 +57,49 @@ public final class ReactorDomainsV3 extends AbstractClientV3Operations implement
 
     @Override
     public Mono<CheckReservedRoutesResponse> checkReservedRoutes(CheckReservedRoutesRequest request) {
-        return get(request, CheckReservedRoutesResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "route_reservations"))
+        return get("checkReservedRoutes", request, CheckReservedRoutesResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "route_reservations"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateDomainResponse> create(CreateDomainRequest request) {
-        return post(request, CreateDomainResponse.class, builder -> builder.pathSegment("domains"))
+        return post("create", request, CreateDomainResponse.class, builder -> builder.pathSegment("domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteDomainRequest request) {
-        return delete(request, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return delete("delete", request, builder -> builder.pathSegment("domains", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetDomainResponse> get(GetDomainRequest request) {
-        return get(request, GetDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return get("get", request, GetDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListDomainsResponse> list(ListDomainsRequest request) {
-        return get(request, ListDomainsResponse.class, builder -> builder.pathSegment("domains"))
+        return get("list", request, ListDomainsResponse.class, builder -> builder.pathSegment("domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<ShareDomainResponse> share(ShareDomainRequest request) {
-        return post(request, ShareDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "relationships", "shared_organizations"))
+        return post("share", request, ShareDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId(), "relationships", "shared_organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> unshare(UnshareDomainRequest request) {
-        return delete(request, Void.class, builder -> builder.pathSegment("domains", request.getDomainId(), "relationships", "shared_organizations", request.getOrganizationId()))
+        return delete("unshare", request, Void.class, builder -> builder.pathSegment("domains", request.getDomainId(), "relationships", "shared_organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateDomainResponse> update(UpdateDomainRequest request) {
-        return patch(request, UpdateDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
+        return patch("update", request, UpdateDomainResponse.class, builder -> builder.pathSegment("domains", request.getDomainId()))
             .checkpoint();
     }
 }
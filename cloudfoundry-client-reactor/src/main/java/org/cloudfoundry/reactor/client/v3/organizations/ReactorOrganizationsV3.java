@@ -59,53 +59,53 @@ public final class ReactorOrganizationsV3 extends AbstractClientV3Operations imp
 
     @Override
     public Mono<AssignOrganizationDefaultIsolationSegmentResponse> assignDefaultIsolationSegment(AssignOrganizationDefaultIsolationSegmentRequest request) {
-        return patch(request, AssignOrganizationDefaultIsolationSegmentResponse.class, builder ->
+        return patch("assignDefaultIsolationSegment", request, AssignOrganizationDefaultIsolationSegmentResponse.class, builder ->
             builder.pathSegment("organizations", request.getOrganizationId(), "relationships", "default_isolation_segment"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateOrganizationResponse> create(CreateOrganizationRequest request) {
-        return post(request, CreateOrganizationResponse.class, builder ->
+        return post("create", request, CreateOrganizationResponse.class, builder ->
             builder.pathSegment("organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationResponse> get(GetOrganizationRequest request) {
-        return get(request, GetOrganizationResponse.class, builder ->
+        return get("get", request, GetOrganizationResponse.class, builder ->
             builder.pathSegment("organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationDefaultDomainResponse> getDefaultDomain(GetOrganizationDefaultDomainRequest request) {
-        return get(request, GetOrganizationDefaultDomainResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains", "default"))
+        return get("getDefaultDomain", request, GetOrganizationDefaultDomainResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains", "default"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetOrganizationDefaultIsolationSegmentResponse> getDefaultIsolationSegment(GetOrganizationDefaultIsolationSegmentRequest request) {
-        return get(request, GetOrganizationDefaultIsolationSegmentResponse.class, builder ->
+        return get("getDefaultIsolationSegment", request, GetOrganizationDefaultIsolationSegmentResponse.class, builder ->
             builder.pathSegment("organizations", request.getOrganizationId(), "relationships", "default_isolation_segment"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationsResponse> list(ListOrganizationsRequest request) {
-        return get(request, ListOrganizationsResponse.class, builder -> builder.pathSegment("organizations"))
+        return get("list", request, ListOrganizationsResponse.class, builder -> builder.pathSegment("organizations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListOrganizationDomainsResponse> listDomains(ListOrganizationDomainsRequest request) {
-        return get(request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains"))
+        return get("listDomains", request, ListOrganizationDomainsResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId(), "domains"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateOrganizationResponse> update(UpdateOrganizationRequest request) {
-        return patch(request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
+        return patch("update", request, UpdateOrganizationResponse.class, builder -> builder.pathSegment("organizations", request.getOrganizationId()))
             .checkpoint();
     }
 
@@ -33,16 +33,15 @@ import org.cloudfoundry.client.v3.packages.UploadPackageRequest;
 import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.reactor.client.ChecksumVerifier;
 import org.cloudfoundry.reactor.client.v3.AbstractClientV3Operations;
 import org.cloudfoundry.reactor.util.MultipartHttpClientRequest;
 import org.cloudfoundry.util.FileUtils;
-import reactor.core.Exceptions;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ByteBufFlux;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -65,78 +64,72 @@ public final class ReactorPackages extends AbstractClientV3Operations implements
 
     @Override
     public Mono<CopyPackageResponse> copy(CopyPackageRequest request) {
-        return post(request, CopyPackageResponse.class, builder -> builder.pathSegment("packages"))
+        return post("copy", request, CopyPackageResponse.class, builder -> builder.pathSegment("packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreatePackageResponse> create(CreatePackageRequest request) {
-        return post(request, CreatePackageResponse.class, builder -> builder.pathSegment("packages"))
+        return post("create", request, CreatePackageResponse.class, builder -> builder.pathSegment("packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeletePackageRequest request) {
-        return delete(request, builder -> builder.pathSegment("packages", request.getPackageId()))
+        return delete("delete", request, builder -> builder.pathSegment("packages", request.getPackageId()))
             .checkpoint();
     }
 
     @Override
     public Flux<byte[]> download(DownloadPackageRequest request) {
-        return get(request, builder -> builder.pathSegment("packages", request.getPackageId(), "download"), ByteBufFlux::asByteArray)
+        return get("download", request, builder -> builder.pathSegment("packages", request.getPackageId(), "download"), ByteBufFlux::asByteArray)
+            .checkpoint();
+    }
+
+    @Override
+    public Mono<Void> download(DownloadPackageRequest request, Path target) {
+        return download("download", request, builder -> builder.pathSegment("packages", request.getPackageId(), "download"), target)
+            .then(ChecksumVerifier.verify(target, request.getChecksum()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetPackageResponse> get(GetPackageRequest request) {
-        return get(request, GetPackageResponse.class, builder -> builder.pathSegment("packages", request.getPackageId()))
+        return get("get", request, GetPackageResponse.class, builder -> builder.pathSegment("packages", request.getPackageId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListPackagesResponse> list(ListPackagesRequest request) {
-        return get(request, ListPackagesResponse.class, builder -> builder.pathSegment("packages"))
+        return get("list", request, ListPackagesResponse.class, builder -> builder.pathSegment("packages"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListPackageDropletsResponse> listDroplets(ListPackageDropletsRequest request) {
-        return get(request, ListPackageDropletsResponse.class, builder -> builder.pathSegment("packages", request.getPackageId(), "droplets"))
+        return get("listDroplets", request, ListPackageDropletsResponse.class, builder -> builder.pathSegment("packages", request.getPackageId(), "droplets"))
             .checkpoint();
     }
 
     @Override
     public Mono<UploadPackageResponse> upload(UploadPackageRequest request) {
-        Path bits = request.getBits();
-
-        if (bits.toFile().isDirectory()) {
-            return FileUtils.compress(bits)
-                .map(temporaryFile -> UploadPackageRequest.builder()
-                    .from(request)
-                    .bits(temporaryFile)
-                    .build())
-                .flatMap(requestWithTemporaryFile -> upload(requestWithTemporaryFile, () -> {
-                    try {
-                        Files.delete(requestWithTemporaryFile.getBits());
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(e);
-                    }
-                }));
-        } else {
-            return upload(request, () -> {
-            });
-        }
-    }
-
-    private Mono<UploadPackageResponse> upload(UploadPackageRequest request, Runnable onTerminate) {
-        return post(request, UploadPackageResponse.class, builder -> builder.pathSegment("packages", request.getPackageId(), "upload"), outbound -> upload(request.getBits(), outbound), onTerminate)
+        return post("upload", request, UploadPackageResponse.class, builder -> builder.pathSegment("packages", request.getPackageId(), "upload"),
+            multipartRequest -> upload(request.getBits(), multipartRequest))
             .checkpoint();
     }
 
-    private void upload(Path bits, MultipartHttpClientRequest r) {
-        r.addPart(part -> part.setName("bits")
-            .setContentType(APPLICATION_ZIP)
-            .sendFile(bits))
+    private Publisher<Void> upload(Path bits, MultipartHttpClientRequest multipartRequest) {
+        return multipartRequest.addPart(part -> {
+            part.setName("bits")
+                .setContentType(APPLICATION_ZIP);
+
+            if (bits.toFile().isDirectory()) {
+                part.setFilename(bits.getFileName() + ".zip")
+                    .sendWriter(out -> FileUtils.compress(bits, path -> true, out));
+            } else {
+                part.sendFile(bits);
+            }
+        })
             .done();
     }
 
@@ -43,55 +43,55 @@ public class ReactorRoutesV3 extends AbstractClientV3Operations implements Route
 
     @Override
     public Mono<CreateRouteResponse> create(CreateRouteRequest request) {
-        return post(request, CreateRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes"))
+        return post("create", request, CreateRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteRouteRequest request) {
-        return delete(request, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+        return delete("delete", request, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetRouteResponse> get(GetRouteRequest request) {
-        return get(request, GetRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+        return get("get", request, GetRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
             .checkpoint();
     }
 
     @Override
     public Mono<InsertRouteDestinationsResponse> insertDestinations(InsertRouteDestinationsRequest request) {
-        return post(request, InsertRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
+        return post("insertDestinations", request, InsertRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRoutesResponse> list(ListRoutesRequest request) {
-        return get(request, ListRoutesResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes"))
+        return get("list", request, ListRoutesResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListRouteDestinationsResponse> listDestinations(ListRouteDestinationsRequest request) {
-        return get(request, ListRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
+        return get("listDestinations", request, ListRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> removeDestinations(RemoveRouteDestinationsRequest request) {
-        return delete(request, Void.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations", request.getDestinationId()))
+        return delete("removeDestinations", request, Void.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations", request.getDestinationId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ReplaceRouteDestinationsResponse> replaceDestinations(ReplaceRouteDestinationsRequest request) {
-        return patch(request, ReplaceRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
+        return patch("replaceDestinations", request, ReplaceRouteDestinationsResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId(), "destinations"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateRouteResponse> update(UpdateRouteRequest request) {
-        return patch(request, UpdateRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
+        return patch("update", request, UpdateRouteResponse.class, uriComponentsBuilder -> uriComponentsBuilder.pathSegment("routes", request.getRouteId()))
             .checkpoint();
     }
 
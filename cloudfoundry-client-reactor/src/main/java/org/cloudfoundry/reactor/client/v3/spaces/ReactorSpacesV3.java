@@ -57,49 +57,49 @@ public final class ReactorSpacesV3 extends AbstractClientV3Operations implements
 
     @Override
     public Mono<AssignSpaceIsolationSegmentResponse> assignIsolationSegment(AssignSpaceIsolationSegmentRequest request) {
-        return patch(request, AssignSpaceIsolationSegmentResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "relationships", "isolation_segment"))
+        return patch("assignIsolationSegment", request, AssignSpaceIsolationSegmentResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "relationships", "isolation_segment"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateSpaceResponse> create(CreateSpaceRequest request) {
-        return post(request, CreateSpaceResponse.class, builder -> builder.pathSegment("spaces"))
+        return post("create", request, CreateSpaceResponse.class, builder -> builder.pathSegment("spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> delete(DeleteSpaceRequest request) {
-        return delete(request, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return delete("delete", request, builder -> builder.pathSegment("spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<String> deleteUnmappedRoutes(DeleteUnmappedRoutesRequest request) {
-        return delete(request, builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes").query("unmapped=true"))
+        return delete("deleteUnmappedRoutes", request, builder -> builder.pathSegment("spaces", request.getSpaceId(), "routes").query("unmapped=true"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceResponse> get(GetSpaceRequest request) {
-        return get(request, GetSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return get("get", request, GetSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetSpaceIsolationSegmentResponse> getIsolationSegment(GetSpaceIsolationSegmentRequest request) {
-        return get(request, GetSpaceIsolationSegmentResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "relationships", "isolation_segment"))
+        return get("getIsolationSegment", request, GetSpaceIsolationSegmentResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId(), "relationships", "isolation_segment"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListSpacesResponse> list(ListSpacesRequest request) {
-        return get(request, ListSpacesResponse.class, builder -> builder.pathSegment("spaces"))
+        return get("list", request, ListSpacesResponse.class, builder -> builder.pathSegment("spaces"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateSpaceResponse> update(UpdateSpaceRequest request) {
-        return patch(request, UpdateSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
+        return patch("update", request, UpdateSpaceResponse.class, builder -> builder.pathSegment("spaces", request.getSpaceId()))
             .checkpoint();
     }
 
@@ -36,17 +36,17 @@ abstract class AbstractDopplerOperations extends AbstractReactorOperations {
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
-    final <T> Flux<T> get(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpClientResponse, ChannelHandler> channelHandlerBuilder,
+    final <T> Flux<T> get(String operation, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Function<HttpClientResponse, ChannelHandler> channelHandlerBuilder,
                           Function<ByteBufFlux, Flux<T>> bodyTransformer) {
-        return createOperator().flatMapMany(operator -> operator.get()
+        return createOperator(operation).flatMapMany(operator -> operator.get()
             .uri(uriTransformer)
             .response()
             .addChannelHandler(channelHandlerBuilder)
             .parseBodyToFlux(responseWithBody -> bodyTransformer.apply(responseWithBody.getBody())));
     }
 
-    final Flux<InputStream> ws(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator().flatMapMany(operator -> operator.websocket()
+    final Flux<InputStream> ws(String operation, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation).flatMapMany(operator -> operator.websocket()
             .uri(uriTransformer)
             .get());
     }
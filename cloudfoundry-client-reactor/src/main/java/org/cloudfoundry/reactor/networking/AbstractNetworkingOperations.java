@@ -35,24 +35,24 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
-    protected final <T> Mono<T> get(Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> get(String operation, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.get()
                 .uri(uriTransformer)
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> get(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> get(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> post(String operation, Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.post()
                 .uri(uriTransformer)
                 .send(request)
@@ -60,8 +60,8 @@ public abstract class AbstractNetworkingOperations extends AbstractReactorOperat
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> put(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.put()
                 .uri(uriTransformer)
                 .send(requestPayload)
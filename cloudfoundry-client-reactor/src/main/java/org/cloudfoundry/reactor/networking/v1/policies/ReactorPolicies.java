@@ -47,21 +47,21 @@ public class ReactorPolicies extends AbstractNetworkingOperations implements Pol
 
     @Override
     public Mono<Void> create(CreatePoliciesRequest request) {
-        return post(request, Object.class, builder -> builder.pathSegment("policies"))
+        return post("create", request, Object.class, builder -> builder.pathSegment("policies"))
             .then()
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeletePoliciesRequest request) {
-        return post(request, Object.class, builder -> builder.pathSegment("policies", "delete"))
+        return post("delete", request, Object.class, builder -> builder.pathSegment("policies", "delete"))
             .then()
             .checkpoint();
     }
 
     @Override
     public Mono<ListPoliciesResponse> list(ListPoliciesRequest request) {
-        return get(request, ListPoliciesResponse.class, builder -> builder.pathSegment("policies"))
+        return get("list", request, ListPoliciesResponse.class, builder -> builder.pathSegment("policies"))
             .checkpoint();
     }
 
@@ -45,7 +45,7 @@ public class ReactorTags extends AbstractNetworkingOperations implements Tags {
 
     @Override
     public Mono<ListTagsResponse> list(ListTagsRequest request) {
-        return get(ListTagsResponse.class, builder -> builder.pathSegment("tags"))
+        return get("list", ListTagsResponse.class, builder -> builder.pathSegment("tags"))
             .checkpoint();
     }
 }
@@ -35,17 +35,17 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
         super(connectionContext, root, tokenProvider, requestTags);
     }
 
-    protected final <T> Mono<T> get(Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> get(String operation, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.get()
                 .uri(uriTransformer)
                 .response()
                 .parseBody(responseType));
     }
 
-    protected final <T> Flux<T> get(Function<HttpClientResponse, ChannelHandler> handlerBuilder, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
+    protected final <T> Flux<T> get(String operation, Function<HttpClientResponse, ChannelHandler> handlerBuilder, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer,
                                     Function<ByteBufFlux, Flux<T>> bodyTransformer) {
-        return createOperator()
+        return createOperator(operation)
             .flatMapMany(operator -> operator.get()
                 .uri(uriTransformer)
                 .response()
@@ -53,8 +53,8 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
                 .parseBodyToFlux(responseWithBody -> bodyTransformer.apply(responseWithBody.getBody())));
     }
 
-    protected final <T> Mono<T> post(Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> post(String operation, Object request, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.post()
                 .uri(uriTransformer)
                 .send(request)
@@ -62,8 +62,8 @@ public abstract class AbstractRoutingV1Operations extends AbstractReactorOperati
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> put(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.put()
                 .uri(uriTransformer)
                 .send(requestPayload)
@@ -47,13 +47,13 @@ public class ReactorRouterGroups extends AbstractRoutingV1Operations implements
 
     @Override
     public Mono<ListRouterGroupsResponse> list(ListRouterGroupsRequest request) {
-        return get(ListRouterGroupsResponse.class, builder -> builder.pathSegment("v1", "router_groups"))
+        return get("list", ListRouterGroupsResponse.class, builder -> builder.pathSegment("v1", "router_groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateRouterGroupResponse> update(UpdateRouterGroupRequest request) {
-        return put(request, UpdateRouterGroupResponse.class, builder -> builder.pathSegment("v1", "router_groups", request.getRouterGroupId()))
+        return put("update", request, UpdateRouterGroupResponse.class, builder -> builder.pathSegment("v1", "router_groups", request.getRouterGroupId()))
             .checkpoint();
     }
 
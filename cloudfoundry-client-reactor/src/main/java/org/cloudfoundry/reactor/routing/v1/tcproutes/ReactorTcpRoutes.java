@@ -54,19 +54,19 @@ public class ReactorTcpRoutes extends AbstractRoutingV1Operations implements Tcp
 
     @Override
     public Mono<CreateTcpRoutesResponse> create(CreateTcpRoutesRequest request) {
-        return post(request, CreateTcpRoutesResponse.class, builder -> builder.pathSegment("v1", "tcp_routes", "create"))
+        return post("create", request, CreateTcpRoutesResponse.class, builder -> builder.pathSegment("v1", "tcp_routes", "create"))
             .checkpoint();
     }
 
     @Override
     public Mono<Void> delete(DeleteTcpRoutesRequest request) {
-        return post(request, Void.class, builder -> builder.pathSegment("v1", "tcp_routes", "delete"))
+        return post("delete", request, Void.class, builder -> builder.pathSegment("v1", "tcp_routes", "delete"))
             .checkpoint();
     }
 
     @Override
     public Flux<TcpRouteEvent> events(EventsRequest request) {
-        return get(EventStreamCodec::createDecoder, builder -> builder.pathSegment("v1", "tcp_routes", "events"), EventStreamCodec::decode)
+        return get("events", EventStreamCodec::createDecoder, builder -> builder.pathSegment("v1", "tcp_routes", "events"), EventStreamCodec::decode)
             .map(event -> {
                 try {
                     return this.connectionContext.getObjectMapper()
@@ -82,7 +82,7 @@ public class ReactorTcpRoutes extends AbstractRoutingV1Operations implements Tcp
 
     @Override
     public Mono<ListTcpRoutesResponse> list(ListTcpRoutesRequest request) {
-        return get(ListTcpRoutesResponse.class, builder -> builder.pathSegment("v1", "tcp_routes"))
+        return get("list", ListTcpRoutesResponse.class, builder -> builder.pathSegment("v1", "tcp_routes"))
             .checkpoint();
     }
 
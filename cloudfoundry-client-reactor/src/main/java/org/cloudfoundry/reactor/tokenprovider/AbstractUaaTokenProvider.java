@@ -183,7 +183,7 @@ public abstract class AbstractUaaTokenProvider implements TokenProvider {
     }
 
     private Operator createOperator(ConnectionContext connectionContext, String root) {
-        OperatorContext context = OperatorContext.of(connectionContext, root);
+        OperatorContext context = OperatorContext.of(connectionContext, root).withOperation("tokenProvider.getToken").withResourceType("tokenProvider");
         return new Operator(context, connectionContext.getHttpClient()).withErrorPayloadMapper(ErrorPayloadMappers.uaa(connectionContext.getObjectMapper()));
     }
 
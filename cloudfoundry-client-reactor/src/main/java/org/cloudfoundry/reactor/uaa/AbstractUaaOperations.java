@@ -41,12 +41,12 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
     }
 
     @Override
-    protected Mono<Operator> createOperator() {
-        return super.createOperator().map(this::attachErrorPayloadMapper);
+    protected Mono<Operator> createOperator(String operation) {
+        return super.createOperator(operation).map(this::attachErrorPayloadMapper);
     }
 
-    protected final <T> Mono<T> delete(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> delete(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload))
                 .delete()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -55,8 +55,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final Mono<HttpClientResponse> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final Mono<HttpClientResponse> get(String operation, Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload))
                 .get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -64,8 +64,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .get());
     }
 
-    protected final Mono<HttpClientResponse> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer) {
-        return createOperator()
+    protected final Mono<HttpClientResponse> get(String operation, Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload, headersTransformer))
                 .get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -73,9 +73,9 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .get());
     }
 
-    protected final Mono<HttpClientResponse> get(Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer,
+    protected final Mono<HttpClientResponse> get(String operation, Object requestPayload, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer,
                                                  Function<HttpHeaders, Mono<? extends HttpHeaders>> headersWhenTransformer) {
-        return createOperator()
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload, headersTransformer)).headersWhen(headersWhenTransformer)
                 .get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -83,8 +83,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .get());
     }
 
-    protected final <T> Mono<T> get(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> get(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload))
                 .get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -92,8 +92,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> get(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> get(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload, headersTransformer))
                 .get()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -101,8 +101,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> patch(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> patch(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload))
                 .patch()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -111,8 +111,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> post(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload, headersTransformer))
                 .post()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -121,9 +121,9 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer,
+    protected final <T> Mono<T> post(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer, Consumer<HttpHeaders> headersTransformer,
                                      Function<HttpHeaders, Mono<? extends HttpHeaders>> headersWhenTransformer) {
-        return createOperator()
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload, headersTransformer)).headersWhen(headersWhenTransformer)
                 .post()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -132,8 +132,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> post(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> post(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload))
                 .post()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
@@ -142,8 +142,8 @@ public abstract class AbstractUaaOperations extends AbstractReactorOperations {
                 .parseBody(responseType));
     }
 
-    protected final <T> Mono<T> put(Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
-        return createOperator()
+    protected final <T> Mono<T> put(String operation, Object requestPayload, Class<T> responseType, Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
+        return createOperator(operation)
             .flatMap(operator -> operator.headers(headers -> addHeaders(headers, requestPayload))
                 .put()
                 .uri(queryTransformer(requestPayload).andThen(uriTransformer))
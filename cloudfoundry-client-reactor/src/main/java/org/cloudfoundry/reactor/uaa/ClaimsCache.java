@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.uaa;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A bounded cache of verified token claims, keyed by the encoded token.  Entries are evicted once the token they were parsed from has
+ * expired, so that an expired token is always parsed and rejected again.
+ */
+final class ClaimsCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private final ConcurrentMap<String, Claims> claims = new ConcurrentHashMap<>();
+
+    private final int maximumSize;
+
+    ClaimsCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    ClaimsCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cached claims for a token
+     *
+     * @param token the encoded token
+     * @return the claims, or empty if the token has not been cached or has expired
+     */
+    Optional<Claims> get(String token) {
+        Claims claims = this.claims.get(token);
+        if (claims == null) {
+            return Optional.empty();
+        }
+
+        if (isExpired(claims, System.currentTimeMillis())) {
+            this.claims.remove(token, claims);
+            return Optional.empty();
+        }
+
+        return Optional.of(claims);
+    }
+
+    /**
+     * Caches the verified claims for a token
+     *
+     * @param token  the encoded token
+     * @param claims the verified claims of the token
+     */
+    void put(String token, Claims claims) {
+        this.claims.put(token, claims);
+
+        if (this.claims.size() > this.maximumSize) {
+            evict();
+        }
+    }
+
+    private static long getExpiration(Claims claims) {
+        return Optional.ofNullable(claims.getExpiration())
+            .map(Date::getTime)
+            .orElse(Long.MAX_VALUE);
+    }
+
+    private static boolean isExpired(Claims claims, long now) {
+        return getExpiration(claims) <= now;
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        this.claims.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+
+        while (this.claims.size() > this.maximumSize) {
+            this.claims.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> getExpiration(entry.getValue())))
+                .map(Map.Entry::getKey)
+                .ifPresent(this.claims::remove);
+        }
+    }
+
+}
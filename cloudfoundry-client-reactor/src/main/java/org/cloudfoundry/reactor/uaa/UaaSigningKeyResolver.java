@@ -16,15 +16,13 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwsHeader;
-import io.jsonwebtoken.SigningKeyResolver;
 import io.jsonwebtoken.impl.Base64Codec;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
 import org.cloudfoundry.uaa.tokens.TokenKey;
 import org.cloudfoundry.uaa.tokens.Tokens;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 
 import java.security.Key;
 import java.security.KeyFactory;
@@ -32,37 +30,78 @@ import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
 import java.time.Duration;
-import java.util.HashMap;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Map;
-
-final class UaaSigningKeyResolver implements SigningKeyResolver {
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves the UAA signing keys used to verify tokens.  Known keys are read from an immutable snapshot without locking.  A request for an
+ * unknown key id triggers a single, shared refresh of the key set, and key ids that are still unknown after a refresh are remembered for a
+ * period so that tokens signed with them do not cause repeated refreshes.  At most 64 unknown key ids are remembered, those closest to
+ * expiring being forgotten first.
+ */
+final class UaaSigningKeyResolver {
 
     private static final Base64Codec BASE64 = new Base64Codec();
 
     private static final String BEGIN = "-----BEGIN PUBLIC KEY-----";
 
+    private static final int DEFAULT_MAXIMUM_UNKNOWN_KEY_IDS = 64;
+
     private static final String END = "-----END PUBLIC KEY-----";
 
-    private final Object monitor = new Object();
+    private static final Duration NEGATIVE_CACHE_DURATION = Duration.ofSeconds(30);
+
+    private final int maximumUnknownKeyIds;
 
-    private final Map<String, Key> signingKeys = new HashMap<>();
+    private final AtomicReference<Mono<Map<String, Key>>> refresh = new AtomicReference<>();
 
     private final Tokens tokens;
 
+    private final ConcurrentMap<String, Instant> unknownKeyIds = new ConcurrentHashMap<>();
+
+    private volatile Map<String, Key> signingKeys = Collections.emptyMap();
+
     UaaSigningKeyResolver(Tokens tokens) {
-        this.tokens = tokens;
+        this(tokens, DEFAULT_MAXIMUM_UNKNOWN_KEY_IDS);
     }
 
-    @Override
-    @SuppressWarnings("rawtypes")
-    public Key resolveSigningKey(JwsHeader header, Claims claims) {
-        return getKey(header.getKeyId());
+    UaaSigningKeyResolver(Tokens tokens, int maximumUnknownKeyIds) {
+        this.maximumUnknownKeyIds = maximumUnknownKeyIds;
+        this.tokens = tokens;
     }
 
-    @Override
-    @SuppressWarnings("rawtypes")
-    public Key resolveSigningKey(JwsHeader header, String plaintext) {
-        return getKey(header.getKeyId());
+    /**
+     * Resolve the signing key for a key id
+     *
+     * @param keyId the id of the signing key
+     * @return the signing key, or an {@link IllegalStateException} if the key cannot be found
+     */
+    Mono<Key> resolveSigningKey(String keyId) {
+        return Mono.defer(() -> {
+            Key key = this.signingKeys.get(keyId);
+            if (key != null) {
+                return Mono.just(key);
+            }
+
+            if (isKnownUnknown(keyId)) {
+                return Mono.error(unableToRetrieve(keyId));
+            }
+
+            return refreshKeys()
+                .flatMap(signingKeys -> {
+                    Key refreshed = signingKeys.get(keyId);
+                    if (refreshed != null) {
+                        return Mono.just(refreshed);
+                    }
+
+                    putUnknownKeyId(keyId);
+                    return Mono.error(unableToRetrieve(keyId));
+                });
+        });
     }
 
     private static byte[] decode(TokenKey tokenKey) {
@@ -79,32 +118,62 @@ final class UaaSigningKeyResolver implements SigningKeyResolver {
         }
     }
 
-    private Key getKey(String keyId) {
-        synchronized (this.monitor) {
-            Key key = this.signingKeys.get(keyId);
-            if (key != null) {
-                return key;
-            }
+    private static IllegalStateException unableToRetrieve(String keyId) {
+        return new IllegalStateException(String.format("Unable to retrieve signing key %s", keyId));
+    }
 
-            refreshKeys();
+    private boolean isKnownUnknown(String keyId) {
+        Instant expiration = this.unknownKeyIds.get(keyId);
+        if (expiration == null) {
+            return false;
+        }
 
-            key = this.signingKeys.get(keyId);
-            if (key != null) {
-                return key;
-            }
+        if (Instant.now().isBefore(expiration)) {
+            return true;
+        }
+
+        this.unknownKeyIds.remove(keyId, expiration);
+        return false;
+    }
 
-            throw new IllegalStateException(String.format("Unable to retrieve signing key %s", keyId));
+    private void putUnknownKeyId(String keyId) {
+        Instant now = Instant.now();
+        this.unknownKeyIds.put(keyId, now.plus(NEGATIVE_CACHE_DURATION));
+
+        if (this.unknownKeyIds.size() > this.maximumUnknownKeyIds) {
+            this.unknownKeyIds.entrySet().removeIf(entry -> !now.isBefore(entry.getValue()));
+
+            while (this.unknownKeyIds.size() > this.maximumUnknownKeyIds) {
+                this.unknownKeyIds.entrySet().stream()
+                    .filter(entry -> !keyId.equals(entry.getKey()))
+                    .min(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .ifPresent(this.unknownKeyIds::remove);
+            }
         }
     }
 
-    private void refreshKeys() {
-        this.signingKeys.clear();
-        this.signingKeys.putAll(this.tokens
+    private Mono<Map<String, Key>> refreshKeys() {
+        Mono<Map<String, Key>> candidate = Mono.defer(() -> this.tokens
             .listKeys(ListTokenKeysRequest.builder()
-                .build())
+                .build()))
             .flatMapIterable(ListTokenKeysResponse::getKeys)
             .collectMap(TokenKey::getId, UaaSigningKeyResolver::generateKey)
-            .block(Duration.ofMinutes(5)));
+            .map(Collections::unmodifiableMap)
+            .doOnNext(signingKeys -> this.signingKeys = signingKeys)
+            .cache();
+
+        while (true) {
+            Mono<Map<String, Key>> inFlight = this.refresh.get();
+            if (inFlight != null) {
+                return inFlight;
+            }
+
+            if (this.refresh.compareAndSet(null, candidate)) {
+                return candidate
+                    .doFinally(signalType -> this.refresh.compareAndSet(candidate, null));
+            }
+        }
     }
 
 }
@@ -16,25 +16,29 @@
 
 package org.cloudfoundry.reactor.uaa;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.impl.TextCodec;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.cloudfoundry.uaa.tokens.Tokens;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.security.Key;
 import java.util.Optional;
 
 final class UsernameProvider {
 
+    private final ClaimsCache claimsCache = new ClaimsCache();
+
     private final ConnectionContext connectionContext;
 
-    private final SigningKeyResolver signingKeyResolver;
+    private final UaaSigningKeyResolver signingKeyResolver;
 
     private final TokenProvider tokenProvider;
 
@@ -42,7 +46,7 @@ final class UsernameProvider {
         this(connectionContext, new UaaSigningKeyResolver(tokens), tokenProvider);
     }
 
-    UsernameProvider(ConnectionContext connectionContext, SigningKeyResolver signingKeyResolver, TokenProvider tokenProvider) {
+    UsernameProvider(ConnectionContext connectionContext, UaaSigningKeyResolver signingKeyResolver, TokenProvider tokenProvider) {
         this.connectionContext = connectionContext;
         this.tokenProvider = tokenProvider;
         this.signingKeyResolver = signingKeyResolver;
@@ -50,8 +54,8 @@ final class UsernameProvider {
 
     Mono<String> get() {
         return getToken(this.connectionContext, this.tokenProvider)
-            .map(this::getUsername)
-            .subscribeOn(Schedulers.elastic())
+            .flatMap(this::getClaims)
+            .map(UsernameProvider::getUsername)
             .retryWhen(Retry.max(1).filter(ExpiredJwtException.class::isInstance)
                 .doAfterRetry(r -> this.tokenProvider.invalidate(this.connectionContext)));
     }
@@ -62,14 +66,38 @@ final class UsernameProvider {
             .map(s -> s.split(" ")[1]);
     }
 
-    private String getUsername(String token) {
-        Jws<Claims> jws = Jwts.parser()
-            .setSigningKeyResolver(this.signingKeyResolver)
-            .parseClaimsJws(token);
-
+    private static String getUsername(Claims claims) {
         return Optional
-            .ofNullable(jws.getBody().get("user_name", String.class))
+            .ofNullable(claims.get("user_name", String.class))
             .orElseThrow(() -> new IllegalStateException("Unable to retrieve username from token"));
     }
 
+    private static Claims parseClaims(Key key, String token) {
+        return Jwts.parser()
+            .setSigningKey(key)
+            .parseClaimsJws(token)
+            .getBody();
+    }
+
+    private Mono<Claims> getClaims(String token) {
+        return this.claimsCache.get(token)
+            .map(Mono::just)
+            .orElseGet(() -> this.signingKeyResolver.resolveSigningKey(getKeyId(token))
+                .map(key -> parseClaims(key, token))
+                .doOnNext(claims -> this.claimsCache.put(token, claims)));
+    }
+
+    private String getKeyId(String token) {
+        try {
+            JsonNode header = this.connectionContext.getObjectMapper().readTree(TextCodec.BASE64URL.decodeToString(token.substring(0, token.indexOf('.'))));
+
+            return Optional
+                .ofNullable(header.get("kid"))
+                .map(JsonNode::asText)
+                .orElseThrow(() -> new IllegalStateException("Unable to retrieve signing key id from token"));
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
 }
@@ -62,7 +62,7 @@ public final class ReactorAuthorizations extends AbstractUaaOperations implement
 
     @Override
     public Mono<String> authorizationCodeGrantApi(AuthorizeByAuthorizationCodeGrantApiRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE))
+        return get("authorizationCodeGrantApi", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE))
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
             .flatMap(location -> {
                 String candidate = UriComponentsBuilder.fromUriString(location).build().getQueryParams().getFirst("code");
@@ -76,7 +76,7 @@ public final class ReactorAuthorizations extends AbstractUaaOperations implement
 
     @Override
     public Mono<String> authorizationCodeGrantBrowser(AuthorizeByAuthorizationCodeGrantBrowserRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE),
+        return get("authorizationCodeGrantBrowser", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE),
             outbound -> {},
             ReactorAuthorizations::removeAuthorization)
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
@@ -85,7 +85,7 @@ public final class ReactorAuthorizations extends AbstractUaaOperations implement
 
     @Override
     public Mono<String> authorizationCodeGrantHybrid(AuthorizeByAuthorizationCodeGrantHybridRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE_AND_ID_TOKEN),
+        return get("authorizationCodeGrantHybrid", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE_AND_ID_TOKEN),
             outbound -> {},
             ReactorAuthorizations::removeAuthorization)
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
@@ -94,13 +94,13 @@ public final class ReactorAuthorizations extends AbstractUaaOperations implement
 
     @Override
     public Mono<GetOpenIdProviderConfigurationResponse> getOpenIdProviderConfiguration(GetOpenIdProviderConfigurationRequest request) {
-        return get(request, GetOpenIdProviderConfigurationResponse.class, builder -> builder.pathSegment(".well-known", "openid-configuration"))
+        return get("getOpenIdProviderConfiguration", request, GetOpenIdProviderConfigurationResponse.class, builder -> builder.pathSegment(".well-known", "openid-configuration"))
             .checkpoint();
     }
 
     @Override
     public Mono<String> implicitGrantBrowser(AuthorizeByImplicitGrantBrowserRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.TOKEN),
+        return get("implicitGrantBrowser", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.TOKEN),
             outbound -> {},
             ReactorAuthorizations::removeAuthorization)
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
@@ -109,7 +109,7 @@ public final class ReactorAuthorizations extends AbstractUaaOperations implement
 
     @Override
     public Mono<String> openIdWithAuthorizationCodeAndIdToken(AuthorizeByOpenIdWithAuthorizationCodeGrantRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE_AND_ID_TOKEN),
+        return get("openIdWithAuthorizationCodeAndIdToken", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.CODE_AND_ID_TOKEN),
             outbound -> {},
             ReactorAuthorizations::removeAuthorization)
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
@@ -118,14 +118,14 @@ public final class ReactorAuthorizations extends AbstractUaaOperations implement
 
     @Override
     public Mono<String> openIdWithIdToken(AuthorizeByOpenIdWithIdTokenRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.ID_TOKEN))
+        return get("openIdWithIdToken", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.ID_TOKEN))
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
             .checkpoint();
     }
 
     @Override
     public Mono<String> openIdWithTokenAndIdToken(AuthorizeByOpenIdWithImplicitGrantRequest request) {
-        return get(request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.TOKEN_AND_ID_TOKEN))
+        return get("openIdWithTokenAndIdToken", request, builder -> builder.pathSegment("oauth", "authorize").queryParam("response_type", ResponseType.TOKEN_AND_ID_TOKEN))
             .map(inbound -> inbound.responseHeaders().get(LOCATION))
             .checkpoint();
     }
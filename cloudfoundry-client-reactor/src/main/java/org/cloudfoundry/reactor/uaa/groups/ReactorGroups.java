@@ -69,67 +69,67 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
 
     @Override
     public Mono<AddMemberResponse> addMember(AddMemberRequest request) {
-        return post(request, AddMemberResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members"))
+        return post("addMember", request, AddMemberResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members"))
             .checkpoint();
     }
 
     @Override
     public Mono<CheckMembershipResponse> checkMembership(CheckMembershipRequest request) {
-        return get(request, CheckMembershipResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members", request.getMemberId()))
+        return get("checkMembership", request, CheckMembershipResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members", request.getMemberId()))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateGroupResponse> create(CreateGroupRequest request) {
-        return post(request, CreateGroupResponse.class, builder -> builder.pathSegment("Groups"))
+        return post("create", request, CreateGroupResponse.class, builder -> builder.pathSegment("Groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteGroupResponse> delete(DeleteGroupRequest request) {
-        return delete(request, DeleteGroupResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId()))
+        return delete("delete", request, DeleteGroupResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<GetGroupResponse> get(GetGroupRequest request) {
-        return get(request, GetGroupResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId()))
+        return get("get", request, GetGroupResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ListGroupsResponse> list(ListGroupsRequest request) {
-        return get(request, ListGroupsResponse.class, builder -> builder.pathSegment("Groups"))
+        return get("list", request, ListGroupsResponse.class, builder -> builder.pathSegment("Groups"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListExternalGroupMappingsResponse> listExternalGroupMappings(ListExternalGroupMappingsRequest request) {
-        return get(request, ListExternalGroupMappingsResponse.class, builder -> builder.pathSegment("Groups", "External"))
+        return get("listExternalGroupMappings", request, ListExternalGroupMappingsResponse.class, builder -> builder.pathSegment("Groups", "External"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListMembersResponse> listMembers(ListMembersRequest request) {
-        return get(request, ListMembersResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members"))
+        return get("listMembers", request, ListMembersResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members"))
             .checkpoint();
     }
 
     @Override
     public Mono<MapExternalGroupResponse> mapExternalGroup(MapExternalGroupRequest request) {
-        return post(request, MapExternalGroupResponse.class, builder -> builder.pathSegment("Groups", "External"))
+        return post("mapExternalGroup", request, MapExternalGroupResponse.class, builder -> builder.pathSegment("Groups", "External"))
             .checkpoint();
     }
 
     @Override
     public Mono<RemoveMemberResponse> removeMember(RemoveMemberRequest request) {
-        return delete(request, RemoveMemberResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members", request.getMemberId()))
+        return delete("removeMember", request, RemoveMemberResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId(), "members", request.getMemberId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UnmapExternalGroupByGroupDisplayNameResponse> unmapExternalGroupByGroupDisplayName(UnmapExternalGroupByGroupDisplayNameRequest request) {
-        return delete(
+        return delete("unmapExternalGroupByGroupDisplayName", 
             request,
             UnmapExternalGroupByGroupDisplayNameResponse.class,
             builder -> builder.pathSegment("Groups", "External", "displayName", request.getGroupDisplayName(), "externalGroup", request.getExternalGroup(), "origin", request.getOrigin()))
@@ -138,7 +138,7 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
 
     @Override
     public Mono<UnmapExternalGroupByGroupIdResponse> unmapExternalGroupByGroupId(UnmapExternalGroupByGroupIdRequest request) {
-        return delete(
+        return delete("unmapExternalGroupByGroupId", 
             request,
             UnmapExternalGroupByGroupIdResponse.class,
             builder -> builder.pathSegment("Groups", "External", "groupId", request.getGroupId(), "externalGroup", request.getExternalGroup(), "origin", request.getOrigin()))
@@ -147,7 +147,7 @@ public final class ReactorGroups extends AbstractUaaOperations implements Groups
 
     @Override
     public Mono<UpdateGroupResponse> update(UpdateGroupRequest request) {
-        return put(request, UpdateGroupResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId()))
+        return put("update", request, UpdateGroupResponse.class, builder -> builder.pathSegment("Groups", request.getGroupId()))
             .checkpoint();
     }
 
@@ -53,31 +53,31 @@ public final class ReactorIdentityProviders extends AbstractUaaOperations implem
 
     @Override
     public Mono<CreateIdentityProviderResponse> create(CreateIdentityProviderRequest request) {
-        return post(request, CreateIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers").queryParam("rawConfig", true))
+        return post("create", request, CreateIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers").queryParam("rawConfig", true))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteIdentityProviderResponse> delete(DeleteIdentityProviderRequest request) {
-        return delete(request, DeleteIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers", request.getIdentityProviderId()).queryParam("rawConfig", true))
+        return delete("delete", request, DeleteIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers", request.getIdentityProviderId()).queryParam("rawConfig", true))
             .checkpoint();
     }
 
     @Override
     public Mono<GetIdentityProviderResponse> get(GetIdentityProviderRequest request) {
-        return get(request, GetIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers", request.getIdentityProviderId()).queryParam("rawConfig", true))
+        return get("get", request, GetIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers", request.getIdentityProviderId()).queryParam("rawConfig", true))
             .checkpoint();
     }
 
     @Override
     public Mono<ListIdentityProvidersResponse> list(ListIdentityProvidersRequest request) {
-        return get(request, ListIdentityProvidersResponse.class, builder -> builder.pathSegment("identity-providers").queryParam("rawConfig", true))
+        return get("list", request, ListIdentityProvidersResponse.class, builder -> builder.pathSegment("identity-providers").queryParam("rawConfig", true))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateIdentityProviderResponse> update(UpdateIdentityProviderRequest request) {
-        return put(request, UpdateIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers", request.getIdentityProviderId()).queryParam("rawConfig", true))
+        return put("update", request, UpdateIdentityProviderResponse.class, builder -> builder.pathSegment("identity-providers", request.getIdentityProviderId()).queryParam("rawConfig", true))
             .checkpoint();
     }
 
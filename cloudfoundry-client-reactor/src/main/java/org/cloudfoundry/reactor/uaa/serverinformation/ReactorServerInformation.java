@@ -55,13 +55,13 @@ public final class ReactorServerInformation extends AbstractUaaOperations implem
 
     @Override
     public Mono<Void> autoLogin(AutoLoginRequest request) {
-        return get(request, Void.class, builder -> builder.pathSegment("autologin"))
+        return get("autoLogin", request, Void.class, builder -> builder.pathSegment("autologin"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetAutoLoginAuthenticationCodeResponse> getAuthenticationCode(GetAutoLoginAuthenticationCodeRequest request) {
-        return post(request, GetAutoLoginAuthenticationCodeResponse.class, builder -> builder.pathSegment("autologin"),
+        return post("getAuthenticationCode", request, GetAutoLoginAuthenticationCodeResponse.class, builder -> builder.pathSegment("autologin"),
             outbound -> {
             },
             outbound -> {
@@ -75,7 +75,7 @@ public final class ReactorServerInformation extends AbstractUaaOperations implem
 
     @Override
     public Mono<GetInfoResponse> getInfo(GetInfoRequest request) {
-        return get(request, GetInfoResponse.class, builder -> builder.pathSegment("info"))
+        return get("getInfo", request, GetInfoResponse.class, builder -> builder.pathSegment("info"))
             .checkpoint();
     }
 }
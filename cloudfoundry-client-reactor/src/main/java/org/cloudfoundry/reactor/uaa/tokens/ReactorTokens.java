@@ -72,7 +72,7 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<CheckTokenResponse> check(CheckTokenRequest request) {
-        return post(request, CheckTokenResponse.class, builder -> builder.pathSegment("check_token"),
+        return post("check", request, CheckTokenResponse.class, builder -> builder.pathSegment("check_token"),
             outbound -> {
             },
             outbound -> {
@@ -84,7 +84,7 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<GetTokenByAuthorizationCodeResponse> getByAuthorizationCode(GetTokenByAuthorizationCodeRequest request) {
-        return post(request, GetTokenByAuthorizationCodeResponse.class, builder -> builder.pathSegment("oauth", "token")
+        return post("getByAuthorizationCode", request, GetTokenByAuthorizationCodeResponse.class, builder -> builder.pathSegment("oauth", "token")
                 .queryParam("grant_type", AUTHORIZATION_CODE)
                 .queryParam("response_type", ResponseType.TOKEN),
             ReactorTokens::setUrlEncoded,
@@ -94,7 +94,7 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<GetTokenByClientCredentialsResponse> getByClientCredentials(GetTokenByClientCredentialsRequest request) {
-        return post(request, GetTokenByClientCredentialsResponse.class, builder -> builder.pathSegment("oauth", "token")
+        return post("getByClientCredentials", request, GetTokenByClientCredentialsResponse.class, builder -> builder.pathSegment("oauth", "token")
                 .queryParam("grant_type", CLIENT_CREDENTIALS)
                 .queryParam("response_type", ResponseType.TOKEN),
             ReactorTokens::setUrlEncoded,
@@ -104,7 +104,7 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<GetTokenByOneTimePasscodeResponse> getByOneTimePasscode(GetTokenByOneTimePasscodeRequest request) {
-        return post(request, GetTokenByOneTimePasscodeResponse.class, builder -> builder.pathSegment("oauth", "token")
+        return post("getByOneTimePasscode", request, GetTokenByOneTimePasscodeResponse.class, builder -> builder.pathSegment("oauth", "token")
                 .queryParam("grant_type", PASSWORD)
                 .queryParam("response_type", ResponseType.TOKEN),
             ReactorTokens::setUrlEncoded,
@@ -114,7 +114,7 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<GetTokenByOpenIdResponse> getByOpenId(GetTokenByOpenIdRequest request) {
-        return post(request, GetTokenByOpenIdResponse.class, builder -> builder.pathSegment("oauth", "token")
+        return post("getByOpenId", request, GetTokenByOpenIdResponse.class, builder -> builder.pathSegment("oauth", "token")
                 .queryParam("grant_type", AUTHORIZATION_CODE)
                 .queryParam("response_type", ResponseType.ID_TOKEN),
             ReactorTokens::setUrlEncoded,
@@ -124,7 +124,7 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<GetTokenByPasswordResponse> getByPassword(GetTokenByPasswordRequest request) {
-        return post(request, GetTokenByPasswordResponse.class, builder -> builder.pathSegment("oauth", "token")
+        return post("getByPassword", request, GetTokenByPasswordResponse.class, builder -> builder.pathSegment("oauth", "token")
                 .queryParam("grant_type", PASSWORD)
                 .queryParam("response_type", ResponseType.TOKEN),
             ReactorTokens::setUrlEncoded,
@@ -134,19 +134,19 @@ public final class ReactorTokens extends AbstractUaaOperations implements Tokens
 
     @Override
     public Mono<GetTokenKeyResponse> getKey(GetTokenKeyRequest request) {
-        return get(request, GetTokenKeyResponse.class, builder -> builder.pathSegment("token_key"))
+        return get("getKey", request, GetTokenKeyResponse.class, builder -> builder.pathSegment("token_key"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListTokenKeysResponse> listKeys(ListTokenKeysRequest request) {
-        return get(request, ListTokenKeysResponse.class, builder -> builder.pathSegment("token_keys"))
+        return get("listKeys", request, ListTokenKeysResponse.class, builder -> builder.pathSegment("token_keys"))
             .checkpoint();
     }
 
     @Override
     public Mono<RefreshTokenResponse> refresh(RefreshTokenRequest request) {
-        return post(request, RefreshTokenResponse.class, builder -> builder.pathSegment("oauth", "token")
+        return post("refresh", request, RefreshTokenResponse.class, builder -> builder.pathSegment("oauth", "token")
                 .queryParam("grant_type", REFRESH_TOKEN),
             ReactorTokens::setUrlEncoded,
             ReactorTokens::removeAuthorization)
@@ -65,67 +65,67 @@ public final class ReactorUsers extends AbstractUaaOperations implements Users {
 
     @Override
     public Mono<ChangeUserPasswordResponse> changePassword(ChangeUserPasswordRequest request) {
-        return put(request, ChangeUserPasswordResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "password"))
+        return put("changePassword", request, ChangeUserPasswordResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "password"))
             .checkpoint();
     }
 
     @Override
     public Mono<CreateUserResponse> create(CreateUserRequest request) {
-        return post(request, CreateUserResponse.class, builder -> builder.pathSegment("Users"))
+        return post("create", request, CreateUserResponse.class, builder -> builder.pathSegment("Users"))
             .checkpoint();
     }
 
     @Override
     public Mono<DeleteUserResponse> delete(DeleteUserRequest request) {
-        return delete(request, DeleteUserResponse.class, builder -> builder.pathSegment("Users", request.getUserId()))
+        return delete("delete", request, DeleteUserResponse.class, builder -> builder.pathSegment("Users", request.getUserId()))
             .checkpoint();
     }
 
     @Override
     public Mono<ExpirePasswordResponse> expirePassword(ExpirePasswordRequest request) {
-        return patch(request, ExpirePasswordResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "status"))
+        return patch("expirePassword", request, ExpirePasswordResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "status"))
             .checkpoint();
     }
 
     @Override
     public Mono<GetUserVerificationLinkResponse> getVerificationLink(GetUserVerificationLinkRequest request) {
-        return get(request, GetUserVerificationLinkResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "verify-link"))
+        return get("getVerificationLink", request, GetUserVerificationLinkResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "verify-link"))
             .checkpoint();
     }
 
     @Override
     public Mono<InviteUsersResponse> invite(InviteUsersRequest request) {
-        return post(request, InviteUsersResponse.class, builder -> builder.pathSegment("invite_users"))
+        return post("invite", request, InviteUsersResponse.class, builder -> builder.pathSegment("invite_users"))
             .checkpoint();
     }
 
     @Override
     public Mono<ListUsersResponse> list(ListUsersRequest request) {
-        return get(request, ListUsersResponse.class, builder -> builder.pathSegment("Users"))
+        return get("list", request, ListUsersResponse.class, builder -> builder.pathSegment("Users"))
             .checkpoint();
     }
 
     @Override
     public Mono<LookupUserIdsResponse> lookup(LookupUserIdsRequest request) {
-        return get(request, LookupUserIdsResponse.class, builder -> builder.pathSegment("ids", "Users"))
+        return get("lookup", request, LookupUserIdsResponse.class, builder -> builder.pathSegment("ids", "Users"))
             .checkpoint();
     }
 
     @Override
     public Mono<UpdateUserResponse> update(UpdateUserRequest request) {
-        return put(request, UpdateUserResponse.class, builder -> builder.pathSegment("Users", request.getId()))
+        return put("update", request, UpdateUserResponse.class, builder -> builder.pathSegment("Users", request.getId()))
             .checkpoint();
     }
 
     @Override
     public Mono<UserInfoResponse> userInfo(UserInfoRequest request) {
-        return get(request, UserInfoResponse.class, builder -> builder.pathSegment("userinfo"))
+        return get("userInfo", request, UserInfoResponse.class, builder -> builder.pathSegment("userinfo"))
             .checkpoint();
     }
 
     @Override
     public Mono<VerifyUserResponse> verify(VerifyUserRequest request) {
-        return get(request, VerifyUserResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "verify"))
+        return get("verify", request, VerifyUserResponse.class, builder -> builder.pathSegment("Users", request.getUserId(), "verify"))
             .checkpoint();
     }
 
@@ -30,6 +30,8 @@ public abstract class AbstractReactorOperations {
 
     protected static final String APPLICATION_ZIP = "application/zip";
 
+    private static final String REACTOR_PREFIX = "Reactor";
+
     protected final ConnectionContext connectionContext;
 
     protected final Map<String, String> requestTags;
@@ -38,22 +40,36 @@ public abstract class AbstractReactorOperations {
 
     protected final TokenProvider tokenProvider;
 
+    private final String resourceType;
+
     protected AbstractReactorOperations(ConnectionContext connectionContext, Mono<String> root, TokenProvider tokenProvider, Map<String, String> requestTags) {
         this.connectionContext = connectionContext;
         this.root = root;
         this.tokenProvider = tokenProvider;
         this.requestTags = requestTags;
+        this.resourceType = getResourceType(getClass());
     }
 
-    protected Mono<Operator> createOperator() {
+    protected Mono<Operator> createOperator(String operation) {
         HttpClient httpClient = this.connectionContext.getHttpClient();
+        String qualifiedOperation = String.format("%s.%s", this.resourceType, operation);
 
-        return this.root.map(this::buildOperatorContext)
+        return this.root.map(root -> buildOperatorContext(root, qualifiedOperation))
             .map(context -> new Operator(context, httpClient))
             .map(operator -> operator.headers(this::addHeaders))
             .map(operator -> operator.headersWhen(this::addHeadersWhen));
     }
 
+    private static String getResourceType(Class<?> type) {
+        String name = type.getName().substring(type.getName().lastIndexOf('.') + 1);
+
+        if (name.startsWith(REACTOR_PREFIX)) {
+            name = name.substring(REACTOR_PREFIX.length());
+        }
+
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
     private void addHeaders(HttpHeaders httpHeaders) {
         UserAgent.setUserAgent(httpHeaders);
         JsonCodec.setDecodeHeaders(httpHeaders);
@@ -65,9 +81,11 @@ public abstract class AbstractReactorOperations {
             .map(token -> httpHeaders.set(AUTHORIZATION, token));
     }
 
-    private OperatorContext buildOperatorContext(String root) {
+    private OperatorContext buildOperatorContext(String root, String operation) {
         return OperatorContext.builder()
             .connectionContext(this.connectionContext)
+            .operation(operation)
+            .resourceType(this.resourceType)
             .root(root)
             .tokenProvider(this.tokenProvider)
             .build();
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the number of bytes allocated by the current thread, where the JVM supports it
+ */
+final class AllocationCounter {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private AllocationCounter() {
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread
+     *
+     * @return the number of bytes, or {@code -1} if allocation cannot be measured
+     */
+    static long getAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return -1;
+        }
+
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static ThreadMXBean getThreadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+            if (threadMXBean instanceof ThreadMXBean
+                && ((ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()
+                && ((ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled()) {
+                return (ThreadMXBean) threadMXBean;
+            }
+        } catch (LinkageError e) {
+            // com.sun.management is not available on this JVM
+        }
+
+        return null;
+    }
+
+}
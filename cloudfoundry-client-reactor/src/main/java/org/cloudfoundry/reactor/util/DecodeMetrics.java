@@ -0,0 +1,59 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.reactor.MetricsRecorder;
+import org.cloudfoundry.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+final class DecodeMetrics implements JsonCodec.DecodeListener {
+
+    static final Logger DECODE_LOGGER = LoggerFactory.getLogger("cloudfoundry-client.decode");
+
+    private final Optional<Duration> decodeLogThreshold;
+
+    private final String endpoint;
+
+    private final Optional<MetricsRecorder> metricsRecorder;
+
+    private final String operation;
+
+    private final Class<?> responseType;
+
+    DecodeMetrics(Optional<MetricsRecorder> metricsRecorder, Optional<Duration> decodeLogThreshold, String endpoint, String operation, Class<?> responseType) {
+        this.decodeLogThreshold = decodeLogThreshold;
+        this.endpoint = endpoint;
+        this.metricsRecorder = metricsRecorder;
+        this.operation = operation;
+        this.responseType = responseType;
+    }
+
+    @Override
+    public void decoded(int bytesReceived, long bytesAllocated, Duration duration) {
+        this.metricsRecorder.ifPresent(metricsRecorder -> metricsRecorder.recordDecode(this.endpoint, this.operation, this.responseType, bytesReceived, bytesAllocated, duration));
+
+        this.decodeLogThreshold
+            .filter(threshold -> duration.compareTo(threshold) >= 0)
+            .ifPresent(threshold -> DECODE_LOGGER.warn("Decoding {} for {} took {} ({} bytes received, {} bytes allocated)", this.responseType.getSimpleName(), this.operation,
+                TimeUtils.asTime(duration.toMillis()), bytesReceived, bytesAllocated == -1 ? "unknown" : bytesAllocated));
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Utilities for writing received content to a file.  Buffers are written to a {@link FileChannel} directly, without first being copied to
+ * the heap, and writes happen off of the event loop.
+ */
+public final class FileChannelWriter {
+
+    private FileChannelWriter() {
+    }
+
+    /**
+     * Writes content to a file, replacing any existing content
+     *
+     * @param content the content to write.  Each buffer is released once it has been written.
+     * @param target  the file to write to
+     * @return a {@link Mono} that completes once all content has been written and the file has been closed
+     */
+    public static Mono<Void> write(Flux<ByteBuf> content, Path target) {
+        return Mono.using(
+            () -> FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE),
+            channel -> write(content, channel, new AtomicLong()),
+            FileChannelWriter::close);
+    }
+
+    /**
+     * Writes content to a file channel, starting at a position
+     *
+     * @param content  the content to write.  Each buffer is released once it has been written.
+     * @param channel  the channel to write to
+     * @param position the position to write at.  The position is advanced as each buffer is written, so that it always reflects how much content
+     *                 has been written.
+     * @return a {@link Mono} that completes once all content has been written
+     */
+    public static Mono<Void> write(Flux<ByteBuf> content, FileChannel channel, AtomicLong position) {
+        return content
+            .map(ByteBuf::retain)
+            .publishOn(Schedulers.boundedElastic())
+            .doOnNext(buffer -> write(channel, buffer, position))
+            .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease)
+            .then();
+    }
+
+    static void close(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuf buffer, AtomicLong position) {
+        try {
+            while (buffer.isReadable()) {
+                int length = buffer.getBytes(buffer.readerIndex(), channel, position.get(), buffer.readableBytes());
+                buffer.skipBytes(length);
+                position.addAndGet(length);
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * An {@link OutputStream} that emits its content to a {@link FluxSink} in chunks.  Writes block while the subscriber has no outstanding
+ * demand, so that content is only produced as quickly as it is consumed.
+ */
+final class FluxSinkOutputStream extends OutputStream {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Object monitor = new Object();
+
+    private final FluxSink<ByteBuf> sink;
+
+    private byte[] buffer = new byte[CHUNK_SIZE];
+
+    private volatile boolean cancelled;
+
+    private int position;
+
+    private FluxSinkOutputStream(FluxSink<ByteBuf> sink) {
+        this.sink = sink;
+
+        sink.onRequest(n -> signal());
+        sink.onCancel(() -> {
+            this.cancelled = true;
+            signal();
+        });
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (this.position > 0) {
+            emit();
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.buffer[this.position++] = (byte) b;
+
+        if (this.position == CHUNK_SIZE) {
+            emit();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            int length = Math.min(len, CHUNK_SIZE - this.position);
+            System.arraycopy(b, off, this.buffer, this.position, length);
+            this.position += length;
+            off += length;
+            len -= length;
+
+            if (this.position == CHUNK_SIZE) {
+                emit();
+            }
+        }
+    }
+
+    /**
+     * Creates a {@link Flux} of the content written by a callback
+     *
+     * @param writer    the callback writing the content
+     * @param scheduler the {@link Scheduler} to invoke the callback on
+     * @return the content written by the callback
+     */
+    static Flux<ByteBuf> create(Consumer<OutputStream> writer, Scheduler scheduler) {
+        return Flux.create(sink -> {
+            FluxSinkOutputStream out = new FluxSinkOutputStream(sink);
+
+            scheduler.schedule(() -> {
+                try {
+                    writer.accept(out);
+                    out.flush();
+                    sink.complete();
+                } catch (Throwable t) {
+                    if (!out.cancelled) {
+                        sink.error(t);
+                    }
+                }
+            });
+        });
+    }
+
+    private void awaitDemand() throws IOException {
+        synchronized (this.monitor) {
+            while (this.sink.requestedFromDownstream() == 0 && !this.cancelled) {
+                try {
+                    this.monitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while awaiting demand");
+                }
+            }
+        }
+
+        if (this.cancelled) {
+            throw new IOException("Stream cancelled");
+        }
+    }
+
+    private void emit() throws IOException {
+        awaitDemand();
+
+        this.sink.next(Unpooled.wrappedBuffer(this.buffer, 0, this.position));
+        this.buffer = new byte[CHUNK_SIZE];
+        this.position = 0;
+    }
+
+    private void signal() {
+        synchronized (this.monitor) {
+            this.monitor.notifyAll();
+        }
+    }
+
+}
@@ -31,6 +31,7 @@ import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClientRequest;
 
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.function.BiFunction;
 
 public final class JsonCodec {
@@ -39,13 +40,7 @@ public final class JsonCodec {
 
     public static <T> Mono<T> decode(ObjectMapper objectMapper, ByteBufFlux responseBody, Class<T> responseType) {
         return responseBody.aggregate().asByteArray()
-            .map(payload -> {
-                try {
-                    return objectMapper.readValue(payload, responseType);
-                } catch (Throwable t) {
-                    throw new JsonParsingException(t.getMessage(), t, new String(payload, Charset.defaultCharset()));
-                }
-            });
+            .map(payload -> read(objectMapper, payload, responseType));
     }
 
     public static void setDecodeHeaders(HttpHeaders httpHeaders) {
@@ -56,6 +51,21 @@ public final class JsonCodec {
         return new JsonObjectDecoder(MAX_PAYLOAD_SIZE);
     }
 
+    static <T> Mono<T> decode(ObjectMapper objectMapper, ByteBufFlux responseBody, Class<T> responseType, DecodeListener decodeListener) {
+        return responseBody.aggregate().asByteArray()
+            .map(payload -> {
+                long startTime = System.nanoTime();
+                long startAllocatedBytes = AllocationCounter.getAllocatedBytes();
+
+                T value = read(objectMapper, payload, responseType);
+
+                long allocatedBytes = startAllocatedBytes == -1 ? -1 : AllocationCounter.getAllocatedBytes() - startAllocatedBytes;
+                decodeListener.decoded(payload.length, allocatedBytes, Duration.ofNanos(System.nanoTime() - startTime));
+
+                return value;
+            });
+    }
+
     static BiFunction<HttpClientRequest, NettyOutbound, Publisher<Void>> encode(ObjectMapper objectMapper, Object requestPayload) {
         if (!AnnotationUtils.findAnnotation(requestPayload.getClass(), JsonSerialize.class).isPresent()) {
             return (request, outbound) -> Mono.empty();
@@ -76,4 +86,26 @@ public final class JsonCodec {
         };
     }
 
+    private static <T> T read(ObjectMapper objectMapper, byte[] payload, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(payload, responseType);
+        } catch (Throwable t) {
+            throw new JsonParsingException(t.getMessage(), t, new String(payload, Charset.defaultCharset()));
+        }
+    }
+
+    @FunctionalInterface
+    interface DecodeListener {
+
+        /**
+         * Called when a payload has been decoded
+         *
+         * @param bytesReceived  the size of the payload
+         * @param bytesAllocated the bytes allocated while decoding, or {@code -1} if allocation cannot be measured
+         * @param duration       the time taken to decode
+         */
+        void decoded(int bytesReceived, long bytesAllocated, Duration duration);
+
+    }
+
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.cloudfoundry.reactor.MetricsRecorder;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static reactor.netty.Metrics.ACTIVE_CONNECTIONS;
+import static reactor.netty.Metrics.CONNECTION_PROVIDER_PREFIX;
+import static reactor.netty.Metrics.IDLE_CONNECTIONS;
+import static reactor.netty.Metrics.PENDING_CONNECTIONS;
+import static reactor.netty.Metrics.TOTAL_CONNECTIONS;
+
+/**
+ * A {@link MetricsRecorder} that records to a Micrometer {@link MeterRegistry}.  Requests are timed as {@code cloudfoundry.client.requests}, tagged
+ * with the endpoint, operation, method, status, outcome (the status class) and exception.  Responses are counted by endpoint and outcome, and
+ * retries, token invalidations and decode failures are counted by endpoint and operation.  Decoding is recorded by endpoint, operation and response
+ * type as histograms of the decode time ({@code cloudfoundry.client.decode}), body size ({@code cloudfoundry.client.decode.received}) and bytes
+ * allocated ({@code cloudfoundry.client.decode.allocated}).  Root payload refreshes are timed by the age of the payload being served as
+ * {@code cloudfoundry.client.root.refreshes}, and the age of the current root payload of each endpoint is published as
+ * {@code cloudfoundry.client.root.age}.
+ * <p>
+ * Reactor Netty publishes connection pool gauges to the global Micrometer registry.  When a {@code DefaultConnectionContext} is configured with a
+ * recorder those gauges are enabled for its pool, and this recorder publishes their totals as {@code cloudfoundry.client.connections.*} so that
+ * they are available in the registry passed to it as well.
+ */
+public final class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    static final String CONNECTION_POOL_NAME = "cloudfoundry-client";
+
+    private static final String PREFIX = "cloudfoundry.client";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, AtomicLong> rootPayloadRefreshes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance and registers the connection pool gauges
+     *
+     * @param meterRegistry the {@link MeterRegistry} to record to
+     */
+    public MicrometerMetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        registerConnectionPoolGauge("active", ACTIVE_CONNECTIONS, "The number of connections that are in use");
+        registerConnectionPoolGauge("idle", IDLE_CONNECTIONS, "The number of connections that are idle");
+        registerConnectionPoolGauge("pending", PENDING_CONNECTIONS, "The number of requests waiting for a connection");
+        registerConnectionPoolGauge("total", TOTAL_CONNECTIONS, "The number of connections, active or idle");
+    }
+
+    @Override
+    public void recordDecode(String endpoint, String operation, Class<?> responseType, long bytesReceived, long bytesAllocated, Duration duration) {
+        Tags tags = Tags.of("endpoint", endpoint, "operation", operation, "type", responseType.getSimpleName());
+
+        Timer.builder(PREFIX + ".decode")
+            .description("The time taken to decode response bodies")
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(this.meterRegistry)
+            .record(duration);
+
+        DistributionSummary.builder(PREFIX + ".decode.received")
+            .description("The size of decoded response bodies")
+            .baseUnit(BaseUnits.BYTES)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(this.meterRegistry)
+            .record(bytesReceived);
+
+        if (bytesAllocated >= 0) {
+            DistributionSummary.builder(PREFIX + ".decode.allocated")
+                .description("The bytes allocated while decoding response bodies")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry)
+                .record(bytesAllocated);
+        }
+    }
+
+    @Override
+    public void recordDecodeFailure(String endpoint, String operation, Class<?> responseType) {
+        Counter.builder(PREFIX + ".decode.failures")
+            .description("The number of response bodies that could not be decoded")
+            .tags(Tags.of("endpoint", endpoint, "operation", operation, "type", responseType.getSimpleName()))
+            .register(this.meterRegistry)
+            .increment();
+    }
+
+    @Override
+    public void recordError(String endpoint, String operation, String method, Duration duration, Throwable error) {
+        recordRequest(endpoint, operation, method, "NONE", "UNKNOWN", error.getClass().getSimpleName(), duration);
+    }
+
+    @Override
+    public void recordResponse(String endpoint, String operation, String method, int status, Duration duration) {
+        String outcome = getOutcome(status);
+
+        recordRequest(endpoint, operation, method, String.valueOf(status), outcome, "none", duration);
+
+        Counter.builder(PREFIX + ".responses")
+            .description("The number of responses received")
+            .tags(Tags.of("endpoint", endpoint, "outcome", outcome))
+            .register(this.meterRegistry)
+            .increment();
+    }
+
+    @Override
+    public void recordRetry(String endpoint, String operation) {
+        Counter.builder(PREFIX + ".retries")
+            .description("The number of requests that were retried")
+            .tags(Tags.of("endpoint", endpoint, "operation", operation))
+            .register(this.meterRegistry)
+            .increment();
+    }
+
+    @Override
+    public void recordRootPayloadRefresh(String endpoint, Duration age, boolean success) {
+        Timer.builder(PREFIX + ".root.refreshes")
+            .description("The age of the root payload being served when a refresh of it completed")
+            .tags(Tags.of("endpoint", endpoint, "outcome", success ? "SUCCESS" : "FAILURE"))
+            .register(this.meterRegistry)
+            .record(age);
+
+        if (success) {
+            this.rootPayloadRefreshes.computeIfAbsent(endpoint, this::registerRootPayloadAgeGauge)
+                .set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void recordTokenInvalidation(String endpoint, String operation) {
+        Counter.builder(PREFIX + ".token.invalidations")
+            .description("The number of tokens invalidated by a 401 UNAUTHORIZED response")
+            .tags(Tags.of("endpoint", endpoint, "operation", operation))
+            .register(this.meterRegistry)
+            .increment();
+    }
+
+    private static double getConnectionPoolTotal(MeterRegistry globalRegistry, String name) {
+        return globalRegistry.find(CONNECTION_PROVIDER_PREFIX + name)
+            .tag(reactor.netty.Metrics.NAME, CONNECTION_POOL_NAME)
+            .gauges().stream()
+            .mapToDouble(Gauge::value)
+            .sum();
+    }
+
+    private static String getOutcome(int status) {
+        switch (status / 100) {
+            case 1:
+                return "INFORMATIONAL";
+            case 2:
+                return "SUCCESS";
+            case 3:
+                return "REDIRECTION";
+            case 4:
+                return "CLIENT_ERROR";
+            case 5:
+                return "SERVER_ERROR";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    private void recordRequest(String endpoint, String operation, String method, String status, String outcome, String exception, Duration duration) {
+        Timer.builder(PREFIX + ".requests")
+            .description("The time between sending a request and receiving its response")
+            .tags(Tags.of("endpoint", endpoint, "operation", operation, "method", method, "status", status, "outcome", outcome, "exception", exception))
+            .register(this.meterRegistry)
+            .record(duration);
+    }
+
+    private void registerConnectionPoolGauge(String name, String source, String description) {
+        Gauge.builder(String.format("%s.connections.%s", PREFIX, name), Metrics.globalRegistry, globalRegistry -> getConnectionPoolTotal(globalRegistry, source))
+            .description(description)
+            .register(this.meterRegistry);
+    }
+
+    private AtomicLong registerRootPayloadAgeGauge(String endpoint) {
+        AtomicLong refreshed = new AtomicLong(System.nanoTime());
+
+        TimeGauge.builder(PREFIX + ".root.age", refreshed, TimeUnit.NANOSECONDS, r -> System.nanoTime() - r.get())
+            .description("The time since the root payload was last refreshed")
+            .tags(Tags.of("endpoint", endpoint))
+            .register(this.meterRegistry);
+
+        return refreshed;
+    }
+
+}
@@ -18,32 +18,54 @@ package org.cloudfoundry.reactor.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
-import reactor.netty.http.client.HttpClientForm;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClientRequest;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * A {@code multipart/form-data} request body written directly to the outbound connection.  Parts may be sent from a serialized payload, a
+ * file, or a stream of content generated while the request is being written.  When the length of every part is known the request is sent
+ * with a {@code Content-Length}, otherwise it is sent with chunked transfer encoding.
+ */
 public final class MultipartHttpClientRequest {
 
-    private final HttpClientForm form;
+    private static final String CRLF = "\r\n";
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final String boundary = String.format("%016x%016x", ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
 
     private final ObjectMapper objectMapper;
 
+    private final NettyOutbound outbound;
+
     private final List<Consumer<PartHttpClientRequest>> partConsumers = new ArrayList<>();
 
     private final HttpClientRequest request;
 
-    public MultipartHttpClientRequest(ObjectMapper objectMapper, HttpClientRequest request, HttpClientForm form) {
+    public MultipartHttpClientRequest(ObjectMapper objectMapper, HttpClientRequest request, NettyOutbound outbound) {
         this.objectMapper = objectMapper;
         this.request = request;
-        this.form = form;
+        this.outbound = outbound;
     }
 
     public MultipartHttpClientRequest addPart(Consumer<PartHttpClientRequest> partConsumer) {
@@ -51,24 +73,74 @@ public final class MultipartHttpClientRequest {
         return this;
     }
 
-    public void done() {
+    /**
+     * Completes the request, writing all parts to the outbound connection
+     *
+     * @return a {@link Publisher} that completes when the request has been written
+     */
+    public Publisher<Void> done() {
         List<PartHttpClientRequest> parts = this.partConsumers.stream()
             .map(partConsumer -> {
                 PartHttpClientRequest part = new PartHttpClientRequest(this.objectMapper);
                 partConsumer.accept(part);
                 return part;
             })
+            .filter(PartHttpClientRequest::hasContent)
             .collect(Collectors.toList());
 
+        List<byte[]> delimiters = new ArrayList<>();
+        for (int i = 0; i < parts.size(); i++) {
+            delimiters.add(toBytes(String.format("%s--%s%s%s%s", i == 0 ? "" : CRLF, this.boundary, CRLF, parts.get(i).getHeaders(), CRLF)));
+        }
+        byte[] closeDelimiter = toBytes(String.format("%s--%s--%s", parts.isEmpty() ? "" : CRLF, this.boundary, CRLF));
+
         this.request.requestHeaders()
-            .remove(HttpHeaderNames.TRANSFER_ENCODING);
+            .set(HttpHeaderNames.CONTENT_TYPE, String.format("%s; %s=%s", HttpHeaderValues.MULTIPART_FORM_DATA, HttpHeaderValues.BOUNDARY, this.boundary));
+
+        long contentLength = getContentLength(parts, delimiters, closeDelimiter);
+        if (contentLength >= 0) {
+            this.request.requestHeaders()
+                .remove(HttpHeaderNames.TRANSFER_ENCODING)
+                .set(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+        } else {
+            this.request.requestHeaders()
+                .remove(HttpHeaderNames.CONTENT_LENGTH)
+                .set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED);
+        }
+
+        Mono<Void> body = Mono.empty();
+        for (int i = 0; i < parts.size(); i++) {
+            body = body
+                .then(send(this.outbound, delimiters.get(i)))
+                .then(parts.get(i).send(this.outbound));
+        }
+
+        return body
+            .then(send(this.outbound, closeDelimiter));
+    }
+
+    private static long getContentLength(List<PartHttpClientRequest> parts, List<byte[]> delimiters, byte[] closeDelimiter) {
+        long contentLength = closeDelimiter.length;
 
-        this.form.multipart(true);
+        for (int i = 0; i < parts.size(); i++) {
+            long partLength = parts.get(i).getContentLength();
+            if (partLength < 0) {
+                return -1;
+            }
 
-        HttpClientForm intermediateForm = this.form;
-        for (PartHttpClientRequest part : parts) {
-            intermediateForm = part.send(intermediateForm);
+            contentLength += delimiters.get(i).length + partLength;
         }
+
+        return contentLength;
+    }
+
+    private static Mono<Void> send(NettyOutbound outbound, byte[] bytes) {
+        // Sent as a Flux since a Mono sent before the headers are written is treated as the complete request body
+        return outbound.send(Flux.defer(() -> Flux.just(Unpooled.wrappedBuffer(bytes)))).then();
+    }
+
+    private static byte[] toBytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
     }
 
     public static final class PartHttpClientRequest {
@@ -83,7 +155,9 @@ public final class MultipartHttpClientRequest {
 
         private String name;
 
-        private ByteArrayInputStream payload;
+        private byte[] payload;
+
+        private Publisher<? extends ByteBuf> stream;
 
         private PartHttpClientRequest(ObjectMapper objectMapper) {
             this.objectMapper = objectMapper;
@@ -91,8 +165,7 @@ public final class MultipartHttpClientRequest {
 
         public void send(Object source) {
             try {
-                byte[] bytes = this.objectMapper.writeValueAsBytes(source);
-                this.payload = new ByteArrayInputStream(bytes);
+                this.payload = this.objectMapper.writeValueAsBytes(source);
             } catch (JsonProcessingException e) {
                 throw Exceptions.propagate(e);
             }
@@ -102,6 +175,27 @@ public final class MultipartHttpClientRequest {
             this.file = file;
         }
 
+        /**
+         * Sends content from a stream.  The stream is only subscribed to once the preceding parts have been written, and is consumed as the
+         * connection is able to accept it.
+         *
+         * @param stream the content of the part
+         */
+        public void sendStream(Publisher<? extends ByteBuf> stream) {
+            this.stream = stream;
+        }
+
+        /**
+         * Sends content written by a callback.  The callback is invoked on a separate thread once the preceding parts have been written, and
+         * writes to the {@link OutputStream} block until the connection is able to accept more content.  The callback must not close the
+         * {@link OutputStream}.
+         *
+         * @param writer the callback writing the content of the part
+         */
+        public void sendWriter(Consumer<OutputStream> writer) {
+            this.stream = FluxSinkOutputStream.create(writer, Schedulers.elastic());
+        }
+
         public PartHttpClientRequest setContentType(String contentType) {
             this.contentType = contentType;
             return this;
@@ -117,17 +211,63 @@ public final class MultipartHttpClientRequest {
             return this;
         }
 
+        private long getContentLength() {
+            if (this.file != null) {
+                try {
+                    return Files.size(this.file);
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
+            } else if (this.payload != null) {
+                return this.payload.length;
+            }
+
+            return -1;
+        }
+
         private String getFilenameOrDefault() {
-            return this.filename != null ? this.filename : this.file.getFileName().toString();
+            if (this.filename != null) {
+                return this.filename;
+            }
+
+            return this.file != null ? this.file.getFileName().toString() : null;
+        }
+
+        private String getHeaders() {
+            StringBuilder headers = new StringBuilder();
+
+            headers.append(HttpHeaderNames.CONTENT_DISPOSITION).append(": ").append(HttpHeaderValues.FORM_DATA)
+                .append("; ").append(HttpHeaderValues.NAME).append("=\"").append(this.name).append('"');
+
+            String filename = getFilenameOrDefault();
+            if (filename != null) {
+                headers.append("; ").append(HttpHeaderValues.FILENAME).append("=\"").append(filename).append('"');
+            }
+            headers.append(CRLF);
+
+            long contentLength = getContentLength();
+            if (contentLength >= 0) {
+                headers.append(HttpHeaderNames.CONTENT_LENGTH).append(": ").append(contentLength).append(CRLF);
+            }
+
+            headers.append(HttpHeaderNames.CONTENT_TYPE).append(": ").append(this.contentType != null ? this.contentType : DEFAULT_CONTENT_TYPE).append(CRLF);
+            headers.append(HttpHeaderNames.CONTENT_TRANSFER_ENCODING).append(": ").append(HttpHeaderValues.BINARY).append(CRLF);
+
+            return headers.toString();
         }
 
-        private HttpClientForm send(HttpClientForm form) {
+        private boolean hasContent() {
+            return this.file != null || this.payload != null || this.stream != null;
+        }
+
+        private Mono<Void> send(NettyOutbound outbound) {
             if (this.file != null) {
-                return form.file(this.name, getFilenameOrDefault(), this.file.toFile(), this.contentType);
+                return outbound.sendFile(this.file).then();
             } else if (this.payload != null) {
-                return form.file(this.name, this.payload, this.contentType);
+                return MultipartHttpClientRequest.send(outbound, this.payload);
             }
-            return form;
+
+            return outbound.send(this.stream).then();
         }
 
     }
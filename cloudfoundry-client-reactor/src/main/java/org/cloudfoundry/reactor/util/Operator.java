@@ -22,8 +22,10 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.HttpClientResponseWithBody;
 import org.cloudfoundry.reactor.HttpClientResponseWithConnection;
+import org.cloudfoundry.reactor.MetricsRecorder;
 import org.reactivestreams.Publisher;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Flux;
@@ -89,7 +91,7 @@ public class Operator extends OperatorContextAware {
     }
 
     public UriConfiguration request(HttpMethod method) {
-        return new UriConfiguration(this.context, attachRequestLogger(this.httpClient).request(method));
+        return new UriConfiguration(this.context, attachRequestTracer(attachRequestMetrics(attachRequestLogger(this.httpClient), method)).request(method));
     }
 
     public WebsocketUriConfiguration websocket() {
@@ -107,6 +109,28 @@ public class Operator extends OperatorContextAware {
             .doOnResponseError((response, connection) -> requestLogger.response(response));
     }
 
+    private HttpClient attachRequestMetrics(HttpClient httpClient, HttpMethod method) {
+        return this.context.getConnectionContext().getMetricsRecorder()
+            .map(metricsRecorder -> {
+                RequestMetrics requestMetrics = new RequestMetrics(metricsRecorder, this.context.getEndpoint(), getOperation(), method.name());
+                return httpClient.doOnRequest((request, connection) -> requestMetrics.request(request))
+                    .doOnRequestError(requestMetrics::requestError)
+                    .doOnResponse((response, connection) -> requestMetrics.response(response));
+            })
+            .orElse(httpClient);
+    }
+
+    private HttpClient attachRequestTracer(HttpClient httpClient) {
+        return this.context.getConnectionContext().getRequestTracer()
+            .map(requestTracer -> {
+                RequestTracing requestTracing = new RequestTracing(requestTracer, getOperation(), getResourceType());
+                return httpClient.doOnRequest((request, connection) -> requestTracing.request(request))
+                    .doOnRequestError(requestTracing::requestError)
+                    .doOnResponse((response, connection) -> requestTracing.response(response));
+            })
+            .orElse(httpClient);
+    }
+
     public static class PayloadConfiguration extends OperatorContextAware {
 
         private final HttpClient.RequestSender requestSender;
@@ -212,7 +236,7 @@ public class Operator extends OperatorContextAware {
         }
 
         private static boolean isUnauthorized(HttpClientResponseWithConnection response) {
-            return response.getResponse().status() == HttpResponseStatus.UNAUTHORIZED;
+            return response.getResponse().status().code() == HttpResponseStatus.UNAUTHORIZED.code();
         }
 
         private void attachChannelHandlers(HttpClientResponse response, Connection connection) {
@@ -224,8 +248,21 @@ public class Operator extends OperatorContextAware {
             }
         }
 
+        private <T> Mono<T> decode(ByteBufFlux body, Class<T> bodyType) {
+            ConnectionContext connectionContext = this.context.getConnectionContext();
+
+            if (!connectionContext.getMetricsRecorder().isPresent() && !connectionContext.getDecodeLogThreshold().isPresent()) {
+                return JsonCodec.decode(connectionContext.getObjectMapper(), body, bodyType);
+            }
+
+            DecodeMetrics decodeMetrics = new DecodeMetrics(connectionContext.getMetricsRecorder(), connectionContext.getDecodeLogThreshold(), this.context.getEndpoint(),
+                getOperation(), bodyType);
+            return JsonCodec.decode(connectionContext.getObjectMapper(), body, bodyType, decodeMetrics);
+        }
+
         private <T> Mono<T> deserialized(ByteBufFlux body, Class<T> bodyType) {
-            return JsonCodec.decode(this.context.getConnectionContext().getObjectMapper(), body, bodyType);
+            return decode(body, bodyType)
+                .doOnError(JsonParsingException.class, e -> recordMetrics(metricsRecorder -> metricsRecorder.recordDecodeFailure(this.context.getEndpoint(), getOperation(), bodyType)));
         }
 
         private Flux<HttpClientResponseWithConnection> invalidateToken(Flux<HttpClientResponseWithConnection> inbound) {
@@ -233,6 +270,7 @@ public class Operator extends OperatorContextAware {
                 .doOnNext(response -> {
                     if (isUnauthorized(response)) {
                         this.context.getTokenProvider().ifPresent(tokenProvider -> tokenProvider.invalidate(this.context.getConnectionContext()));
+                        recordMetrics(metricsRecorder -> metricsRecorder.recordTokenInvalidation(this.context.getEndpoint(), getOperation()));
                         throw new InvalidTokenException();
                     }
                 });
@@ -241,7 +279,8 @@ public class Operator extends OperatorContextAware {
         private Flux<HttpClientResponseWithConnection> processResponse(Flux<HttpClientResponseWithConnection> inbound) {
             return inbound
                 .transform(this::invalidateToken)
-                .retryWhen(Retry.max(this.context.getConnectionContext().getInvalidTokenRetries()).filter(InvalidTokenException.class::isInstance))
+                .retryWhen(Retry.max(this.context.getConnectionContext().getInvalidTokenRetries()).filter(InvalidTokenException.class::isInstance)
+                    .doBeforeRetry(signal -> recordMetrics(metricsRecorder -> metricsRecorder.recordRetry(this.context.getEndpoint(), getOperation()))))
                 .transform(this.context.getErrorPayloadMapper()
                     .orElse(ErrorPayloadMappers.fallback()));
         }
@@ -345,6 +384,18 @@ class OperatorContextAware {
         this.context = context;
     }
 
+    protected String getOperation() {
+        return this.context.getOperation().orElse("unknown");
+    }
+
+    protected String getResourceType() {
+        return this.context.getResourceType().orElse("unknown");
+    }
+
+    protected void recordMetrics(Consumer<MetricsRecorder> recording) {
+        this.context.getConnectionContext().getMetricsRecorder().ifPresent(recording);
+    }
+
     protected String transformRoot(Function<UriComponentsBuilder, UriComponentsBuilder> uriTransformer) {
         UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromUriString(this.context.getRoot());
         return uriTransformer.apply(uriComponentsBuilder)
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpStatusClass;
+import org.cloudfoundry.reactor.HttpClientResponseWithBody;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Downloads content to a file.  When the server supports range requests, the content is fetched as a number of byte ranges over several
+ * connections in parallel, into a file that is allocated up front.  Each range is retried independently and resumes from the last byte that
+ * was written, so that a failed connection only requires the remainder of its range to be fetched again.  Only I/O failures, such as a reset
+ * connection, and server errors are retried.
+ */
+public final class RangeDownloader {
+
+    private static final int CONCURRENCY = 4;
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+    private static final long DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
+
+    private static final String EMPTY_CONTENT_RANGE = "bytes */0";
+
+    private static final int MAX_RETRIES = 5;
+
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(100);
+
+    private final HttpClient httpClient;
+
+    private final long rangeSize;
+
+    /**
+     * Creates an instance
+     *
+     * @param httpClient the client to make range requests with
+     */
+    public RangeDownloader(HttpClient httpClient) {
+        this(httpClient, DEFAULT_RANGE_SIZE);
+    }
+
+    RangeDownloader(HttpClient httpClient, long rangeSize) {
+        this.httpClient = httpClient.followRedirect(true);
+        this.rangeSize = rangeSize;
+    }
+
+    /**
+     * Downloads content to a file.  If the response is a redirect, the content is downloaded from the redirect location using range requests.
+     * Otherwise the body of the response is the content.
+     *
+     * @param response the response to a request for the content
+     * @param target   the file to write the content to
+     * @return a {@link Mono} that completes once the content has been written
+     */
+    public Mono<Void> download(HttpClientResponseWithBody response, Path target) {
+        HttpClientResponse clientResponse = response.getResponse();
+
+        if (clientResponse.status().codeClass() != HttpStatusClass.REDIRECTION) {
+            return FileChannelWriter.write(response.getBody(), target);
+        }
+
+        String location = URI.create(clientResponse.resourceUrl())
+            .resolve(clientResponse.responseHeaders().get(HttpHeaderNames.LOCATION))
+            .toString();
+
+        return response.getBody()
+            .then(download(location, target));
+    }
+
+    /**
+     * Downloads content to a file using range requests.  If the server does not support range requests, the content is downloaded in a single
+     * request.
+     *
+     * @param uri    the location of the content
+     * @param target the file to write the content to
+     * @return a {@link Mono} that completes once the content has been written
+     */
+    public Mono<Void> download(String uri, Path target) {
+        return Mono.using(
+            () -> FileChannel.open(target, CREATE, TRUNCATE_EXISTING, WRITE),
+            channel -> fetch(uri, channel, 0, this.rangeSize - 1)
+                .flatMap(length -> fetchRemaining(uri, channel, length)),
+            FileChannelWriter::close);
+    }
+
+    private static Mono<Void> allocate(FileChannel channel, long length) {
+        return Mono.fromCallable(() -> channel.write(ByteBuffer.allocate(1), length - 1))
+            .then();
+    }
+
+    private static Matcher getContentRange(HttpClientResponse response) {
+        String contentRange = response.responseHeaders().get(HttpHeaderNames.CONTENT_RANGE);
+        Matcher matcher = CONTENT_RANGE.matcher(contentRange == null ? "" : contentRange);
+
+        if (!matcher.matches()) {
+            throw new IllegalStateException(String.format("Unable to determine content length from Content-Range %s", contentRange));
+        }
+
+        return matcher;
+    }
+
+    private static boolean isRetryable(Throwable t) {
+        Throwable cause = Exceptions.unwrap(t);
+        return cause instanceof IOException || cause instanceof ServerErrorException;
+    }
+
+    private static boolean isStatus(HttpClientResponse response, HttpResponseStatus status) {
+        return response.status().code() == status.code();
+    }
+
+    private Mono<Long> fetch(String uri, FileChannel channel, long start, long end) {
+        AtomicLong length = new AtomicLong(-1);
+        AtomicLong position = new AtomicLong(start);
+
+        return Mono.defer(() -> {
+            if (position.get() > end && length.get() != -1) {
+                return Mono.just(length.get());
+            }
+
+            return this.httpClient
+                .headers(headers -> headers.set(HttpHeaderNames.RANGE, String.format("bytes=%d-%d", position.get(), end)))
+                .get()
+                .uri(uri)
+                .response((response, body) -> receive(uri, response, body, channel, start, end, position, length))
+                .singleOrEmpty();
+        })
+            .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                .filter(RangeDownloader::isRetryable));
+    }
+
+    private Mono<Void> fetchRemaining(String uri, FileChannel channel, long length) {
+        int ranges = (int) ((length - 1) / this.rangeSize);
+        if (ranges == 0) {
+            return Mono.empty();
+        }
+
+        return allocate(channel, length)
+            .thenMany(Flux.range(1, ranges))
+            .flatMap(index -> {
+                long start = index * this.rangeSize;
+                return fetch(uri, channel, start, Math.min(start + this.rangeSize, length) - 1);
+            }, CONCURRENCY)
+            .then();
+    }
+
+    private Mono<Long> receive(String uri, HttpClientResponse response, ByteBufFlux body, FileChannel channel, long start, long end,
+                               AtomicLong position, AtomicLong length) {
+        if (isStatus(response, HttpResponseStatus.PARTIAL_CONTENT)) {
+            Matcher contentRange = getContentRange(response);
+
+            if (Long.parseLong(contentRange.group(1)) != position.get() || Long.parseLong(contentRange.group(2)) > end) {
+                String message = String.format("Content-Range %s does not match requested range bytes=%d-%d for %s", contentRange.group(), position.get(), end, uri);
+                return body
+                    .then(Mono.error(new IllegalStateException(message)));
+            }
+
+            length.set(Long.parseLong(contentRange.group(3)));
+
+            return FileChannelWriter.write(body, channel, position)
+                .then(Mono.fromSupplier(length::get));
+        }
+
+        if (isStatus(response, HttpResponseStatus.OK) && start == 0) {
+            position.set(0);
+
+            return FileChannelWriter.write(body, channel, position)
+                .then(Mono.empty());
+        }
+
+        if (isStatus(response, HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE) && start == 0
+            && EMPTY_CONTENT_RANGE.equals(response.responseHeaders().get(HttpHeaderNames.CONTENT_RANGE))) {
+            length.set(0);
+
+            return body
+                .then(Mono.just(0L));
+        }
+
+        if (response.status().codeClass() == HttpStatusClass.SERVER_ERROR) {
+            return body
+                .then(Mono.error(new ServerErrorException(String.format("Server error status %s for range request to %s", response.status(), uri))));
+        }
+
+        return body
+            .then(Mono.error(new IllegalStateException(String.format("Unexpected response status %s for range request to %s", response.status(), uri))));
+    }
+
+    private static final class ServerErrorException extends IllegalStateException {
+
+        private static final long serialVersionUID = -3585478627427312618L;
+
+        private ServerErrorException(String message) {
+            super(message);
+        }
+
+    }
+
+}
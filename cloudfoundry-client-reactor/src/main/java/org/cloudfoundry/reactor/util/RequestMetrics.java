@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.reactor.MetricsRecorder;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.time.Duration;
+
+final class RequestMetrics {
+
+    private final String endpoint;
+
+    private final String method;
+
+    private final MetricsRecorder metricsRecorder;
+
+    private final String operation;
+
+    private long requestSentTime;
+
+    RequestMetrics(MetricsRecorder metricsRecorder, String endpoint, String operation, String method) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.metricsRecorder = metricsRecorder;
+        this.operation = operation;
+    }
+
+    void request(HttpClientRequest request) {
+        this.requestSentTime = System.nanoTime();
+    }
+
+    void requestError(HttpClientRequest request, Throwable error) {
+        this.metricsRecorder.recordError(this.endpoint, this.operation, this.method, getElapsed(), error);
+    }
+
+    void response(HttpClientResponse response) {
+        this.metricsRecorder.recordResponse(this.endpoint, this.operation, this.method, response.status().code(), getElapsed());
+    }
+
+    private Duration getElapsed() {
+        if (this.requestSentTime == 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos(System.nanoTime() - this.requestSentTime);
+    }
+
+}
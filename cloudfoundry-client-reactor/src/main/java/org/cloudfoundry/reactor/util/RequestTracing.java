@@ -0,0 +1,57 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.reactor.RequestTracer;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+
+final class RequestTracing {
+
+    private final String operation;
+
+    private final RequestTracer requestTracer;
+
+    private final String resourceType;
+
+    private RequestTracer.Span span;
+
+    RequestTracing(RequestTracer requestTracer, String operation, String resourceType) {
+        this.operation = operation;
+        this.requestTracer = requestTracer;
+        this.resourceType = resourceType;
+    }
+
+    void request(HttpClientRequest request) {
+        this.span = this.requestTracer.start(this.operation, this.resourceType, request);
+    }
+
+    void requestError(HttpClientRequest request, Throwable error) {
+        if (this.span != null) {
+            this.span.error(error);
+            this.span = null;
+        }
+    }
+
+    void response(HttpClientResponse response) {
+        if (this.span != null) {
+            this.span.response(response);
+            this.span = null;
+        }
+    }
+
+}
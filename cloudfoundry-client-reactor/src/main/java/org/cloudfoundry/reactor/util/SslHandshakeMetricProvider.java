@@ -0,0 +1,92 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.handler.ssl.SslHandler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the outcome and duration of TLS handshakes.  Register it with {@link #record(SslHandler)} as an {@code SslHandler} configurator.
+ */
+public final class SslHandshakeMetricProvider implements SslHandshakeMetricProviderMXBean {
+
+    private final LongAdder failedHandshakeCount = new LongAdder();
+
+    private final LongAdder handshakeCount = new LongAdder();
+
+    private final AtomicLong maximumHandshakeTime = new AtomicLong();
+
+    private final LongAdder resumedHandshakeCount = new LongAdder();
+
+    private final LongAdder totalHandshakeTime = new LongAdder();
+
+    @Override
+    public long getFailedHandshakeCount() {
+        return this.failedHandshakeCount.sum();
+    }
+
+    @Override
+    public long getHandshakeCount() {
+        return this.handshakeCount.sum();
+    }
+
+    @Override
+    public long getMaximumHandshakeTime() {
+        return this.maximumHandshakeTime.get();
+    }
+
+    @Override
+    public long getResumedHandshakeCount() {
+        return this.resumedHandshakeCount.sum();
+    }
+
+    @Override
+    public long getTotalHandshakeTime() {
+        return this.totalHandshakeTime.sum();
+    }
+
+    /**
+     * Records the handshake of an {@link SslHandler} once it completes
+     *
+     * @param sslHandler the {@link SslHandler} to record
+     */
+    public void record(SslHandler sslHandler) {
+        long startTime = System.nanoTime();
+        long startTimeMillis = System.currentTimeMillis();
+
+        sslHandler.handshakeFuture().addListener(future -> {
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+            this.totalHandshakeTime.add(duration);
+            this.maximumHandshakeTime.accumulateAndGet(duration, Math::max);
+
+            if (!future.isSuccess()) {
+                this.failedHandshakeCount.increment();
+                return;
+            }
+
+            this.handshakeCount.increment();
+            if (sslHandler.engine().getSession().getCreationTime() < startTimeMillis) {
+                this.resumedHandshakeCount.increment();
+            }
+        });
+    }
+
+}
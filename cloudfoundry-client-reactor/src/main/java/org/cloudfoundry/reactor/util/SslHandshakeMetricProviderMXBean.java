@@ -0,0 +1,46 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+public interface SslHandshakeMetricProviderMXBean {
+
+    /**
+     * Returns the number of TLS handshakes that have failed.
+     */
+    long getFailedHandshakeCount();
+
+    /**
+     * Returns the number of TLS handshakes that have completed successfully.
+     */
+    long getHandshakeCount();
+
+    /**
+     * Returns the duration, in milliseconds, of the longest TLS handshake.
+     */
+    long getMaximumHandshakeTime();
+
+    /**
+     * Returns the number of successful TLS handshakes that resumed a cached session rather than negotiating a new one.
+     */
+    long getResumedHandshakeCount();
+
+    /**
+     * Returns the total duration, in milliseconds, of all TLS handshakes.
+     */
+    long getTotalHandshakeTime();
+
+}
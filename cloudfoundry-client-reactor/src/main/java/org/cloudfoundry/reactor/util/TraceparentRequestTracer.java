@@ -0,0 +1,129 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.reactor.RequestTracer;
+import org.cloudfoundry.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.context.Context;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link RequestTracer} that propagates W3C Trace Context.  Each request is sent with a {@code traceparent} header identifying a new span.  If the
+ * subscriber's {@link Context} contains a {@code traceparent} under {@link #TRACEPARENT}, the span joins that trace as a child (along with any
+ * {@code tracestate} under {@link #TRACESTATE}), otherwise a new, sampled trace is started.  Completed spans are logged at debug level to
+ * {@code cloudfoundry-client.trace}.
+ */
+public final class TraceparentRequestTracer implements RequestTracer {
+
+    /**
+     * The name of the {@code traceparent} header, and the context key of the parent's {@code traceparent}
+     */
+    public static final String TRACEPARENT = "traceparent";
+
+    /**
+     * The name of the {@code tracestate} header, and the context key of the parent's {@code tracestate}
+     */
+    public static final String TRACESTATE = "tracestate";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.trace");
+
+    private static final String SAMPLED = "01";
+
+    private static final Pattern TRACEPARENT_PATTERN = Pattern.compile("^00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})$");
+
+    private static final String VERSION = "00";
+
+    @Override
+    public Span start(String operation, String resourceType, HttpClientRequest request) {
+        Context context = request.currentContext();
+        Optional<Matcher> parent = context.<String>getOrEmpty(TRACEPARENT)
+            .map(TRACEPARENT_PATTERN::matcher)
+            .filter(Matcher::matches);
+
+        String traceId = parent.map(matcher -> matcher.group(1)).orElseGet(() -> randomHex(16));
+        String parentId = parent.map(matcher -> matcher.group(2)).orElse(null);
+        String flags = parent.map(matcher -> matcher.group(3)).orElse(SAMPLED);
+        String spanId = randomHex(8);
+
+        request.header(TRACEPARENT, String.join("-", VERSION, traceId, spanId, flags));
+
+        if (parent.isPresent()) {
+            context.<String>getOrEmpty(TRACESTATE).ifPresent(traceState -> request.header(TRACESTATE, traceState));
+        }
+
+        return new TraceparentSpan(operation, traceId, spanId, parentId);
+    }
+
+    private static String randomHex(int length) {
+        byte[] bytes = new byte[length];
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        StringBuilder sb = new StringBuilder(length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return sb.toString();
+    }
+
+    private static final class TraceparentSpan implements Span {
+
+        private final String operation;
+
+        private final String parentId;
+
+        private final String spanId;
+
+        private final long startTime = System.currentTimeMillis();
+
+        private final String traceId;
+
+        private TraceparentSpan(String operation, String traceId, String spanId, String parentId) {
+            this.operation = operation;
+            this.parentId = parentId;
+            this.spanId = spanId;
+            this.traceId = traceId;
+        }
+
+        @Override
+        public void error(Throwable error) {
+            end(error.getClass().getSimpleName());
+        }
+
+        @Override
+        public void response(HttpClientResponse response) {
+            end(String.valueOf(response.status().code()));
+        }
+
+        private void end(String outcome) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("{} {} (trace: {}, span: {}, parent: {}, {})", this.operation, outcome, this.traceId, this.spanId, this.parentId,
+                    TimeUtils.asTime(System.currentTimeMillis() - this.startTime));
+            }
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@ package org.cloudfoundry.reactor.util;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
 import org.immutables.value.Value;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Optional;
 
@@ -28,8 +29,26 @@ public interface _OperatorContext {
     @Value.Parameter
     ConnectionContext getConnectionContext();
 
+    /**
+     * The host of the root, used to identify the endpoint in metrics
+     */
+    @Value.Lazy
+    default String getEndpoint() {
+        return UriComponentsBuilder.fromUriString(getRoot()).build().getHost();
+    }
+
     Optional<ErrorPayloadMapper> getErrorPayloadMapper();
 
+    /**
+     * The logical operation making the request, such as {@code applicationsV3.list}
+     */
+    Optional<String> getOperation();
+
+    /**
+     * The type of resource the operation acts on, such as {@code applicationsV3}
+     */
+    Optional<String> getResourceType();
+
     @Value.Parameter
     String getRoot();
 
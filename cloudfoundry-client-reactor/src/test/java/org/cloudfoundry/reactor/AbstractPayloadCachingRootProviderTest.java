@@ -0,0 +1,195 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.springframework.web.util.UriComponents;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class AbstractPayloadCachingRootProviderTest {
+
+    private final StubRootProvider rootProvider = new StubRootProvider();
+
+    @Test
+    public void doesNotCacheFailure() {
+        this.rootProvider.payloads.add(Mono.error(new IllegalStateException("test-message")));
+        this.rootProvider.payloads.add(payload("test-value-1"));
+        ConnectionContext connectionContext = connectionContext(Duration.ofHours(1));
+
+        this.rootProvider.doGetRoot("test-key", connectionContext)
+            .as(StepVerifier::create)
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(5));
+
+        expectRoot(connectionContext, "test-value-1");
+        assertThat(this.rootProvider.requests).hasValue(2);
+    }
+
+    @Test
+    public void fresh() {
+        this.rootProvider.payloads.add(payload("test-value-1"));
+        ConnectionContext connectionContext = connectionContext(Duration.ofHours(1));
+
+        expectRoot(connectionContext, "test-value-1");
+        expectRoot(connectionContext, "test-value-1");
+        assertThat(this.rootProvider.requests).hasValue(1);
+    }
+
+    @Test
+    public void getRootDoesNotCacheFailure() {
+        this.rootProvider.payloads.add(Mono.error(new IllegalStateException("test-message")));
+        this.rootProvider.payloads.add(payload("test-value-1"));
+        Mono<String> root = this.rootProvider.getRoot("test-key", DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .build());
+
+        root
+            .as(StepVerifier::create)
+            .expectError(IllegalStateException.class)
+            .verify(Duration.ofSeconds(5));
+
+        root
+            .as(StepVerifier::create)
+            .expectNext("http://test-value-1:443")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void getRootServesRefreshedPayload() throws InterruptedException {
+        this.rootProvider.payloads.add(payload("test-value-1"));
+        this.rootProvider.payloads.add(payload("test-value-2"));
+        Mono<String> root = this.rootProvider.getRoot("test-key", connectionContext(Duration.ofMillis(200)));
+
+        root
+            .as(StepVerifier::create)
+            .expectNext("http://test-value-1:443")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        Thread.sleep(250);
+
+        root
+            .as(StepVerifier::create)
+            .expectNext("http://test-value-1:443")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        root
+            .as(StepVerifier::create)
+            .expectNext("http://test-value-2:443")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void staleKeepsPayloadOnFailure() {
+        this.rootProvider.payloads.add(payload("test-value-1"));
+        this.rootProvider.payloads.add(Mono.error(new IllegalStateException("test-message")));
+        this.rootProvider.payloads.add(payload("test-value-2"));
+        ConnectionContext connectionContext = connectionContext(Duration.ZERO);
+
+        expectRoot(connectionContext, "test-value-1");
+        expectRoot(connectionContext, "test-value-1");
+        expectRoot(connectionContext, "test-value-1");
+        expectRoot(connectionContext, "test-value-2");
+    }
+
+    @Test
+    public void staleRefreshesOnce() {
+        this.rootProvider.payloads.add(payload("test-value-1"));
+        this.rootProvider.payloads.add(Mono.never());
+        ConnectionContext connectionContext = connectionContext(Duration.ZERO);
+
+        expectRoot(connectionContext, "test-value-1");
+        expectRoot(connectionContext, "test-value-1");
+        expectRoot(connectionContext, "test-value-1");
+        assertThat(this.rootProvider.requests).hasValue(2);
+    }
+
+    private static ConnectionContext connectionContext(Duration cacheDuration) {
+        return DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .cacheDuration(cacheDuration)
+            .build();
+    }
+
+    private static Mono<Map<String, String>> payload(String value) {
+        return Mono.just(Collections.singletonMap("test-key", String.format("http://%s", value)));
+    }
+
+    private void expectRoot(ConnectionContext connectionContext, String host) {
+        this.rootProvider.doGetRoot("test-key", connectionContext)
+            .map(UriComponents::getHost)
+            .as(StepVerifier::create)
+            .expectNext(host)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static final class StubRootProvider extends AbstractPayloadCachingRootProvider {
+
+        private final Queue<Mono<Map<String, String>>> payloads = new LinkedList<>();
+
+        private final AtomicInteger requests = new AtomicInteger();
+
+        @Override
+        public String getApiHost() {
+            return "localhost";
+        }
+
+        @Override
+        protected Mono<Map<String, String>> doGetPayload(ConnectionContext connectionContext) {
+            this.requests.incrementAndGet();
+            return this.payloads.remove();
+        }
+
+        @Override
+        protected Mono<UriComponents> doGetRoot(ConnectionContext connectionContext) {
+            return Mono.just(getRoot());
+        }
+
+        @Override
+        ObjectMapper getObjectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Override
+        Optional<Integer> getPort() {
+            return Optional.empty();
+        }
+
+        @Override
+        Optional<Boolean> getSecure() {
+            return Optional.of(false);
+        }
+
+    }
+
+}
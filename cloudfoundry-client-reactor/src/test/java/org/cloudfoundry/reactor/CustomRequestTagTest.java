@@ -69,7 +69,7 @@ public final class CustomRequestTagTest extends AbstractRestTest {
         return new AbstractReactorOperations(this.connectionContext, this.root, TOKEN_PROVIDER, Collections.singletonMap(CUSTOM_REQUEST_TAG_NAME, CUSTOM_REQUEST_TAG_VALUE)) {
 
             private Mono<Operator> getOperator() {
-                return createOperator();
+                return createOperator("get");
             }
 
         }.getOperator();
@@ -18,12 +18,16 @@ package org.cloudfoundry.reactor;
 
 import org.junit.After;
 import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.LoopResources;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
 
 import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpMethod.HEAD;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public final class DefaultConnectionContextTest extends AbstractRestTest {
 
@@ -38,6 +42,29 @@ public final class DefaultConnectionContextTest extends AbstractRestTest {
         this.connectionContext.dispose();
     }
 
+    @Test
+    public void exportRoots() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_local_response.json")
+                .build())
+            .build());
+
+        this.connectionContext
+            .exportRoots()
+            .as(StepVerifier::create)
+            .consumeNextWith(roots -> assertThat(roots)
+                .hasSize(6)
+                .containsEntry("cloud_controller_v2", String.format("http://localhost:%d/v2", this.mockWebServer.getPort()))
+                .containsEntry("uaa", String.format("http://localhost:%d/uaa", this.mockWebServer.getPort())))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void getInfo() {
         mockRequest(InteractionContext.builder()
@@ -85,4 +112,72 @@ public final class DefaultConnectionContextTest extends AbstractRestTest {
         second.dispose();
     }
 
+    @Test
+    public void sharedLoopResources() {
+        LoopResources loopResources = LoopResources.create("test-loop-resources");
+
+        DefaultConnectionContext first = DefaultConnectionContext.builder()
+            .apiHost("test-host")
+            .loopResources(loopResources)
+            .build();
+
+        DefaultConnectionContext second = DefaultConnectionContext.builder()
+            .apiHost("test-host")
+            .loopResources(loopResources)
+            .build();
+
+        assertThat(first.getThreadPool()).isSameAs(loopResources);
+        assertThat(second.getThreadPool()).isSameAs(loopResources);
+
+        first.dispose();
+        second.dispose();
+
+        assertThat(loopResources.isDisposed()).isFalse();
+        loopResources.dispose();
+    }
+
+    @Test
+    public void sslSessionConfiguration() {
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost("test-host")
+            .sslSessionCacheSize(100L)
+            .sslSessionTimeout(Duration.ofMinutes(5))
+            .build();
+
+        assertThat(connectionContext.getSslContext().sessionCacheSize()).isEqualTo(100L);
+        assertThat(connectionContext.getSslContext().sessionTimeout()).isEqualTo(300L);
+
+        connectionContext.dispose();
+    }
+
+    @Test
+    public void warmUp() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_local_response.json")
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(HEAD).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .build())
+            .build());
+
+        this.connectionContext
+            .warmUp(connectionContext -> Mono.just("test-authorization"))
+            .then(this.connectionContext.getRootProvider().getRoot("uaa", this.connectionContext))
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://localhost:%d/uaa", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor;
+
+import org.cloudfoundry.client.v2.info.GetInfoRequest;
+import org.cloudfoundry.reactor.client.ReactorCloudFoundryClient;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+public final class PinnedRootProviderTest extends AbstractRestTest {
+
+    @Test
+    public void getRoot() {
+        rootProvider(false, "http://api.run.pivotal.io/v2")
+            .getRoot(CONNECTION_CONTEXT)
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://localhost:%d", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void getRootKey() {
+        rootProvider(false, "http://api.run.pivotal.io/v2")
+            .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void getRootKeyNoKey() {
+        rootProvider(false, "http://api.run.pivotal.io/v2")
+            .getRoot("invalid-key", CONNECTION_CONTEXT)
+            .as(StepVerifier::create)
+            .expectError(IllegalArgumentException.class)
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void clientUsesValidatedEndpoint() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_local_response.json")
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/v2/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/info/GET_response.json")
+                .build())
+            .build());
+
+        DefaultConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .port(this.mockWebServer.getPort())
+            .rootProvider(rootProvider(true, "http://localhost/stale/v2"))
+            .secure(false)
+            .build();
+
+        try {
+            ReactorCloudFoundryClient.builder()
+                .connectionContext(connectionContext)
+                .tokenProvider(TOKEN_PROVIDER)
+                .build()
+                .info()
+                .get(GetInfoRequest.builder()
+                    .build())
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            connectionContext.dispose();
+        }
+    }
+
+    @Test
+    public void getRootKeyValidate() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/GET_response.json")
+                .build())
+            .build());
+
+        rootProvider(true, "http://api.stale.example/v2")
+            .getRoot("cloud_controller_v2", CONNECTION_CONTEXT)
+            .as(StepVerifier::create)
+            .expectNext(String.format("http://api.run.pivotal.io:%d/v2", this.mockWebServer.getPort()))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private PinnedRootProvider rootProvider(boolean validate, String cloudControllerV2) {
+        return PinnedRootProvider.builder()
+            .apiHost("localhost")
+            .endpoints(Collections.singletonMap("cloud_controller_v2", cloudControllerV2))
+            .port(this.mockWebServer.getPort())
+            .secure(false)
+            .validate(validate)
+            .build();
+    }
+
+}
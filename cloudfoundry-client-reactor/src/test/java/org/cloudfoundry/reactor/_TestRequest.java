@@ -59,10 +59,14 @@ abstract class _TestRequest {
         assertThat(getMethod()).hasToString(request.getMethod());
         assertThat(extractPath(request)).isEqualTo(getPath());
 
-        assertThat(request.getHeader(HttpHeaderNames.TRANSFER_ENCODING.toString())).as("Does not have Transfer-Encoding header").isNull();
+        if (getChunked()) {
+            assertThat(request.getHeader(HttpHeaderNames.TRANSFER_ENCODING.toString())).as("Has chunked Transfer-Encoding header").isEqualTo("chunked");
+        } else {
+            assertThat(request.getHeader(HttpHeaderNames.TRANSFER_ENCODING.toString())).as("Does not have Transfer-Encoding header").isNull();
 
-        if (!HttpMethod.GET.toString().equals(request.getMethod())) {
-            assertThat(request.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString())).as("Has Content-Length header").isNotNull();
+            if (!HttpMethod.GET.toString().equals(request.getMethod())) {
+                assertThat(request.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString())).as("Has Content-Length header").isNotNull();
+            }
         }
 
         getHeaders().forEach((key, value) -> {
@@ -84,6 +88,11 @@ abstract class _TestRequest {
 
     abstract Optional<Consumer<Tuple2<Headers, Buffer>>> getContents();
 
+    @Value.Default
+    boolean getChunked() {
+        return false;
+    }
+
     @AllowNulls
     abstract Map<String, String> getHeaders();
 
@@ -82,10 +82,21 @@ import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 import reactor.test.StepVerifier;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.stream.Stream;
+import java.util.zip.ZipInputStream;
 
 import static io.netty.handler.codec.http.HttpMethod.DELETE;
 import static io.netty.handler.codec.http.HttpMethod.GET;
@@ -298,6 +309,32 @@ public final class ReactorApplicationsV2Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadToFile() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/apps/test-application-id/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/apps/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        Path target = Files.createTempFile("test-download-", ".bin");
+        target.toFile().deleteOnExit();
+
+        this.applications
+            .download(DownloadApplicationRequest.builder()
+                .applicationId("test-application-id")
+                .build(), target)
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin"));
+    }
+
     @Test
     public void downloadDroplet() {
         mockRequest(InteractionContext.builder()
@@ -321,6 +358,33 @@ public final class ReactorApplicationsV2Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadDropletToFile() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/apps/test-application-id/droplet/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/apps/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        Path target = Files.createTempFile("test-download-", ".bin");
+        target.toFile().deleteOnExit();
+
+        this.applications
+            .downloadDroplet(DownloadApplicationDropletRequest.builder()
+                .applicationId("test-application-id")
+                .hash("a53f2b8828c0d196921c08df7d4d80f444fa97e5")
+                .build(), target)
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(getBytes("fixtures/client/v2/apps/GET_{id}_download_response.bin"));
+    }
+
     @Test
     public void environment() {
         mockRequest(InteractionContext.builder()
@@ -1049,6 +1113,44 @@ public final class ReactorApplicationsV2Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void uploadDirectory() throws IOException {
+        Path application = Files.createTempDirectory("test-application-");
+        Files.write(application.resolve("matched.txt"), "test-matched".getBytes(StandardCharsets.UTF_8));
+        Files.write(application.resolve("unmatched.txt"), "test-unmatched".getBytes(StandardCharsets.UTF_8));
+
+        try {
+            mockRequest(InteractionContext.builder()
+                .request(TestRequest.builder()
+                    .method(PUT).path("/apps/test-application-id/bits")
+                    .chunked(true)
+                    .contents(consumer((headers, body) -> assertThat(getZipEntryNames(body.readByteArray())).containsExactly("unmatched.txt")))
+                    .build())
+                .response(TestResponse.builder()
+                    .status(CREATED)
+                    .payload("fixtures/client/v2/apps/PUT_{id}_bits_response.json")
+                    .build())
+                .build());
+
+            this.applications
+                .upload(UploadApplicationRequest.builder()
+                    .application(application)
+                    .applicationId("test-application-id")
+                    .resource(Resource.builder()
+                        .hash("b907173290db6a155949ab4dc9b2d019dea0c901")
+                        .path("matched.txt")
+                        .size(12)
+                        .build())
+                    .build())
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            delete(application);
+        }
+    }
+
     @Test
     public void uploadDroplet() throws IOException {
         mockRequest(InteractionContext.builder()
@@ -1096,4 +1198,29 @@ public final class ReactorApplicationsV2Test extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths
+                .sorted(Comparator.reverseOrder())
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static List<String> getZipEntryNames(byte[] body) {
+        int start = new String(body, StandardCharsets.ISO_8859_1).indexOf("PK\u0003\u0004");
+
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(body, start, body.length - start))) {
+            List<String> names = new ArrayList<>();
+
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+
+            return names;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
@@ -59,6 +59,8 @@ import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collections;
 
@@ -234,6 +236,64 @@ public final class ReactorPackagesTest extends AbstractClientApiTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void downloadToFile() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/packages/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        Path target = Files.createTempFile("test-download-", ".bin");
+        target.toFile().deleteOnExit();
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .checksum(Checksum.builder()
+                    .type(ChecksumType.SHA256)
+                    .value("db1cde6b061c093de881ef64422177cbcf4b65eaf6ef6d1e907c1ab44d5f5440")
+                    .build())
+                .packageId("test-package-id")
+                .build(), target)
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(Files.readAllBytes(target)).isEqualTo(getBytes("fixtures/client/v3/packages/GET_{id}_download_response.bin"));
+    }
+
+    @Test
+    public void downloadToFileChecksumMismatch() throws IOException {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/packages/test-package-id/download")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v3/packages/GET_{id}_download_response.bin")
+                .build())
+            .build());
+
+        Path target = Files.createTempFile("test-download-", ".bin");
+        target.toFile().deleteOnExit();
+
+        this.packages
+            .download(DownloadPackageRequest.builder()
+                .checksum(Checksum.builder()
+                    .type(ChecksumType.SHA1)
+                    .value("0000000000000000000000000000000000000000")
+                    .build())
+                .packageId("test-package-id")
+                .build(), target)
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(IllegalStateException.class).hasMessageStartingWith("Checksum mismatch"))
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void get() {
         mockRequest(InteractionContext.builder()
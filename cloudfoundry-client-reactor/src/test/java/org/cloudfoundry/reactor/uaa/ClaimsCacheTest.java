@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.uaa;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ClaimsCacheTest {
+
+    private final ClaimsCache claimsCache = new ClaimsCache(2);
+
+    @Test
+    public void getCached() {
+        Claims claims = getClaims(Instant.now().plus(Duration.ofHours(1)));
+
+        this.claimsCache.put("test-token", claims);
+
+        assertThat(this.claimsCache.get("test-token")).hasValue(claims);
+    }
+
+    @Test
+    public void getExpired() {
+        this.claimsCache.put("test-token", getClaims(Instant.now().minus(Duration.ofHours(1))));
+
+        assertThat(this.claimsCache.get("test-token")).isEmpty();
+    }
+
+    @Test
+    public void getMissing() {
+        assertThat(this.claimsCache.get("test-token")).isEmpty();
+    }
+
+    @Test
+    public void putEvictsEarliestExpiration() {
+        Claims first = getClaims(Instant.now().plus(Duration.ofHours(1)));
+        Claims second = getClaims(Instant.now().plus(Duration.ofHours(2)));
+        Claims third = getClaims(Instant.now().plus(Duration.ofHours(3)));
+
+        this.claimsCache.put("test-token-1", first);
+        this.claimsCache.put("test-token-2", second);
+        this.claimsCache.put("test-token-3", third);
+
+        assertThat(this.claimsCache.get("test-token-1")).isEmpty();
+        assertThat(this.claimsCache.get("test-token-2")).hasValue(second);
+        assertThat(this.claimsCache.get("test-token-3")).hasValue(third);
+    }
+
+    private static Claims getClaims(Instant expiration) {
+        return new DefaultClaims()
+            .setExpiration(Date.from(expiration));
+    }
+
+}
@@ -16,11 +16,7 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.impl.Base64Codec;
-import io.jsonwebtoken.impl.DefaultClaims;
-import io.jsonwebtoken.impl.DefaultJwsHeader;
 import org.cloudfoundry.uaa.tokens.KeyType;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
 import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
@@ -28,14 +24,19 @@ import org.cloudfoundry.uaa.tokens.TokenKey;
 import org.cloudfoundry.uaa.tokens.Tokens;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class UaaSigningKeyResolverTest {
@@ -55,23 +56,20 @@ public final class UaaSigningKeyResolverTest {
                 .build())
         ).thenReturn(
             Mono.just(ListTokenKeysResponse.builder()
-                .key(TokenKey.builder()
-                    .algorithm(publicKey.getAlgorithm())
-                    .e("")
-                    .id("test-key-id")
-                    .keyType(KeyType.RSA)
-                    .n("")
-                    .use("")
-                    .value(getEncoded(publicKey))
-                    .build())
+                .key(getTokenKey(publicKey))
                 .build())
         );
 
-        JwsHeader<?> header = new DefaultJwsHeader().setKeyId("test-key-id");
-        Claims claims = new DefaultClaims();
+        this.signingKeyResolver
+            .resolveSigningKey("test-key-id")
+            .then(this.signingKeyResolver.resolveSigningKey("test-key-id"))
+            .as(StepVerifier::create)
+            .expectNext(publicKey)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
 
-        this.signingKeyResolver.resolveSigningKey(header, claims);
-        assertThat(this.signingKeyResolver.resolveSigningKey(header, claims)).isNotNull();
+        verify(this.tokens, times(1)).listKeys(ListTokenKeysRequest.builder()
+            .build());
     }
 
     @Test
@@ -83,25 +81,48 @@ public final class UaaSigningKeyResolverTest {
                 .build())
         ).thenReturn(
             Mono.just(ListTokenKeysResponse.builder()
-                .key(TokenKey.builder()
-                    .algorithm(publicKey.getAlgorithm())
-                    .e("")
-                    .id("test-key-id")
-                    .keyType(KeyType.RSA)
-                    .n("")
-                    .use("")
-                    .value(getEncoded(publicKey))
-                    .build())
+                .key(getTokenKey(publicKey))
                 .build())
         );
 
-        JwsHeader<?> header = new DefaultJwsHeader().setKeyId("test-key-id");
-        Claims claims = new DefaultClaims();
+        this.signingKeyResolver
+            .resolveSigningKey("test-key-id")
+            .as(StepVerifier::create)
+            .expectNext(publicKey)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void resolveSharedRefresh() throws NoSuchAlgorithmException {
+        PublicKey publicKey = getKeyPair().getPublic();
+        AtomicInteger subscriptions = new AtomicInteger();
+
+        when(
+            this.tokens.listKeys(ListTokenKeysRequest.builder()
+                .build())
+        ).thenReturn(
+            Mono.just(ListTokenKeysResponse.builder()
+                .key(getTokenKey(publicKey))
+                .build())
+                .delayElement(Duration.ofMillis(100))
+                .doOnSubscribe(s -> subscriptions.incrementAndGet())
+        );
 
-        assertThat(this.signingKeyResolver.resolveSigningKey(header, claims)).isNotNull();
+        Mono
+            .zip(this.signingKeyResolver.resolveSigningKey("test-key-id"), this.signingKeyResolver.resolveSigningKey("test-key-id"))
+            .as(StepVerifier::create)
+            .assertNext(keys -> {
+                assertThat(keys.getT1()).isEqualTo(publicKey);
+                assertThat(keys.getT2()).isEqualTo(publicKey);
+            })
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(subscriptions).hasValue(1);
     }
 
-    @Test(expected = IllegalStateException.class)
+    @Test
     public void resolveUnknownKey() {
         when(
             this.tokens.listKeys(ListTokenKeysRequest.builder()
@@ -111,16 +132,75 @@ public final class UaaSigningKeyResolverTest {
                 .build())
         );
 
-        JwsHeader<?> header = new DefaultJwsHeader().setKeyId("test-key-id");
-        Claims claims = new DefaultClaims();
+        this.signingKeyResolver
+            .resolveSigningKey("test-key-id")
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(IllegalStateException.class).hasMessage("Unable to retrieve signing key test-key-id"))
+            .verify(Duration.ofSeconds(5));
+    }
 
-        this.signingKeyResolver.resolveSigningKey(header, claims);
+    @Test
+    public void resolveUnknownKeyCached() {
+        when(
+            this.tokens.listKeys(ListTokenKeysRequest.builder()
+                .build())
+        ).thenReturn(
+            Mono.just(ListTokenKeysResponse.builder()
+                .build())
+        );
+
+        this.signingKeyResolver
+            .resolveSigningKey("test-key-id")
+            .onErrorResume(IllegalStateException.class, t -> this.signingKeyResolver.resolveSigningKey("test-key-id"))
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(IllegalStateException.class).hasMessage("Unable to retrieve signing key test-key-id"))
+            .verify(Duration.ofSeconds(5));
+
+        verify(this.tokens, times(1)).listKeys(ListTokenKeysRequest.builder()
+            .build());
+    }
+
+    @Test
+    public void resolveUnknownKeyEvicted() {
+        when(
+            this.tokens.listKeys(ListTokenKeysRequest.builder()
+                .build())
+        ).thenReturn(
+            Mono.just(ListTokenKeysResponse.builder()
+                .build())
+        );
+
+        UaaSigningKeyResolver signingKeyResolver = new UaaSigningKeyResolver(this.tokens, 1);
+
+        signingKeyResolver
+            .resolveSigningKey("test-key-id-1")
+            .onErrorResume(IllegalStateException.class, t -> signingKeyResolver.resolveSigningKey("test-key-id-2"))
+            .onErrorResume(IllegalStateException.class, t -> signingKeyResolver.resolveSigningKey("test-key-id-2"))
+            .onErrorResume(IllegalStateException.class, t -> signingKeyResolver.resolveSigningKey("test-key-id-1"))
+            .as(StepVerifier::create)
+            .consumeErrorWith(t -> assertThat(t).isInstanceOf(IllegalStateException.class).hasMessage("Unable to retrieve signing key test-key-id-1"))
+            .verify(Duration.ofSeconds(5));
+
+        verify(this.tokens, times(3)).listKeys(ListTokenKeysRequest.builder()
+            .build());
     }
 
     private static String getEncoded(PublicKey publicKey) {
         return String.format("-----BEGIN PUBLIC KEY-----\n%s\n-----END PUBLIC KEY-----", BASE64.encode(publicKey.getEncoded()));
     }
 
+    private static TokenKey getTokenKey(PublicKey publicKey) {
+        return TokenKey.builder()
+            .algorithm(publicKey.getAlgorithm())
+            .e("")
+            .id("test-key-id")
+            .keyType(KeyType.RSA)
+            .n("")
+            .use("")
+            .value(getEncoded(publicKey))
+            .build();
+    }
+
     private KeyPair getKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
         keyPairGenerator.initialize(1024);
@@ -16,14 +16,18 @@
 
 package org.cloudfoundry.reactor.uaa;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwsHeader;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.impl.Base64Codec;
 import io.jsonwebtoken.impl.DefaultJwsHeader;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.TokenProvider;
+import org.cloudfoundry.uaa.tokens.KeyType;
+import org.cloudfoundry.uaa.tokens.ListTokenKeysRequest;
+import org.cloudfoundry.uaa.tokens.ListTokenKeysResponse;
+import org.cloudfoundry.uaa.tokens.TokenKey;
+import org.cloudfoundry.uaa.tokens.Tokens;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -32,31 +36,55 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
+import java.security.PublicKey;
 import java.sql.Date;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class UsernameProviderTest {
 
-    private final ConnectionContext connectionContext = mock(ConnectionContext.class);
+    private static final Base64Codec BASE64 = new Base64Codec();
 
-    private final SigningKeyResolver signingKeyResolver = mock(SigningKeyResolver.class);
+    private final ConnectionContext connectionContext = mock(ConnectionContext.class);
 
     private final TokenProvider tokenProvider = mock(TokenProvider.class);
 
-    private final UsernameProvider usernameProvider = new UsernameProvider(this.connectionContext, this.signingKeyResolver, this.tokenProvider);
+    private final Tokens tokens = mock(Tokens.class);
+
+    private final UsernameProvider usernameProvider = new UsernameProvider(this.connectionContext, this.tokenProvider, this.tokens);
+
+    @Test
+    public void getCachedToken() throws NoSuchAlgorithmException {
+        KeyPair keyPair = getKeyPair();
+        when(this.connectionContext.getObjectMapper()).thenReturn(new ObjectMapper());
+        requestListKeys(this.tokens, keyPair.getPublic());
+
+        String token = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
+        when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(token));
+
+        this.usernameProvider
+            .get()
+            .then(this.usernameProvider.get())
+            .as(StepVerifier::create)
+            .expectNext("test-username")
+            .expectComplete()
+            .verify(Duration.ofSeconds(1));
+
+        verify(this.connectionContext, times(1)).getObjectMapper();
+    }
 
     @SuppressWarnings("unchecked")
     @Test
     public void getInvalidToken() throws NoSuchAlgorithmException {
         KeyPair keyPair = getKeyPair();
-        when(this.signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class))).thenReturn(keyPair.getPublic());
+        when(this.connectionContext.getObjectMapper()).thenReturn(new ObjectMapper());
+        requestListKeys(this.tokens, keyPair.getPublic());
 
         String invalidToken = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().minus(Duration.ofHours(1))));
         String validToken = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
@@ -75,7 +103,8 @@ public final class UsernameProviderTest {
     @Test
     public void getValidToken() throws NoSuchAlgorithmException {
         KeyPair keyPair = getKeyPair();
-        when(this.signingKeyResolver.resolveSigningKey(any(JwsHeader.class), any(Claims.class))).thenReturn(keyPair.getPublic());
+        when(this.connectionContext.getObjectMapper()).thenReturn(new ObjectMapper());
+        requestListKeys(this.tokens, keyPair.getPublic());
 
         String token = String.format("bearer %s", getToken(keyPair.getPrivate(), Instant.now().plus(Duration.ofHours(1))));
         when(this.tokenProvider.getToken(this.connectionContext)).thenReturn(Mono.just(token));
@@ -88,6 +117,10 @@ public final class UsernameProviderTest {
             .verify(Duration.ofSeconds(1));
     }
 
+    private static String getEncoded(PublicKey publicKey) {
+        return String.format("-----BEGIN PUBLIC KEY-----\n%s\n-----END PUBLIC KEY-----", BASE64.encode(publicKey.getEncoded()));
+    }
+
     @SuppressWarnings("unchecked")
     private static String getToken(PrivateKey privateKey, Instant expiration) {
         return Jwts.builder()
@@ -98,6 +131,25 @@ public final class UsernameProviderTest {
             .compact();
     }
 
+    private static void requestListKeys(Tokens tokens, PublicKey publicKey) {
+        when(
+            tokens.listKeys(ListTokenKeysRequest.builder()
+                .build())
+        ).thenReturn(
+            Mono.just(ListTokenKeysResponse.builder()
+                .key(TokenKey.builder()
+                    .algorithm(publicKey.getAlgorithm())
+                    .e("")
+                    .id("test-key")
+                    .keyType(KeyType.RSA)
+                    .n("")
+                    .use("")
+                    .value(getEncoded(publicKey))
+                    .build())
+                .build())
+        );
+    }
+
     private KeyPair getKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
         keyPairGenerator.initialize(1024);
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import io.netty.buffer.ByteBuf;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class FluxSinkOutputStreamTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Test
+    public void backpressure() {
+        AtomicInteger chunksWritten = new AtomicInteger();
+
+        Flux<ByteBuf> content = FluxSinkOutputStream.create(out -> {
+            for (int i = 0; i < 4; i++) {
+                write(out, new byte[CHUNK_SIZE]);
+                chunksWritten.incrementAndGet();
+            }
+        }, Schedulers.elastic());
+
+        content
+            .map(ByteBuf::readableBytes)
+            .as(publisher -> StepVerifier.create(publisher, 1))
+            .expectNext(CHUNK_SIZE)
+            .expectNoEvent(Duration.ofMillis(100))
+            .then(() -> assertThat(chunksWritten.get()).isLessThanOrEqualTo(2))
+            .thenRequest(3)
+            .expectNext(CHUNK_SIZE, CHUNK_SIZE, CHUNK_SIZE)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        CountDownLatch terminated = new CountDownLatch(1);
+
+        Flux<ByteBuf> content = FluxSinkOutputStream.create(out -> {
+            try {
+                while (true) {
+                    write(out, new byte[CHUNK_SIZE]);
+                }
+            } finally {
+                terminated.countDown();
+            }
+        }, Schedulers.elastic());
+
+        content
+            .as(publisher -> StepVerifier.create(publisher, 1))
+            .expectNextCount(1)
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(terminated.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void partialChunk() {
+        FluxSinkOutputStream.create(out -> write(out, "test-content".getBytes()), Schedulers.elastic())
+            .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+            .as(StepVerifier::create)
+            .expectNext("test-content")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private static void write(OutputStream out, byte[] bytes) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
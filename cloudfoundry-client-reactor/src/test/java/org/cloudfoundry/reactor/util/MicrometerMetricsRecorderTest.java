@@ -0,0 +1,239 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cloudfoundry.client.v2.info.GetInfoRequest;
+import org.cloudfoundry.reactor.AbstractRestTest;
+import org.cloudfoundry.reactor.ConnectionContext;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.TestRequest;
+import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.reactor.client.v2.info.ReactorInfo;
+import org.junit.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class MicrometerMetricsRecorderTest extends AbstractRestTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConnectionContext connectionContext = DefaultConnectionContext.builder()
+        .apiHost("localhost")
+        .decodeLogThreshold(Duration.ZERO)
+        .metricsRecorder(new MicrometerMetricsRecorder(this.meterRegistry))
+        .secure(false)
+        .build();
+
+    private final ReactorInfo info = new ReactorInfo(this.connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap());
+
+    @Test
+    public void decodeFailure() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/uaa/identity-zones/GET_response.json")
+                .build())
+            .build());
+
+        this.info
+            .get(GetInfoRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectError(JsonParsingException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.meterRegistry.get("cloudfoundry.client.decode.failures")
+            .tag("operation", "info.get")
+            .tag("type", "GetInfoResponse")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void decode() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/info/GET_response.json")
+                .build())
+            .build());
+
+        this.info
+            .get(GetInfoRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.meterRegistry.get("cloudfoundry.client.decode")
+            .tag("operation", "info.get")
+            .tag("type", "GetInfoResponse")
+            .timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("cloudfoundry.client.decode.received")
+            .tag("type", "GetInfoResponse")
+            .summary().totalAmount()).isGreaterThan(0);
+    }
+
+    @Test
+    public void decodeLogThresholdOnly() {
+        ConnectionContext connectionContext = DefaultConnectionContext.builder()
+            .apiHost("localhost")
+            .decodeLogThreshold(Duration.ZERO)
+            .secure(false)
+            .build();
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/info/GET_response.json")
+                .build())
+            .build());
+
+        Logger logger = (Logger) DecodeMetrics.DECODE_LOGGER;
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+
+        try {
+            new ReactorInfo(connectionContext, this.root, TOKEN_PROVIDER, Collections.emptyMap())
+                .get(GetInfoRequest.builder()
+                    .build())
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .anySatisfy(message -> assertThat(message).startsWith("Decoding GetInfoResponse for info.get took"));
+    }
+
+    @Test
+    public void request() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/info/GET_response.json")
+                .build())
+            .build());
+
+        this.info
+            .get(GetInfoRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.meterRegistry.get("cloudfoundry.client.requests")
+            .tag("method", "GET")
+            .tag("operation", "info.get")
+            .tag("outcome", "SUCCESS")
+            .tag("status", "200")
+            .timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("cloudfoundry.client.responses")
+            .tag("outcome", "SUCCESS")
+            .counter().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("cloudfoundry.client.connections.active").gauge()).isNotNull();
+    }
+
+    @Test
+    public void rootPayloadRefresh() {
+        MicrometerMetricsRecorder metricsRecorder = new MicrometerMetricsRecorder(this.meterRegistry);
+
+        metricsRecorder.recordRootPayloadRefresh("test-endpoint", Duration.ZERO, true);
+        metricsRecorder.recordRootPayloadRefresh("test-endpoint", Duration.ofMinutes(5), false);
+
+        assertThat(this.meterRegistry.get("cloudfoundry.client.root.refreshes")
+            .tag("endpoint", "test-endpoint")
+            .tag("outcome", "FAILURE")
+            .timer().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("cloudfoundry.client.root.age")
+            .tag("endpoint", "test-endpoint")
+            .timeGauge()).isNotNull();
+    }
+
+    @Test
+    public void retryAfterInvalidToken() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(UNAUTHORIZED)
+                .build())
+            .build());
+
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/info/GET_response.json")
+                .build())
+            .build());
+
+        this.info
+            .get(GetInfoRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.meterRegistry.get("cloudfoundry.client.token.invalidations")
+            .tag("operation", "info.get")
+            .counter().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("cloudfoundry.client.retries")
+            .tag("operation", "info.get")
+            .counter().count()).isEqualTo(1);
+        assertThat(this.meterRegistry.get("cloudfoundry.client.requests")
+            .tag("outcome", "CLIENT_ERROR")
+            .tag("status", "401")
+            .timer().count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Test;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class RangeDownloaderTest {
+
+    private static final byte[] CONTENT = new byte[10 * 1024 + 17];
+
+    private static final int RANGE_SIZE = 1024;
+
+    static {
+        new Random(0).nextBytes(CONTENT);
+    }
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+
+    @Test
+    public void download() throws IOException {
+        this.mockWebServer.setDispatcher(new RangeDispatcher(true, -1));
+
+        assertThat(downloadContent()).isEqualTo(CONTENT);
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(11);
+    }
+
+    @Test
+    public void downloadEmpty() throws IOException {
+        this.mockWebServer.enqueue(new MockResponse()
+            .setResponseCode(416)
+            .setHeader("Content-Range", "bytes */0"));
+
+        assertThat(downloadContent()).isEmpty();
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void downloadNoRangeSupport() throws IOException {
+        this.mockWebServer.setDispatcher(new RangeDispatcher(false, -1));
+
+        assertThat(downloadContent()).isEqualTo(CONTENT);
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void downloadRangeMismatch() throws IOException {
+        this.mockWebServer.enqueue(new MockResponse()
+            .setResponseCode(206)
+            .setHeader("Content-Range", String.format("bytes 1-%d/%d", RANGE_SIZE, CONTENT.length))
+            .setBody(new Buffer().write(CONTENT, 1, RANGE_SIZE)));
+
+        assertThat(downloadError()).isInstanceOf(IllegalStateException.class).hasMessageStartingWith("Content-Range bytes 1-1024");
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void downloadRetry() throws IOException {
+        this.mockWebServer.setDispatcher(new RangeDispatcher(true, 3 * RANGE_SIZE));
+
+        assertThat(downloadContent()).isEqualTo(CONTENT);
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(12);
+    }
+
+    @Test
+    public void downloadRetryServerError() throws IOException {
+        this.mockWebServer.enqueue(new MockResponse()
+            .setResponseCode(503));
+        this.mockWebServer.enqueue(new MockResponse()
+            .setBody(new Buffer().write(CONTENT)));
+
+        assertThat(downloadContent()).isEqualTo(CONTENT);
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void downloadUnexpectedStatus() throws IOException {
+        this.mockWebServer.enqueue(new MockResponse()
+            .setResponseCode(404));
+
+        assertThat(downloadError()).isInstanceOf(IllegalStateException.class).hasMessageStartingWith("Unexpected response status 404");
+        assertThat(this.mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @After
+    public void shutdown() throws IOException {
+        this.mockWebServer.shutdown();
+    }
+
+    private byte[] downloadContent() throws IOException {
+        Path target = Files.createTempFile("test-download-", ".bin");
+
+        try {
+            new RangeDownloader(HttpClient.create(), RANGE_SIZE)
+                .download(this.mockWebServer.url("/test-content").toString(), target)
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+            return Files.readAllBytes(target);
+        } finally {
+            Files.delete(target);
+        }
+    }
+
+    private Throwable downloadError() throws IOException {
+        Path target = Files.createTempFile("test-download-", ".bin");
+
+        try {
+            AtomicReference<Throwable> error = new AtomicReference<>();
+
+            new RangeDownloader(HttpClient.create(), RANGE_SIZE)
+                .download(this.mockWebServer.url("/test-content").toString(), target)
+                .as(StepVerifier::create)
+                .consumeErrorWith(error::set)
+                .verify(Duration.ofSeconds(5));
+
+            return error.get();
+        } finally {
+            Files.delete(target);
+        }
+    }
+
+    private static final class RangeDispatcher extends Dispatcher {
+
+        private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private final int failureStart;
+
+        private final boolean ranges;
+
+        private RangeDispatcher(boolean ranges, int failureStart) {
+            this.ranges = ranges;
+            this.failureStart = failureStart;
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String range = request.getHeader("Range");
+
+            if (!this.ranges || range == null) {
+                return new MockResponse()
+                    .setBody(new Buffer().write(CONTENT));
+            }
+
+            Matcher matcher = RANGE.matcher(range);
+            assertThat(matcher.matches()).isTrue();
+
+            int start = Integer.parseInt(matcher.group(1));
+            int end = Math.min(Integer.parseInt(matcher.group(2)), CONTENT.length - 1);
+
+            MockResponse response = new MockResponse()
+                .setResponseCode(206)
+                .setHeader("Content-Range", String.format("bytes %d-%d/%d", start, end, CONTENT.length))
+                .setBody(new Buffer().write(CONTENT, start, end - start + 1));
+
+            if (start == this.failureStart && this.failures.getAndIncrement() == 0) {
+                response.setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY);
+            }
+
+            return response;
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.reactor.util;
+
+import org.cloudfoundry.client.v2.info.GetInfoRequest;
+import org.cloudfoundry.reactor.AbstractRestTest;
+import org.cloudfoundry.reactor.DefaultConnectionContext;
+import org.cloudfoundry.reactor.InteractionContext;
+import org.cloudfoundry.reactor.RequestTracer;
+import org.cloudfoundry.reactor.TestRequest;
+import org.cloudfoundry.reactor.TestResponse;
+import org.cloudfoundry.reactor.client.v2.info.ReactorInfo;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.reactor.util.TraceparentRequestTracer.TRACEPARENT;
+import static org.cloudfoundry.reactor.util.TraceparentRequestTracer.TRACESTATE;
+
+public final class TraceparentRequestTracerTest extends AbstractRestTest {
+
+    private static final String PARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    private final List<String> events = new ArrayList<>();
+
+    private final RequestTracer requestTracer = new RecordingRequestTracer(new TraceparentRequestTracer(), this.events);
+
+    private final ReactorInfo info = new ReactorInfo(DefaultConnectionContext.builder()
+        .apiHost("localhost")
+        .requestTracer(this.requestTracer)
+        .secure(false)
+        .build(), this.root, TOKEN_PROVIDER, Collections.emptyMap());
+
+    @Test
+    public void childOfParent() {
+        this.info
+            .get(GetInfoRequest.builder()
+                .build())
+            .subscriberContext(Context.of(TRACEPARENT, PARENT, TRACESTATE, "congo=t61rcWkgMzE"))
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.events).hasSize(4);
+        assertThat(this.events.get(0)).isEqualTo("start info.get info");
+        assertThat(this.events.get(1)).matches("traceparent 00-0af7651916cd43dd8448eb211c80319c-[0-9a-f]{16}-01")
+            .doesNotContain("b7ad6b7169203331");
+        assertThat(this.events.get(2)).isEqualTo("tracestate congo=t61rcWkgMzE");
+        assertThat(this.events.get(3)).isEqualTo("response 200");
+    }
+
+    @Test
+    public void newTrace() {
+        this.info
+            .get(GetInfoRequest.builder()
+                .build())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.events).hasSize(4);
+        assertThat(this.events.get(0)).isEqualTo("start info.get info");
+        assertThat(this.events.get(1)).matches("traceparent 00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+        assertThat(this.events.get(2)).isEqualTo("tracestate null");
+        assertThat(this.events.get(3)).isEqualTo("response 200");
+    }
+
+    @Before
+    public void setUp() {
+        mockRequest(InteractionContext.builder()
+            .request(TestRequest.builder()
+                .method(GET).path("/info")
+                .build())
+            .response(TestResponse.builder()
+                .status(OK)
+                .payload("fixtures/client/v2/info/GET_response.json")
+                .build())
+            .build());
+    }
+
+    private static final class RecordingRequestTracer implements RequestTracer {
+
+        private final RequestTracer delegate;
+
+        private final List<String> events;
+
+        private RecordingRequestTracer(RequestTracer delegate, List<String> events) {
+            this.delegate = delegate;
+            this.events = events;
+        }
+
+        @Override
+        public Span start(String operation, String resourceType, HttpClientRequest request) {
+            Span span = this.delegate.start(operation, resourceType, request);
+
+            this.events.add(String.format("start %s %s", operation, resourceType));
+            this.events.add(String.format("traceparent %s", request.requestHeaders().get(TRACEPARENT)));
+            this.events.add(String.format("tracestate %s", request.requestHeaders().get(TRACESTATE)));
+
+            return new Span() {
+
+                @Override
+                public void error(Throwable error) {
+                    span.error(error);
+                    RecordingRequestTracer.this.events.add(String.format("error %s", error.getClass().getSimpleName()));
+                }
+
+                @Override
+                public void response(HttpClientResponse response) {
+                    span.response(response);
+                    RecordingRequestTracer.this.events.add(String.format("response %d", response.status().code()));
+                }
+
+            };
+        }
+
+    }
+
+}
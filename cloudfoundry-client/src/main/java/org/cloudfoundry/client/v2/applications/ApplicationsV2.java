@@ -19,6 +19,8 @@ package org.cloudfoundry.client.v2.applications;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 /**
  * Main entry point to the Cloud Foundry Applications V2 Client API
  */
@@ -65,6 +67,16 @@ public interface ApplicationsV2 {
      */
     Flux<byte[]> download(DownloadApplicationRequest request);
 
+    /**
+     * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_bits_for_an_app.html">Downloads the bits for an App</a> request, writing the
+     * response to a file
+     *
+     * @param request the Download Application request
+     * @param target  the file to write the response to
+     * @return completion once the response has been written
+     */
+    Mono<Void> download(DownloadApplicationRequest request, Path target);
+
     /**
      * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a> request
      *
@@ -73,6 +85,16 @@ public interface ApplicationsV2 {
      */
     Flux<byte[]> downloadDroplet(DownloadApplicationDropletRequest request);
 
+    /**
+     * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/downloads_the_staged_droplet_for_an_app.html">Downloads the staged droplet for an App</a>
+     * request, writing the response to a file
+     *
+     * @param request the Download Droplet request
+     * @param target  the file to write the response to
+     * @return completion once the response has been written
+     */
+    Mono<Void> downloadDroplet(DownloadApplicationDropletRequest request, Path target);
+
     /**
      * Makes the <a href="https://apidocs.cloudfoundry.org/latest-release/apps/get_the_env_for_an_app.html">Get the env for an App</a> request
      *
@@ -17,6 +17,7 @@
 package org.cloudfoundry.client.v2.applications;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
 /**
@@ -31,4 +32,11 @@ abstract class _DownloadApplicationDropletRequest {
     @JsonIgnore
     abstract String getApplicationId();
 
+    /**
+     * The expected SHA-1 hash of the droplet, verified when downloading to a file
+     */
+    @JsonIgnore
+    @Nullable
+    abstract String getHash();
+
 }
@@ -19,6 +19,8 @@ package org.cloudfoundry.client.v3.packages;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.file.Path;
+
 /**
  * Main entry point to the Cloud Foundry Packages Client API
  */
@@ -56,6 +58,16 @@ public interface Packages {
      */
     Flux<byte[]> download(DownloadPackageRequest request);
 
+    /**
+     * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.27.0/index.html#download-package-bits">Download the bits for a package</a> request, writing the
+     * response to a file
+     *
+     * @param request the Download Package request
+     * @param target  the file to write the response to
+     * @return completion once the response has been written
+     */
+    Mono<Void> download(DownloadPackageRequest request, Path target);
+
     /**
      * Makes the <a href="https://v3-apidocs.cloudfoundry.org/version/3.27.0/index.html#get-a-package">Get Package</a> request
      *
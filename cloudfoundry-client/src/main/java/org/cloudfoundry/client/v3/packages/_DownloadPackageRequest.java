@@ -17,6 +17,8 @@
 package org.cloudfoundry.client.v3.packages;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.cloudfoundry.Nullable;
+import org.cloudfoundry.client.v3.Checksum;
 import org.immutables.value.Value;
 
 /**
@@ -25,6 +27,13 @@ import org.immutables.value.Value;
 @Value.Immutable
 abstract class _DownloadPackageRequest {
 
+    /**
+     * The expected checksum of the package bits, verified when downloading to a file
+     */
+    @JsonIgnore
+    @Nullable
+    abstract Checksum getChecksum();
+
     /**
      * The package id
      */
@@ -52,6 +52,7 @@ import org.cloudfoundry.operations.stacks.DefaultStacks;
 import org.cloudfoundry.operations.stacks.Stacks;
 import org.cloudfoundry.operations.useradmin.DefaultUserAdmin;
 import org.cloudfoundry.operations.useradmin.UserAdmin;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.routing.RoutingClient;
 import org.cloudfoundry.uaa.UaaClient;
 import org.cloudfoundry.util.ExceptionUtils;
@@ -80,7 +81,7 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Applications applications() {
-        return new DefaultApplications(getCloudFoundryClientPublisher(), getDopplerClientPublisher(), getSpaceId());
+        return new DefaultApplications(getCloudFoundryClientPublisher(), getDopplerClientPublisher(), getLookupCache(), getSpaceId());
     }
 
     @Override
@@ -92,7 +93,7 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Domains domains() {
-        return new DefaultDomains(getCloudFoundryClientPublisher(), getRoutingClientPublisher());
+        return new DefaultDomains(getCloudFoundryClientPublisher(), getLookupCache(), getRoutingClientPublisher());
     }
 
     @Override
@@ -116,19 +117,19 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
     @Override
     @Value.Derived
     public Routes routes() {
-        return new DefaultRoutes(getCloudFoundryClientPublisher(), getOrganizationId(), getSpaceId());
+        return new DefaultRoutes(getCloudFoundryClientPublisher(), getLookupCache(), getOrganizationId(), getSpaceId());
     }
 
     @Override
     @Value.Derived
     public ServiceAdmin serviceAdmin() {
-        return new DefaultServiceAdmin(getCloudFoundryClientPublisher(), getSpaceId());
+        return new DefaultServiceAdmin(getCloudFoundryClientPublisher(), getLookupCache(), getSpaceId());
     }
 
     @Override
     @Value.Derived
     public Services services() {
-        return new DefaultServices(getCloudFoundryClientPublisher(), getOrganizationId(), getSpaceId());
+        return new DefaultServices(getCloudFoundryClientPublisher(), getLookupCache(), getOrganizationId(), getSpaceId());
     }
 
     @Override
@@ -186,6 +187,14 @@ abstract class _DefaultCloudFoundryOperations implements CloudFoundryOperations
             .orElse(Mono.error(new IllegalStateException("DopplerClient must be set")));
     }
 
+    /**
+     * The {@link LookupCache} used to cache lookups such as resolving names to ids.  Defaults to caching nothing.
+     */
+    @Value.Default
+    LookupCache getLookupCache() {
+        return LookupCache.NONE;
+    }
+
     /**
      * The {@link NetworkingClient} to use for operations functionality
      */
@@ -106,6 +106,14 @@ public interface Applications {
      */
     Flux<ApplicationSummary> list();
 
+    /**
+     * Lists the applications
+     *
+     * @param request the list applications request
+     * @return the applications
+     */
+    Flux<ApplicationSummary> list(ListApplicationsRequest request);
+
     /**
      * Lists the tasks for an application
      *
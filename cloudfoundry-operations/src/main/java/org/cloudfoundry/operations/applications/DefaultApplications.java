@@ -83,11 +83,19 @@ import org.cloudfoundry.client.v2.stacks.GetStackResponse;
 import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
 import org.cloudfoundry.client.v2.stacks.StackResource;
 import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Relationship;
 import org.cloudfoundry.client.v3.Resource;
+import org.cloudfoundry.client.v3.ToOneRelationship;
 import org.cloudfoundry.client.v3.applications.ApplicationResource;
 import org.cloudfoundry.client.v3.applications.GetApplicationResponse;
-import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsResponse;
+import org.cloudfoundry.client.v3.processes.ListProcessesRequest;
+import org.cloudfoundry.client.v3.processes.ProcessRelationships;
+import org.cloudfoundry.client.v3.processes.ProcessResource;
+import org.cloudfoundry.client.v3.processes.ProcessState;
 import org.cloudfoundry.client.v3.tasks.CancelTaskRequest;
 import org.cloudfoundry.client.v3.tasks.CancelTaskResponse;
 import org.cloudfoundry.client.v3.tasks.CreateTaskRequest;
@@ -99,12 +107,14 @@ import org.cloudfoundry.doppler.EventType;
 import org.cloudfoundry.doppler.LogMessage;
 import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.operations.util.OperationsLogging;
 import org.cloudfoundry.util.DateUtils;
 import org.cloudfoundry.util.DelayTimeoutException;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.FileUtils;
 import org.cloudfoundry.util.FluentMap;
+import org.cloudfoundry.util.HashCache;
 import org.cloudfoundry.util.JobUtils;
 import org.cloudfoundry.util.PaginationUtils;
 import org.cloudfoundry.util.ResourceMatchingUtils;
@@ -136,6 +146,11 @@ import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static org.cloudfoundry.client.v3.LifecycleType.BUILDPACK;
+import static org.cloudfoundry.operations.util.LookupCache.Type.APPLICATION_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.PRIVATE_DOMAINS;
+import static org.cloudfoundry.operations.util.LookupCache.Type.SHARED_DOMAINS;
+import static org.cloudfoundry.operations.util.LookupCache.Type.STACK_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.STACK_NAME;
 import static org.cloudfoundry.util.DelayUtils.exponentialBackOff;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
@@ -156,6 +171,8 @@ public final class DefaultApplications implements Applications {
 
     private static final int CF_STAGING_TIME_EXPIRED = 170007;
 
+    private static final int DEFAULT_CONCURRENCY = 8;
+
     private static final String[] ENTRY_FIELDS_CRASH = {"index", "reason", "exit_description"};
 
     private static final String[] ENTRY_FIELDS_NORMAL = {"instances", "memory", "state", "environment_json"};
@@ -170,21 +187,36 @@ public final class DefaultApplications implements Applications {
 
     private static final String STOPPED_STATE = "STOPPED";
 
+    private static final int STREAMING_BATCH_SIZE = 50;
+
+    private static final String WEB_PROCESS_TYPE = "web";
+
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
     private final Mono<DopplerClient> dopplerClient;
 
+    private final LookupCache lookupCache;
+
     private final RandomWords randomWords;
 
     private final Mono<String> spaceId;
 
     public DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, Mono<String> spaceId) {
-        this(cloudFoundryClient, dopplerClient, new WordListRandomWords(), spaceId);
+        this(cloudFoundryClient, dopplerClient, LookupCache.NONE, spaceId);
+    }
+
+    public DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, LookupCache lookupCache, Mono<String> spaceId) {
+        this(cloudFoundryClient, dopplerClient, lookupCache, new WordListRandomWords(), spaceId);
     }
 
     DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, RandomWords randomWords, Mono<String> spaceId) {
+        this(cloudFoundryClient, dopplerClient, LookupCache.NONE, randomWords, spaceId);
+    }
+
+    DefaultApplications(Mono<CloudFoundryClient> cloudFoundryClient, Mono<DopplerClient> dopplerClient, LookupCache lookupCache, RandomWords randomWords, Mono<String> spaceId) {
         this.cloudFoundryClient = cloudFoundryClient;
         this.dopplerClient = dopplerClient;
+        this.lookupCache = lookupCache;
         this.randomWords = randomWords;
         this.spaceId = spaceId;
     }
@@ -195,7 +227,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId),
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId),
                 getApplicationIdFromOrgSpace(cloudFoundryClient, request.getTargetName(), spaceId, request.getTargetOrganization(), request.getTargetSpace())
             )))
             .flatMap(function((cloudFoundryClient, sourceApplicationId, targetApplicationId) -> copyBits(cloudFoundryClient, request.getStagingTimeout(), sourceApplicationId, targetApplicationId)
@@ -211,12 +243,15 @@ public final class DefaultApplications implements Applications {
     public Mono<Void> delete(DeleteApplicationRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMap(function((cloudFoundryClient, spaceId) -> getRoutesAndApplicationId(cloudFoundryClient, request, spaceId, Optional.ofNullable(request.getDeleteRoutes()).orElse(false))
+            .flatMap(function((cloudFoundryClient, spaceId) -> getRoutesAndApplicationId(cloudFoundryClient, this.lookupCache, request, spaceId, Optional.ofNullable(request.getDeleteRoutes()).orElse(false))
                 .map(function((routes, applicationId) -> Tuples.of(cloudFoundryClient, routes, applicationId)))))
             .flatMap(function((cloudFoundryClient, routes, applicationId) -> deleteRoutes(cloudFoundryClient, request.getCompletionTimeout(), routes)
                 .thenReturn(Tuples.of(cloudFoundryClient, applicationId))))
             .delayUntil(function(DefaultApplications::removeServiceBindings))
             .flatMap(function(DefaultApplications::requestDeleteApplication))
+            .then(this.spaceId)
+            .doOnNext(spaceId -> this.lookupCache.invalidate(APPLICATION_ID, LookupCache.key(spaceId, request.getName())))
+            .then()
             .transform(OperationsLogging.log("Delete Application"))
             .checkpoint();
     }
@@ -257,7 +292,7 @@ public final class DefaultApplications implements Applications {
                 Mono.just(cloudFoundryClient),
                 getApplication(cloudFoundryClient, request.getName(), spaceId)
             )))
-            .flatMap(function(DefaultApplications::getAuxiliaryContent))
+            .flatMap(function((cloudFoundryClient, applicationResource) -> getAuxiliaryContent(cloudFoundryClient, this.lookupCache, applicationResource)))
             .map(function(DefaultApplications::toApplicationDetail))
             .transform(OperationsLogging.log("Get Application"))
             .checkpoint();
@@ -269,7 +304,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -279,7 +314,7 @@ public final class DefaultApplications implements Applications {
             .flatMap(function((cloudFoundryClient, applicationId, response) -> Mono.zip(
                 getApplicationBuildpacks(cloudFoundryClient, applicationId),
                 Mono.just(response),
-                getStackName(cloudFoundryClient, response.getStackId())
+                getStackName(cloudFoundryClient, this.lookupCache, response.getStackId())
             )))
             .flatMap(function(DefaultApplications::toApplicationManifest))
             .transform(OperationsLogging.log("Get Application Manifest"))
@@ -292,7 +327,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function(DefaultApplications::requestApplicationEnvironment))
             .map(DefaultApplications::toApplicationEnvironments)
@@ -306,7 +341,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMapMany(function((cloudFoundryClient, applicationId) -> requestEvents(applicationId, cloudFoundryClient)
                 .take(Optional.ofNullable(request.getMaxNumberOfEvents()).orElse(MAX_NUMBER_OF_RECENT_EVENTS))))
@@ -336,6 +371,23 @@ public final class DefaultApplications implements Applications {
             .checkpoint();
     }
 
+    @Override
+    public Flux<ApplicationSummary> list(ListApplicationsRequest request) {
+        if (!Optional.ofNullable(request.getStreaming()).orElse(false)) {
+            return list();
+        }
+
+        int concurrency = Optional.ofNullable(request.getConcurrency()).orElse(DEFAULT_CONCURRENCY);
+
+        return Mono
+            .zip(this.cloudFoundryClient, this.spaceId)
+            .flatMapMany(function((cloudFoundryClient, spaceId) -> requestApplicationsV3(cloudFoundryClient, spaceId)
+                .buffer(STREAMING_BATCH_SIZE)
+                .concatMap(applications -> getApplicationSummaries(cloudFoundryClient, applications, concurrency))))
+            .transform(OperationsLogging.log("List Applications"))
+            .checkpoint();
+    }
+
     @Override
     public Flux<Task> listTasks(ListApplicationTasksRequest request) {
         return Mono
@@ -354,7 +406,7 @@ public final class DefaultApplications implements Applications {
     public Flux<LogMessage> logs(LogsRequest request) {
         return Mono
             .zip(this.cloudFoundryClient, this.spaceId)
-            .flatMap(function((cloudFoundryClient, spaceId) -> getApplicationId(cloudFoundryClient, request.getName(), spaceId)))
+            .flatMap(function((cloudFoundryClient, spaceId) -> getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)))
             .flatMapMany(applicationId -> getLogs(this.dopplerClient, applicationId, request.getRecent()))
             .transform(OperationsLogging.log("Get Application Logs"))
             .checkpoint();
@@ -395,6 +447,7 @@ public final class DefaultApplications implements Applications {
             .manifest(builder.build())
             .dockerPassword(request.getDockerPassword())
             .dockerUsername(request.getDockerUsername())
+            .hashCache(request.getHashCache())
             .noStart(request.getNoStart())
             .stagingTimeout(request.getStagingTimeout())
             .startupTimeout(request.getStartupTimeout())
@@ -414,14 +467,14 @@ public final class DefaultApplications implements Applications {
             )))
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                listAvailableDomains(cloudFoundryClient, organizationId),
+                listAvailableDomains(cloudFoundryClient, this.lookupCache, organizationId),
                 Mono.just(spaceId))))
             .flatMapMany(function((cloudFoundryClient, availableDomains, spaceId) -> Flux.fromIterable(request.getManifests())
                 .flatMap(manifest -> {
                     if (manifest.getPath() != null) {
-                        return pushApplication(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, spaceId);
+                        return pushApplication(cloudFoundryClient, this.lookupCache, availableDomains, manifest, this.randomWords, request, spaceId);
                     } else if (!manifest.getDocker().getImage().isEmpty()) {
-                        return pushDocker(cloudFoundryClient, availableDomains, manifest, this.randomWords, request, spaceId);
+                        return pushDocker(cloudFoundryClient, this.lookupCache, availableDomains, manifest, this.randomWords, request, spaceId);
                     } else {
                         throw new IllegalStateException("One of application or dockerImage must be supplied");
                     }
@@ -437,9 +490,11 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> requestUpdateApplicationName(cloudFoundryClient, applicationId, request.getNewName())))
+            .then(this.spaceId)
+            .doOnNext(spaceId -> this.lookupCache.invalidate(APPLICATION_ID, LookupCache.key(spaceId, request.getName())))
             .then()
             .transform(OperationsLogging.log("Rename Application"))
             .checkpoint();
@@ -451,7 +506,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> restageApplication(cloudFoundryClient, request.getName(), applicationId, request.getStagingTimeout(), request.getStartupTimeout
                 ())))
@@ -483,7 +538,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> requestTerminateApplicationInstance(cloudFoundryClient, applicationId, String.valueOf(request.getInstanceIndex()))))
             .transform(OperationsLogging.log("Restart Application Instance"))
@@ -511,7 +566,7 @@ public final class DefaultApplications implements Applications {
             .filter(predicate((cloudFoundryClient, spaceId) -> areModifiersPresent(request)))
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -545,7 +600,7 @@ public final class DefaultApplications implements Applications {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId) -> requestUpdateApplicationHealthCheckType(cloudFoundryClient, applicationId, request.getType())))
             .then()
@@ -635,9 +690,9 @@ public final class DefaultApplications implements Applications {
         return request.getMemoryLimit() != null || request.getDiskLimit() != null || request.getInstances() != null;
     }
 
-    private static Flux<String> associateDefaultDomain(CloudFoundryClient cloudFoundryClient, String applicationId, List<DomainSummary> availableDomains, ApplicationManifest manifest,
-                                                       RandomWords randomWords, String spaceId) {
-        return getDefaultDomainId(cloudFoundryClient)
+    private static Flux<String> associateDefaultDomain(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String applicationId, List<DomainSummary> availableDomains,
+                                                       ApplicationManifest manifest, RandomWords randomWords, String spaceId) {
+        return getDefaultDomainId(cloudFoundryClient, lookupCache)
             .flatMapMany(domainId -> getPushRouteIdFromDomain(cloudFoundryClient, availableDomains, domainId, manifest, randomWords, spaceId))
             .flatMap(routeId -> requestAssociateRoute(cloudFoundryClient, applicationId, routeId))
             .map(ResourceUtils::getId);
@@ -786,6 +841,10 @@ public final class DefaultApplications implements Applications {
             .map(ResourceUtils::getId);
     }
 
+    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String application, String spaceId) {
+        return lookupCache.get(APPLICATION_ID, LookupCache.key(spaceId, application), () -> getApplicationId(cloudFoundryClient, application, spaceId));
+    }
+
     private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, ApplicationManifest manifest, String spaceId, String stackId) {
         return requestApplications(cloudFoundryClient, manifest.getName(), spaceId)
             .singleOrEmpty()
@@ -835,34 +894,61 @@ public final class DefaultApplications implements Applications {
             .onErrorResume(ExceptionUtils.statusCode(CF_APP_STOPPED_STATS_ERROR), t -> Mono.just(ApplicationStatisticsResponse.builder().build()));
     }
 
+    private static Flux<ApplicationSummary> getApplicationSummaries(CloudFoundryClient cloudFoundryClient, List<ApplicationResource> applications, int concurrency) {
+        List<String> applicationIds = applications.stream()
+            .map(ApplicationResource::getId)
+            .collect(Collectors.toList());
+
+        return Mono
+            .zip(
+                getWebProcesses(cloudFoundryClient, applicationIds),
+                getApplicationUrls(cloudFoundryClient, applicationIds)
+            )
+            .flatMapMany(function((processes, urls) -> Flux.fromIterable(applications)
+                .flatMap(application -> getRunningInstances(cloudFoundryClient, application, processes.get(application.getId()))
+                    .map(runningInstances -> toApplicationSummary(application, processes.get(application.getId()), runningInstances, urls.get(application.getId()))), concurrency)));
+    }
+
+    private static Mono<Map<String, List<String>>> getApplicationUrls(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return requestListRoutesV3(cloudFoundryClient, applicationIds)
+            .flatMap(route -> Flux.fromIterable(Optional.ofNullable(route.getDestinations()).orElse(Collections.emptyList()))
+                .map(destination -> destination.getApplication().getApplicationId())
+                .filter(applicationIds::contains)
+                .distinct()
+                .map(applicationId -> Tuples.of(applicationId, route.getUrl())))
+            .collect(Collectors.groupingBy(Tuple2::getT1, Collectors.mapping(Tuple2::getT2, Collectors.toList())));
+    }
+
     private static Mono<ApplicationResource> getApplicationV3(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return requestApplicationsV3(cloudFoundryClient, application, spaceId)
             .single()
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", application));
     }
 
-    private static Mono<Tuple5<List<String>, SummaryApplicationResponse, GetStackResponse, List<InstanceDetail>, List<String>>> getAuxiliaryContent(CloudFoundryClient cloudFoundryClient,
-                                                                                                                                                    AbstractApplicationResource applicationResource) {
+    private static Mono<Tuple5<List<String>, SummaryApplicationResponse, String, List<InstanceDetail>, List<String>>> getAuxiliaryContent(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache,
+                                                                                                                                           AbstractApplicationResource applicationResource) {
         String applicationId = ResourceUtils.getId(applicationResource);
         String stackId = ResourceUtils.getEntity(applicationResource).getStackId();
 
         return Mono
             .zip(
-                getApplicationStatistics(cloudFoundryClient, applicationId),
+                getApplicationBuildpacks(cloudFoundryClient, applicationId),
                 requestApplicationSummary(cloudFoundryClient, applicationId),
-                getApplicationInstances(cloudFoundryClient, applicationId)
+                getStackName(cloudFoundryClient, lookupCache, stackId),
+                getApplicationInstances(cloudFoundryClient, applicationId),
+                getApplicationStatistics(cloudFoundryClient, applicationId)
             )
-            .flatMap(function((applicationStatisticsResponse, summaryApplicationResponse, applicationInstancesResponse) -> Mono.zip(
-                getApplicationBuildpacks(cloudFoundryClient, applicationId),
-                Mono.just(summaryApplicationResponse),
-                requestStack(cloudFoundryClient, stackId),
-                toInstanceDetailList(applicationInstancesResponse, applicationStatisticsResponse),
-                toUrls(summaryApplicationResponse.getRoutes())
-            )));
+            .flatMap(function((buildpacks, summaryApplicationResponse, stackName, applicationInstancesResponse, applicationStatisticsResponse) -> Mono
+                .zip(
+                    toInstanceDetailList(applicationInstancesResponse, applicationStatisticsResponse),
+                    toUrls(summaryApplicationResponse.getRoutes())
+                )
+                .map(function((instanceDetails, urls) -> Tuples.of(buildpacks, summaryApplicationResponse, stackName, instanceDetails, urls)))));
     }
 
-    private static Mono<String> getDefaultDomainId(CloudFoundryClient cloudFoundryClient) {
-        return requestSharedDomains(cloudFoundryClient)
+    private static Mono<String> getDefaultDomainId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache) {
+        return getSharedDomains(cloudFoundryClient, lookupCache)
+            .flatMapIterable(resources -> resources)
             .filter(resource -> !Optional.ofNullable(ResourceUtils.getEntity(resource).getInternal()).orElse(false))
             .map(ResourceUtils::getId)
             .next()
@@ -885,6 +971,12 @@ public final class DefaultApplications implements Applications {
         return ResourceUtils.getEntity(resource).getEnvironmentJsons();
     }
 
+    private static HashCache getHashCache(PushApplicationManifestRequest request) {
+        return Optional.ofNullable(request.getHashCache())
+            .map(HashCache::new)
+            .orElse(null);
+    }
+
     private static int getInstances(AbstractApplicationResource resource) {
         return Optional.ofNullable(resource.getEntity()).map(ApplicationEntity::getInstances).orElse(0);
     }
@@ -931,9 +1023,9 @@ public final class DefaultApplications implements Applications {
         }
     }
 
-    private static Mono<Optional<String>> getOptionalStackId(CloudFoundryClient cloudFoundryClient, String stack) {
+    private static Mono<Optional<String>> getOptionalStackId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String stack) {
         return Optional.ofNullable(stack)
-            .map(stack1 -> getStackId(cloudFoundryClient, stack1)
+            .map(stack1 -> getStackId(cloudFoundryClient, lookupCache, stack1)
                 .map(Optional::of))
             .orElse(Mono.just(Optional.empty()));
     }
@@ -959,6 +1051,11 @@ public final class DefaultApplications implements Applications {
         return Optional.ofNullable(dockerCredentials).map(DockerCredentials::getPassword).orElse(null);
     }
 
+    private static Mono<List<PrivateDomainResource>> getPrivateDomains(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String organizationId) {
+        return lookupCache.get(PRIVATE_DOMAINS, organizationId, () -> requestListPrivateDomains(cloudFoundryClient, organizationId)
+            .collectList());
+    }
+
     private static Flux<String> getPushRouteIdFromDomain(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, String domainId, ApplicationManifest manifest,
                                                          RandomWords randomWords, String spaceId) {
         if (isTcpDomain(availableDomains, domainId)) {
@@ -1030,13 +1127,25 @@ public final class DefaultApplications implements Applications {
             .map(SummaryApplicationResponse::getRoutes);
     }
 
-    private static Mono<Tuple2<Optional<List<org.cloudfoundry.client.v2.routes.Route>>, String>> getRoutesAndApplicationId(CloudFoundryClient cloudFoundryClient, DeleteApplicationRequest request,
-                                                                                                                           String spaceId, boolean deleteRoutes) {
-        return getApplicationId(cloudFoundryClient, request.getName(), spaceId)
+    private static Mono<Tuple2<Optional<List<org.cloudfoundry.client.v2.routes.Route>>, String>> getRoutesAndApplicationId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache,
+                                                                                                                           DeleteApplicationRequest request, String spaceId, boolean deleteRoutes) {
+        return getApplicationId(cloudFoundryClient, lookupCache, request.getName(), spaceId)
             .flatMap(applicationId -> getOptionalRoutes(cloudFoundryClient, deleteRoutes, applicationId)
                 .zipWith(Mono.just(applicationId)));
     }
 
+    private static Mono<Integer> getRunningInstances(CloudFoundryClient cloudFoundryClient, ApplicationResource application, ProcessResource process) {
+        if (!STARTED_STATE.equals(application.getState().getValue()) || process == null || process.getInstances() == 0) {
+            return Mono.just(0);
+        }
+
+        return requestApplicationProcessStatistics(cloudFoundryClient, application.getId())
+            .map(response -> (int) response.getResources().stream()
+                .filter(statistics -> ProcessState.RUNNING == statistics.getState())
+                .count())
+            .onErrorResume(DefaultApplications::isStatisticsUnavailable, t -> Mono.just(0));
+    }
+
     private static Mono<String> getServiceId(CloudFoundryClient cloudFoundryClient, String serviceInstanceName, String spaceId) {
         return requestListServiceInstances(cloudFoundryClient, serviceInstanceName, spaceId)
             .map(ResourceUtils::getId)
@@ -1044,6 +1153,11 @@ public final class DefaultApplications implements Applications {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Service instance %s could not be found", serviceInstanceName));
     }
 
+    private static Mono<List<SharedDomainResource>> getSharedDomains(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache) {
+        return lookupCache.get(SHARED_DOMAINS, "", () -> requestSharedDomains(cloudFoundryClient)
+            .collectList());
+    }
+
     private static Mono<String> getSpaceId(CloudFoundryClient cloudFoundryClient, String organizationId, String space) {
         return getOrganizationSpaceByName(cloudFoundryClient, organizationId, space)
             .map(ResourceUtils::getId);
@@ -1054,16 +1168,16 @@ public final class DefaultApplications implements Applications {
             .map(response -> ResourceUtils.getEntity(response).getOrganizationId());
     }
 
-    private static Mono<String> getStackId(CloudFoundryClient cloudFoundryClient, String stack) {
-        return requestStacks(cloudFoundryClient, stack)
+    private static Mono<String> getStackId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String stack) {
+        return lookupCache.get(STACK_ID, stack, () -> requestStacks(cloudFoundryClient, stack)
             .map(ResourceUtils::getId)
             .single()
-            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Stack %s does not exist", stack));
+            .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Stack %s does not exist", stack)));
     }
 
-    private static Mono<String> getStackName(CloudFoundryClient cloudFoundryClient, String stackId) {
-        return requestStack(cloudFoundryClient, stackId)
-            .map(getStackResponse -> getStackResponse.getEntity().getName());
+    private static Mono<String> getStackName(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String stackId) {
+        return lookupCache.get(STACK_NAME, stackId, () -> requestStack(cloudFoundryClient, stackId)
+            .map(getStackResponse -> getStackResponse.getEntity().getName()));
     }
 
     private static Mono<String> getTaskId(CloudFoundryClient cloudFoundryClient, String applicationId, Integer sequenceId) {
@@ -1083,6 +1197,16 @@ public final class DefaultApplications implements Applications {
         return Optional.ofNullable(dockerCredentials).map(DockerCredentials::getUsername).orElse(null);
     }
 
+    private static Mono<Map<String, ProcessResource>> getWebProcesses(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return requestListProcesses(cloudFoundryClient, applicationIds)
+            .flatMap(process -> Mono.justOrEmpty(Optional.ofNullable(process.getRelationships())
+                .map(ProcessRelationships::getApp)
+                .map(ToOneRelationship::getData)
+                .map(Relationship::getId))
+                .map(applicationId -> Tuples.of(applicationId, process)))
+            .collectMap(Tuple2::getT1, Tuple2::getT2);
+    }
+
     private static boolean isIdentical(String s, String t) {
         return Objects.equals(s, t);
     }
@@ -1116,6 +1240,10 @@ public final class DefaultApplications implements Applications {
         return state -> "STAGED".equals(state) || "FAILED".equals(state);
     }
 
+    private static boolean isStatisticsUnavailable(Throwable t) {
+        return t instanceof ClientV3Exception && (((ClientV3Exception) t).getStatusCode() == 404 || ((ClientV3Exception) t).getStatusCode() == 503);
+    }
+
     private static boolean isTcpDomain(List<DomainSummary> availableDomains, String domainId) {
         List<String> tcpDomainIds = availableDomains.stream()
             .filter(domain -> "tcp".equals(domain.getType()))
@@ -1125,10 +1253,12 @@ public final class DefaultApplications implements Applications {
         return tcpDomainIds.contains(domainId);
     }
 
-    private static Mono<List<DomainSummary>> listAvailableDomains(CloudFoundryClient cloudFoundryClient, String organizationId) {
-        return requestListPrivateDomains(cloudFoundryClient, organizationId)
+    private static Mono<List<DomainSummary>> listAvailableDomains(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String organizationId) {
+        return getPrivateDomains(cloudFoundryClient, lookupCache, organizationId)
+            .flatMapIterable(resources -> resources)
             .map(DefaultApplications::toDomain)
-            .mergeWith(requestListSharedDomains(cloudFoundryClient)
+            .concatWith(getSharedDomains(cloudFoundryClient, lookupCache)
+                .flatMapIterable(resources -> resources)
                 .map(DefaultApplications::toDomain))
             .collectList();
     }
@@ -1138,8 +1268,8 @@ public final class DefaultApplications implements Applications {
             .cast(org.cloudfoundry.client.v3.tasks.Task.class);
     }
 
-    private static Mono<Void> prepareDomainsAndRoutes(CloudFoundryClient cloudFoundryClient, String applicationId, List<DomainSummary> availableDomains, ApplicationManifest manifest,
-                                                      List<RouteResource> existingRoutes, RandomWords randomWords, String spaceId) {
+    private static Mono<Void> prepareDomainsAndRoutes(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String applicationId, List<DomainSummary> availableDomains,
+                                                      ApplicationManifest manifest, List<RouteResource> existingRoutes, RandomWords randomWords, String spaceId) {
         if (Optional.ofNullable(manifest.getNoRoute()).orElse(false)) {
             return Flux.fromIterable(existingRoutes)
                 .map(ResourceUtils::getId)
@@ -1150,7 +1280,7 @@ public final class DefaultApplications implements Applications {
         if (manifest.getRoutes() == null) {
             if (manifest.getDomains() == null) {
                 if (existingRoutes.isEmpty()) {
-                    return associateDefaultDomain(cloudFoundryClient, applicationId, availableDomains, manifest, randomWords, spaceId)
+                    return associateDefaultDomain(cloudFoundryClient, lookupCache, applicationId, availableDomains, manifest, randomWords, spaceId)
                         .then();
                 }
                 return Mono.empty(); // A route already exists for the application, do nothing
@@ -1171,18 +1301,18 @@ public final class DefaultApplications implements Applications {
             .then();
     }
 
-    private static Flux<Void> pushApplication(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
-                                              PushApplicationManifestRequest request, String spaceId) {
+    private static Flux<Void> pushApplication(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, List<DomainSummary> availableDomains, ApplicationManifest manifest,
+                                              RandomWords randomWords, PushApplicationManifestRequest request, String spaceId) {
 
-        return getOptionalStackId(cloudFoundryClient, manifest.getStack())
+        return getOptionalStackId(cloudFoundryClient, lookupCache, manifest.getStack())
             .flatMapMany(stackId -> getApplicationId(cloudFoundryClient, manifest, spaceId, stackId.orElse(null)))
             .flatMap(applicationId -> Mono.zip(
                 Mono.just(applicationId),
                 getApplicationRoutes(cloudFoundryClient, applicationId),
-                ResourceMatchingUtils.getMatchedResources(cloudFoundryClient, manifest.getPath())
+                ResourceMatchingUtils.getMatchedResources(cloudFoundryClient, manifest.getPath(), getHashCache(request))
             ))
-            .flatMap(function((applicationId, existingRoutes, matchedResources) -> prepareDomainsAndRoutes(cloudFoundryClient, applicationId, availableDomains, manifest, existingRoutes,
-                randomWords, spaceId)
+            .flatMap(function((applicationId, existingRoutes, matchedResources) -> prepareDomainsAndRoutes(cloudFoundryClient, lookupCache, applicationId, availableDomains, manifest,
+                existingRoutes, randomWords, spaceId)
                 .thenReturn(Tuples.of(applicationId, matchedResources))))
             .flatMap(function((applicationId, matchedResources) -> Mono.when(
                 bindServices(cloudFoundryClient, applicationId, manifest, spaceId),
@@ -1193,16 +1323,17 @@ public final class DefaultApplications implements Applications {
             .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, applicationId, manifest.getName(), request));
     }
 
-    private static Flux<Void> pushDocker(CloudFoundryClient cloudFoundryClient, List<DomainSummary> availableDomains, ApplicationManifest manifest, RandomWords randomWords,
-                                         PushApplicationManifestRequest request, String spaceId) {
+    private static Flux<Void> pushDocker(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, List<DomainSummary> availableDomains, ApplicationManifest manifest,
+                                         RandomWords randomWords, PushApplicationManifestRequest request, String spaceId) {
 
-        return getOptionalStackId(cloudFoundryClient, manifest.getStack())
+        return getOptionalStackId(cloudFoundryClient, lookupCache, manifest.getStack())
             .flatMapMany(stackId -> getApplicationId(cloudFoundryClient, manifest, spaceId, stackId.orElse(null)))
             .flatMap(applicationId -> Mono.zip(
                 Mono.just(applicationId),
                 getApplicationRoutes(cloudFoundryClient, applicationId)
             ))
-            .flatMap(function((applicationId, existingRoutes) -> prepareDomainsAndRoutes(cloudFoundryClient, applicationId, availableDomains, manifest, existingRoutes, randomWords, spaceId)
+            .flatMap(function((applicationId, existingRoutes) -> prepareDomainsAndRoutes(cloudFoundryClient, lookupCache, applicationId, availableDomains, manifest, existingRoutes,
+                randomWords, spaceId)
                 .thenReturn(applicationId)))
             .delayUntil(applicationId -> bindServices(cloudFoundryClient, applicationId, manifest, spaceId))
             .flatMap(applicationId -> stopAndStartApplication(cloudFoundryClient, applicationId, manifest.getName(), request));
@@ -1235,6 +1366,14 @@ public final class DefaultApplications implements Applications {
                 .build());
     }
 
+    private static Mono<GetApplicationProcessStatisticsResponse> requestApplicationProcessStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        return cloudFoundryClient.applicationsV3()
+            .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                .applicationId(applicationId)
+                .type(WEB_PROCESS_TYPE)
+                .build());
+    }
+
     private static Flux<RouteResource> requestApplicationRoutes(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.applicationsV2()
@@ -1269,10 +1408,19 @@ public final class DefaultApplications implements Applications {
             .cast(AbstractApplicationResource.class);
     }
 
+    private static Flux<ApplicationResource> requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String spaceId) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
+                .list(org.cloudfoundry.client.v3.applications.ListApplicationsRequest.builder()
+                    .spaceId(spaceId)
+                    .page(page)
+                    .build()));
+    }
+
     private static Flux<ApplicationResource> requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
         return PaginationUtils
             .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
-                .list(ListApplicationsRequest.builder()
+                .list(org.cloudfoundry.client.v3.applications.ListApplicationsRequest.builder()
                     .name(application)
                     .spaceId(spaceId)
                     .page(page)
@@ -1425,6 +1573,25 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
+    private static Flux<ProcessResource> requestListProcesses(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.processes()
+                .list(ListProcessesRequest.builder()
+                    .applicationIds(applicationIds)
+                    .type(WEB_PROCESS_TYPE)
+                    .page(page)
+                    .build()));
+    }
+
+    private static Flux<org.cloudfoundry.client.v3.routes.RouteResource> requestListRoutesV3(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.routesV3()
+                .list(org.cloudfoundry.client.v3.routes.ListRoutesRequest.builder()
+                    .applicationIds(applicationIds)
+                    .page(page)
+                    .build()));
+    }
+
     private static Flux<ServiceBindingResource> requestListServiceBindings(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.applicationsV2()
@@ -1445,14 +1612,6 @@ public final class DefaultApplications implements Applications {
                     .build()));
     }
 
-    private static Flux<SharedDomainResource> requestListSharedDomains(CloudFoundryClient cloudFoundryClient) {
-        return PaginationUtils
-            .requestClientV2Resources(page -> cloudFoundryClient.sharedDomains()
-                .list(ListSharedDomainsRequest.builder()
-                    .page(page)
-                    .build()));
-    }
-
     private static Flux<TaskResource> requestListTasks(CloudFoundryClient cloudFoundryClient, String applicationId) {
         return PaginationUtils
             .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
@@ -1732,8 +1891,8 @@ public final class DefaultApplications implements Applications {
         return isNotIn(resource, STOPPED_STATE) ? stopApplication(cloudFoundryClient, ResourceUtils.getId(resource)) : Mono.just(resource);
     }
 
-    private static ApplicationDetail toApplicationDetail(List<String> buildpacks, SummaryApplicationResponse summaryApplicationResponse, GetStackResponse getStackResponse,
-                                                         List<InstanceDetail> instanceDetails, List<String> urls) {
+    private static ApplicationDetail toApplicationDetail(List<String> buildpacks, SummaryApplicationResponse summaryApplicationResponse, String stackName, List<InstanceDetail> instanceDetails,
+                                                         List<String> urls) {
         if (buildpacks.size() == 0) {
             buildpacks = Collections.singletonList(summaryApplicationResponse.getDetectedBuildpack());
         }
@@ -1749,7 +1908,7 @@ public final class DefaultApplications implements Applications {
             .name(summaryApplicationResponse.getName())
             .requestedState(summaryApplicationResponse.getState())
             .runningInstances(summaryApplicationResponse.getRunningInstances())
-            .stack(getStackResponse.getEntity().getName())
+            .stack(stackName)
             .urls(urls)
             .build();
     }
@@ -1813,6 +1972,21 @@ public final class DefaultApplications implements Applications {
             .build();
     }
 
+    private static ApplicationSummary toApplicationSummary(ApplicationResource application, ProcessResource process, Integer runningInstances, List<String> urls) {
+        Optional<ProcessResource> webProcess = Optional.ofNullable(process);
+
+        return ApplicationSummary.builder()
+            .diskQuota(webProcess.map(ProcessResource::getDiskInMb).orElse(0))
+            .id(application.getId())
+            .instances(webProcess.map(ProcessResource::getInstances).orElse(0))
+            .memoryLimit(webProcess.map(ProcessResource::getMemoryInMb).orElse(0))
+            .name(application.getName())
+            .requestedState(application.getState().getValue())
+            .runningInstances(runningInstances)
+            .urls(Optional.ofNullable(urls).orElse(Collections.emptyList()))
+            .build();
+    }
+
     private static Date toDate(String date) {
         return date == null ? null : DateUtils.parseFromIso8601(date);
     }
@@ -1948,7 +2122,7 @@ public final class DefaultApplications implements Applications {
                                                        Duration stagingTimeout) {
         return Mono
             .defer(() -> {
-                if (matchedResources.isEmpty()) {
+                if (matchedResources.isEmpty() || Files.isDirectory(application)) {
                     return requestUploadApplication(cloudFoundryClient, applicationId, application, matchedResources);
                 } else {
                     List<String> paths = matchedResources.stream()
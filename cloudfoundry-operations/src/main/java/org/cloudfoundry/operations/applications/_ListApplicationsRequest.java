@@ -0,0 +1,48 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.applications;
+
+import org.cloudfoundry.Nullable;
+import org.immutables.value.Value;
+
+/**
+ * The request options for the list applications operation
+ */
+@Value.Immutable
+abstract class _ListApplicationsRequest {
+
+    @Value.Check
+    void check() {
+        if (getConcurrency() != null && getConcurrency() < 1) {
+            throw new IllegalStateException(String.format("Cannot build ListApplicationsRequest, concurrency must be at least 1 but was %d", getConcurrency()));
+        }
+    }
+
+    /**
+     * The maximum number of applications whose instance statistics are requested concurrently when streaming
+     */
+    @Nullable
+    abstract Integer getConcurrency();
+
+    /**
+     * Whether to stream the applications from paged requests, emitting each as its instance statistics arrive, rather than retrieving a single
+     * summary of the space.  Recommended for spaces with many applications.
+     */
+    @Nullable
+    abstract Boolean getStreaming();
+
+}
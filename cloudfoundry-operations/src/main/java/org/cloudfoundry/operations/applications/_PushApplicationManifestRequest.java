@@ -19,6 +19,7 @@ package org.cloudfoundry.operations.applications;
 import org.cloudfoundry.Nullable;
 import org.immutables.value.Value;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 
@@ -51,6 +52,12 @@ abstract class _PushApplicationManifestRequest {
     @Nullable
     abstract String getDockerUsername();
 
+    /**
+     * The location of a persistent cache of file hashes, used to avoid hashing unchanged files when matching resources
+     */
+    @Nullable
+    abstract Path getHashCache();
+
     /**
      * The manifests to be pushed
      */
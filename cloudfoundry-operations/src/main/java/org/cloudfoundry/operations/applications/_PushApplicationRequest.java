@@ -106,6 +106,12 @@ abstract class _PushApplicationRequest {
     @Nullable
     abstract String getDomain();
 
+    /**
+     * The location of a persistent cache of file hashes, used to avoid hashing unchanged files when matching resources
+     */
+    @Nullable
+    abstract Path getHashCache();
+
     /**
      * The HTTP health check endpoint
      */
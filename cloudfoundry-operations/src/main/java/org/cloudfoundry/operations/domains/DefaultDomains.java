@@ -31,6 +31,7 @@ import org.cloudfoundry.client.v2.shareddomains.CreateSharedDomainResponse;
 import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainEntity;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.operations.util.OperationsLogging;
 import org.cloudfoundry.routing.RoutingClient;
 import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsResponse;
@@ -42,16 +43,26 @@ import reactor.core.publisher.Mono;
 
 import java.util.NoSuchElementException;
 
+import static org.cloudfoundry.operations.util.LookupCache.Type.DOMAIN_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.PRIVATE_DOMAINS;
+import static org.cloudfoundry.operations.util.LookupCache.Type.SHARED_DOMAINS;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 
 public final class DefaultDomains implements Domains {
 
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final LookupCache lookupCache;
+
     private final Mono<RoutingClient> routingClient;
 
     public DefaultDomains(Mono<CloudFoundryClient> cloudFoundryClient, Mono<RoutingClient> routingClient) {
+        this(cloudFoundryClient, LookupCache.NONE, routingClient);
+    }
+
+    public DefaultDomains(Mono<CloudFoundryClient> cloudFoundryClient, LookupCache lookupCache, Mono<RoutingClient> routingClient) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.lookupCache = lookupCache;
         this.routingClient = routingClient;
     }
 
@@ -64,6 +75,7 @@ public final class DefaultDomains implements Domains {
             ))
             .flatMap(function((cloudFoundryClient, organizationId) -> requestCreateDomain(cloudFoundryClient, request.getDomain(), organizationId)))
             .then()
+            .doOnSuccess(v -> invalidateDomains())
             .transform(OperationsLogging.log("Create Domain"))
             .checkpoint();
     }
@@ -74,6 +86,7 @@ public final class DefaultDomains implements Domains {
             return this.cloudFoundryClient
                 .flatMap(cloudFoundryClient -> requestCreateSharedDomain(cloudFoundryClient, request.getDomain(), null))
                 .then()
+                .doOnSuccess(v -> invalidateDomains())
                 .transform(OperationsLogging.log("Create Shared Domain"))
                 .checkpoint();
         } else {
@@ -85,6 +98,7 @@ public final class DefaultDomains implements Domains {
                 )))
                 .flatMap(function((cloudFoundryClient, routerGroupId) -> requestCreateSharedDomain(cloudFoundryClient, request.getDomain(), routerGroupId)))
                 .then()
+                .doOnSuccess(v -> invalidateDomains())
                 .transform(OperationsLogging.log("Create Shared Domain"))
                 .checkpoint();
         }
@@ -121,6 +135,7 @@ public final class DefaultDomains implements Domains {
             ))
             .flatMap(function(DefaultDomains::requestAssociateOrganizationPrivateDomainRequest))
             .then()
+            .doOnSuccess(v -> invalidateDomains())
             .transform(OperationsLogging.log("Share Domain"))
             .checkpoint();
     }
@@ -134,6 +149,7 @@ public final class DefaultDomains implements Domains {
                 getOrganizationId(cloudFoundryClient, request.getOrganization())
             ))
             .flatMap(function(DefaultDomains::requestRemoveOrganizationPrivateDomainRequest))
+            .doOnSuccess(v -> invalidateDomains())
             .transform(OperationsLogging.log("Unshare Domain"))
             .checkpoint();
     }
@@ -269,4 +285,10 @@ public final class DefaultDomains implements Domains {
             .build();
     }
 
+    private void invalidateDomains() {
+        this.lookupCache.invalidateAll(DOMAIN_ID);
+        this.lookupCache.invalidateAll(PRIVATE_DOMAINS);
+        this.lookupCache.invalidateAll(SHARED_DOMAINS);
+    }
+
 }
@@ -25,6 +25,9 @@ import org.cloudfoundry.client.v2.applications.RemoveApplicationRouteRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationPrivateDomainsRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationSpacesRequest;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingEntity;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingResource;
 import org.cloudfoundry.client.v2.routes.AbstractRouteResource;
 import org.cloudfoundry.client.v2.routes.CreateRouteResponse;
 import org.cloudfoundry.client.v2.routes.DeleteRouteResponse;
@@ -32,13 +35,21 @@ import org.cloudfoundry.client.v2.routes.ListRouteApplicationsRequest;
 import org.cloudfoundry.client.v2.routes.RouteEntity;
 import org.cloudfoundry.client.v2.routes.RouteExistsRequest;
 import org.cloudfoundry.client.v2.routes.RouteResource;
+import org.cloudfoundry.client.v2.serviceinstances.ListServiceInstanceRoutesRequest;
+import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceEntity;
 import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceResource;
+import org.cloudfoundry.client.v2.services.ListServicesRequest;
+import org.cloudfoundry.client.v2.services.ServiceResource;
 import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
 import org.cloudfoundry.client.v2.spaces.ListSpaceApplicationsRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceRoutesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceServiceInstancesRequest;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v2.userprovidedserviceinstances.ListUserProvidedServiceInstanceRoutesRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.operations.util.BatchLoader;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.operations.util.OperationsLogging;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
@@ -46,30 +57,53 @@ import org.cloudfoundry.util.PaginationUtils;
 import org.cloudfoundry.util.ResourceUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.LookupCache.Type.APPLICATION_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.DOMAIN_ID;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
 public final class DefaultRoutes implements Routes {
 
+    private static final int CONCURRENCY_LIMIT = 8;
+
+    private static final int PER_PAGE = 5000;
+
+    private static final String ROUTE_FORWARDING = "route_forwarding";
+
+    private static final String USER_PROVIDED_SERVICE_INSTANCE = "user_provided_service_instance";
+
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final LookupCache lookupCache;
+
     private final Mono<String> organizationId;
 
     private final Mono<String> spaceId;
 
     public DefaultRoutes(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
+        this(cloudFoundryClient, LookupCache.NONE, organizationId, spaceId);
+    }
+
+    public DefaultRoutes(Mono<CloudFoundryClient> cloudFoundryClient, LookupCache lookupCache, Mono<String> organizationId, Mono<String> spaceId) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.lookupCache = lookupCache;
         this.organizationId = organizationId;
         this.spaceId = spaceId;
     }
@@ -80,7 +114,7 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOptionalDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getOptionalDomainId(cloudFoundryClient, this.lookupCache, organizationId, request.getDomain())
             )))
             .flatMap(function((cloudFoundryClient, domainId) -> requestRouteExists(cloudFoundryClient, domainId, request.getHost(), request.getPath())))
             .defaultIfEmpty(false)
@@ -95,7 +129,7 @@ public final class DefaultRoutes implements Routes {
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 getSpaceId(cloudFoundryClient, organizationId, request.getSpace()),
-                getDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getDomainId(cloudFoundryClient, this.lookupCache, organizationId, request.getDomain())
             )))
             .flatMap(function((cloudFoundryClient, spaceId, domainId) ->
                 requestCreateRoute(cloudFoundryClient, domainId, request.getHost(), request.getPath(), request.getPort(), request.getRandomPort(), spaceId)
@@ -112,7 +146,7 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getDomainId(cloudFoundryClient, this.lookupCache, organizationId, request.getDomain())
             )))
             .flatMap(function((cloudFoundryClient, domainId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -143,6 +177,10 @@ public final class DefaultRoutes implements Routes {
 
     @Override
     public Flux<Route> list(ListRoutesRequest request) {
+        if (Optional.ofNullable(request.getBulk()).orElse(false)) {
+            return listBulk(request);
+        }
+
         return Mono
             .zip(this.cloudFoundryClient, this.organizationId)
             .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
@@ -150,16 +188,20 @@ public final class DefaultRoutes implements Routes {
                 getAllDomains(cloudFoundryClient, organizationId),
                 getAllSpaces(cloudFoundryClient, organizationId)
             )))
-            .flatMapMany(function((cloudFoundryClient, domains, spaces) -> getRoutes(cloudFoundryClient, request, this.organizationId, this.spaceId)
-                .map(route -> Tuples.of(cloudFoundryClient, domains, route, spaces))))
-            .flatMap(function((cloudFoundryClient, domains, route, spaces) -> Mono
-                .zip(
-                    getApplicationNames(cloudFoundryClient, ResourceUtils.getId(route)),
-                    getDomainName(domains, ResourceUtils.getEntity(route).getDomainId()),
-                    Mono.just(route),
-                    getServiceName(cloudFoundryClient, ResourceUtils.getEntity(route)),
-                    getSpaceName(spaces, ResourceUtils.getEntity(route).getSpaceId())
-                )))
+            .flatMapMany(function((cloudFoundryClient, domains, spaces) -> {
+                BatchLoader<String, List<String>> applicationNames = new BatchLoader<>(routeIds -> getApplicationNamesByRoute(cloudFoundryClient, routeIds));
+                BatchLoader<String, Map<String, String>> serviceInstanceNames = new BatchLoader<>(spaceIds -> getServiceInstanceNamesBySpace(cloudFoundryClient, spaceIds));
+
+                return getRoutes(cloudFoundryClient, request, this.organizationId, this.spaceId)
+                    .flatMap(route -> Mono
+                        .zip(
+                            getApplicationNames(applicationNames, ResourceUtils.getId(route)),
+                            getDomainName(domains, ResourceUtils.getEntity(route).getDomainId()),
+                            Mono.just(route),
+                            getServiceName(serviceInstanceNames, ResourceUtils.getEntity(route)),
+                            getSpaceName(spaces, ResourceUtils.getEntity(route).getSpaceId())
+                        ));
+            }))
             .map(function(DefaultRoutes::toRoute))
             .transform(OperationsLogging.log("List Routes"))
             .checkpoint();
@@ -171,8 +213,8 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getOrCreateRoute(cloudFoundryClient, organizationId, spaceId, request.getDomain(), request.getHost(), request.getPath(), request.getPort(), request.getRandomPort()),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId)
+                getOrCreateRoute(cloudFoundryClient, this.lookupCache, organizationId, spaceId, request.getDomain(), request.getHost(), request.getPath(), request.getPort(), request.getRandomPort()),
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getApplicationName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, routeResource, applicationId) -> requestAssociateRoute(cloudFoundryClient, applicationId, ResourceUtils.getId(routeResource))))
             .then(Mono.justOrEmpty(request.getPort()))
@@ -186,8 +228,8 @@ public final class DefaultRoutes implements Routes {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId),
-                getDomainId(cloudFoundryClient, organizationId, request.getDomain())
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getApplicationName(), spaceId),
+                getDomainId(cloudFoundryClient, this.lookupCache, organizationId, request.getDomain())
                     .flatMap(domainId -> getRouteId(cloudFoundryClient, request.getHost(), request.getDomain(), domainId, request.getPath(), request.getPort()))
             )))
             .flatMap(function(DefaultRoutes::requestRemoveRouteFromApplication))
@@ -220,15 +262,37 @@ public final class DefaultRoutes implements Routes {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", application));
     }
 
-    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String application, String spaceId) {
-        return getApplication(cloudFoundryClient, application, spaceId)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String application, String spaceId) {
+        return lookupCache.get(APPLICATION_ID, LookupCache.key(spaceId, application), () -> getApplication(cloudFoundryClient, application, spaceId)
+            .map(ResourceUtils::getId));
     }
 
-    private static Mono<List<String>> getApplicationNames(CloudFoundryClient cloudFoundryClient, String routeId) {
-        return requestApplications(cloudFoundryClient, routeId)
-            .map(resource -> ResourceUtils.getEntity(resource).getName())
-            .collectList();
+    private static Mono<List<String>> getApplicationNames(BatchLoader<String, List<String>> applicationNames, String routeId) {
+        return applicationNames.load(routeId)
+            .defaultIfEmpty(Collections.emptyList());
+    }
+
+    private static Mono<Map<String, String>> getApplicationNamesById(CloudFoundryClient cloudFoundryClient, String organizationId, List<String> spaceIds) {
+        return requestListApplicationsV3(cloudFoundryClient, organizationId, spaceIds)
+            .collectMap(org.cloudfoundry.client.v3.applications.ApplicationResource::getId, org.cloudfoundry.client.v3.applications.ApplicationResource::getName);
+    }
+
+    private static Flux<Tuple2<String, List<String>>> getApplicationNamesByRoute(CloudFoundryClient cloudFoundryClient, List<String> routeIds) {
+        return requestListRouteMappings(cloudFoundryClient, routeIds)
+            .map(ResourceUtils::getEntity)
+            .collectMultimap(RouteMappingEntity::getRouteId, RouteMappingEntity::getApplicationId)
+            .filter(applicationIds -> !applicationIds.isEmpty())
+            .flatMapMany(applicationIds -> requestListApplicationsV3(cloudFoundryClient, applicationIds.values().stream()
+                .flatMap(Collection::stream)
+                .distinct()
+                .collect(Collectors.toList()))
+                .collectMap(org.cloudfoundry.client.v3.applications.ApplicationResource::getId, org.cloudfoundry.client.v3.applications.ApplicationResource::getName)
+                .flatMapIterable(names -> applicationIds.entrySet().stream()
+                    .map(entry -> Tuples.of(entry.getKey(), entry.getValue().stream()
+                        .map(names::get)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())))
+                    .collect(Collectors.toList())));
     }
 
     private static Mono<List<ApplicationResource>> getApplications(CloudFoundryClient cloudFoundryClient, String routeId) {
@@ -242,9 +306,9 @@ public final class DefaultRoutes implements Routes {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Domain %s does not exist", domain));
     }
 
-    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
-        return getDomain(cloudFoundryClient, organizationId, domain)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String organizationId, String domain) {
+        return lookupCache.get(DOMAIN_ID, LookupCache.key(organizationId, domain), () -> getDomain(cloudFoundryClient, organizationId, domain)
+            .map(ResourceUtils::getId));
     }
 
     private static Mono<String> getDomainName(Map<String, String> domains, String domainId) {
@@ -257,20 +321,20 @@ public final class DefaultRoutes implements Routes {
             .switchIfEmpty(requestSharedDomains(cloudFoundryClient, domain));
     }
 
-    private static Mono<String> getOptionalDomainId(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
-        return getDomains(cloudFoundryClient, organizationId, domain)
+    private static Mono<String> getOptionalDomainId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String organizationId, String domain) {
+        return lookupCache.get(DOMAIN_ID, LookupCache.key(organizationId, domain), () -> getDomains(cloudFoundryClient, organizationId, domain)
             .singleOrEmpty()
-            .map(ResourceUtils::getId);
+            .map(ResourceUtils::getId));
     }
 
-    private static Mono<AbstractRouteResource> getOrCreateRoute(CloudFoundryClient cloudFoundryClient, String organizationId, String spaceId, String domain, String host, String path, Integer port,
-                                                                Boolean randomPort) {
+    private static Mono<AbstractRouteResource> getOrCreateRoute(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String organizationId, String spaceId, String domain, String host,
+                                                                String path, Integer port, Boolean randomPort) {
         if (randomPort != null) {
-            return getDomainId(cloudFoundryClient, organizationId, domain)
+            return getDomainId(cloudFoundryClient, lookupCache, organizationId, domain)
                 .flatMap(domainId -> requestCreateRoute(cloudFoundryClient, domainId, host, path, port, randomPort, spaceId));
         }
 
-        return getDomainId(cloudFoundryClient, organizationId, domain)
+        return getDomainId(cloudFoundryClient, lookupCache, organizationId, domain)
             .flatMap(domainId -> getRoute(cloudFoundryClient, domainId, host, path, port)
                 .cast(AbstractRouteResource.class)
                 .switchIfEmpty(requestCreateRoute(cloudFoundryClient, domainId, host, path, port, randomPort, spaceId)));
@@ -293,11 +357,28 @@ public final class DefaultRoutes implements Routes {
         }
     }
 
+    private static Mono<Set<String>> getRouteForwardingServiceIds(CloudFoundryClient cloudFoundryClient) {
+        return requestListServices(cloudFoundryClient)
+            .filter(resource -> Optional.ofNullable(ResourceUtils.getEntity(resource).getRequires()).orElse(Collections.emptyList()).contains(ROUTE_FORWARDING))
+            .map(ResourceUtils::getId)
+            .collect(Collectors.toSet());
+    }
+
     private static Mono<String> getRouteId(CloudFoundryClient cloudFoundryClient, String host, String domain, String domainId, String path, Integer port) {
         return getRoute(cloudFoundryClient, domainId, domain, host, path, port)
             .map(ResourceUtils::getId);
     }
 
+    private static Mono<Map<String, String>> getRouteServiceNames(CloudFoundryClient cloudFoundryClient, List<String> spaceIds) {
+        return getRouteForwardingServiceIds(cloudFoundryClient)
+            .flatMapMany(routeForwardingServiceIds -> Flux.fromIterable(spaceIds)
+                .flatMap(spaceId -> requestListSpaceServiceInstances(cloudFoundryClient, spaceId), CONCURRENCY_LIMIT)
+                .filter(resource -> isRouteService(ResourceUtils.getEntity(resource), routeForwardingServiceIds)))
+            .flatMap(resource -> getServiceInstanceRoutes(cloudFoundryClient, resource)
+                .map(route -> Tuples.of(ResourceUtils.getId(route), ResourceUtils.getEntity(resource).getName())), CONCURRENCY_LIMIT)
+            .collectMap(function((routeId, name) -> routeId), function((routeId, name) -> name));
+    }
+
     private static Flux<RouteResource> getRoutes(CloudFoundryClient cloudFoundryClient, ListRoutesRequest request, Mono<String> organizationId, Mono<String> spaceId) {
         if (Level.ORGANIZATION == request.getLevel()) {
             return organizationId
@@ -308,16 +389,25 @@ public final class DefaultRoutes implements Routes {
         }
     }
 
-    private static Mono<Optional<String>> getServiceInstanceName(CloudFoundryClient cloudFoundryClient, String serviceInstanceId, String spaceId) {
-        return requestListSpaceServiceInstances(cloudFoundryClient, spaceId)
-            .filter(resource -> serviceInstanceId.equals(ResourceUtils.getId(resource)))
-            .single()
-            .map(resource -> Optional.of(ResourceUtils.getEntity(resource).getName()));
+    private static Flux<Tuple2<String, Map<String, String>>> getServiceInstanceNamesBySpace(CloudFoundryClient cloudFoundryClient, List<String> spaceIds) {
+        return Flux.fromIterable(spaceIds)
+            .flatMap(spaceId -> requestListSpaceServiceInstances(cloudFoundryClient, spaceId)
+                .collectMap(ResourceUtils::getId, resource -> ResourceUtils.getEntity(resource).getName())
+                .map(names -> Tuples.of(spaceId, names)));
+    }
+
+    private static Flux<RouteResource> getServiceInstanceRoutes(CloudFoundryClient cloudFoundryClient, UnionServiceInstanceResource resource) {
+        if (USER_PROVIDED_SERVICE_INSTANCE.equals(ResourceUtils.getEntity(resource).getType())) {
+            return requestListUserProvidedServiceInstanceRoutes(cloudFoundryClient, ResourceUtils.getId(resource));
+        } else {
+            return requestListServiceInstanceRoutes(cloudFoundryClient, ResourceUtils.getId(resource));
+        }
     }
 
-    private static Mono<Optional<String>> getServiceName(CloudFoundryClient cloudFoundryClient, RouteEntity route) {
+    private static Mono<Optional<String>> getServiceName(BatchLoader<String, Map<String, String>> serviceInstanceNames, RouteEntity route) {
         return Mono.justOrEmpty(route.getServiceInstanceId())
-            .flatMap(serviceInstanceId -> getServiceInstanceName(cloudFoundryClient, serviceInstanceId, route.getSpaceId()))
+            .flatMap(serviceInstanceId -> serviceInstanceNames.load(route.getSpaceId())
+                .map(names -> Optional.ofNullable(names.get(serviceInstanceId))))
             .defaultIfEmpty(Optional.empty());
     }
 
@@ -332,6 +422,14 @@ public final class DefaultRoutes implements Routes {
             .map(ResourceUtils::getId);
     }
 
+    private static Mono<List<String>> getSpaceIdsFilter(ListRoutesRequest request, Mono<String> spaceId) {
+        if (Level.ORGANIZATION == request.getLevel()) {
+            return Mono.just(Collections.emptyList());
+        } else {
+            return spaceId.map(Collections::singletonList);
+        }
+    }
+
     private static Mono<String> getSpaceName(Map<String, String> spaces, String spaceId) {
         return Mono.just(spaces.get(spaceId));
     }
@@ -340,6 +438,14 @@ public final class DefaultRoutes implements Routes {
         return applications.isEmpty();
     }
 
+    private static boolean isRouteService(UnionServiceInstanceEntity entity, Set<String> routeForwardingServiceIds) {
+        if (USER_PROVIDED_SERVICE_INSTANCE.equals(entity.getType())) {
+            return entity.getRouteServiceUrl() != null;
+        } else {
+            return routeForwardingServiceIds.contains(entity.getServiceId());
+        }
+    }
+
     private static boolean isIdentical(String s, String t) {
         return s == null ? t == null : s.equals(t);
     }
@@ -429,6 +535,63 @@ public final class DefaultRoutes implements Routes {
                 .build());
     }
 
+    private static Flux<org.cloudfoundry.client.v3.applications.ApplicationResource> requestListApplicationsV3(CloudFoundryClient cloudFoundryClient, List<String> applicationIds) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
+                .list(ListApplicationsRequest.builder()
+                    .applicationIds(applicationIds)
+                    .page(page)
+                    .build()));
+    }
+
+    private static Flux<org.cloudfoundry.client.v3.applications.ApplicationResource> requestListApplicationsV3(CloudFoundryClient cloudFoundryClient, String organizationId, List<String> spaceIds) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.applicationsV3()
+                .list(ListApplicationsRequest.builder()
+                    .organizationId(organizationId)
+                    .page(page)
+                    .perPage(PER_PAGE)
+                    .spaceIds(spaceIds)
+                    .build()));
+    }
+
+    private static Flux<RouteMappingResource> requestListRouteMappings(CloudFoundryClient cloudFoundryClient, List<String> routeIds) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.routeMappings()
+                .list(ListRouteMappingsRequest.builder()
+                    .page(page)
+                    .routeIds(routeIds)
+                    .build()));
+    }
+
+    private static Flux<org.cloudfoundry.client.v3.routes.RouteResource> requestListRoutesV3(CloudFoundryClient cloudFoundryClient, String organizationId, List<String> spaceIds) {
+        return PaginationUtils
+            .requestClientV3Resources(page -> cloudFoundryClient.routesV3()
+                .list(org.cloudfoundry.client.v3.routes.ListRoutesRequest.builder()
+                    .organizationId(organizationId)
+                    .page(page)
+                    .perPage(PER_PAGE)
+                    .spaceIds(spaceIds)
+                    .build()));
+    }
+
+    private static Flux<RouteResource> requestListServiceInstanceRoutes(CloudFoundryClient cloudFoundryClient, String serviceInstanceId) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.serviceInstances()
+                .listRoutes(ListServiceInstanceRoutesRequest.builder()
+                    .page(page)
+                    .serviceInstanceId(serviceInstanceId)
+                    .build()));
+    }
+
+    private static Flux<ServiceResource> requestListServices(CloudFoundryClient cloudFoundryClient) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.services()
+                .list(ListServicesRequest.builder()
+                    .page(page)
+                    .build()));
+    }
+
     private static Flux<UnionServiceInstanceResource> requestListSpaceServiceInstances(CloudFoundryClient cloudFoundryClient, String spaceId) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.spaces()
@@ -439,6 +602,15 @@ public final class DefaultRoutes implements Routes {
                     .build()));
     }
 
+    private static Flux<RouteResource> requestListUserProvidedServiceInstanceRoutes(CloudFoundryClient cloudFoundryClient, String userProvidedServiceInstanceId) {
+        return PaginationUtils
+            .requestClientV2Resources(page -> cloudFoundryClient.userProvidedServiceInstances()
+                .listRoutes(ListUserProvidedServiceInstanceRoutesRequest.builder()
+                    .page(page)
+                    .userProvidedServiceInstanceId(userProvidedServiceInstanceId)
+                    .build()));
+    }
+
     private static Flux<PrivateDomainResource> requestPrivateDomains(CloudFoundryClient cloudFoundryClient, String organizationId, String domain) {
         return PaginationUtils
             .requestClientV2Resources(page -> cloudFoundryClient.organizations()
@@ -529,8 +701,47 @@ public final class DefaultRoutes implements Routes {
         return builder.build();
     }
 
+    private static Route toRouteV3(Map<String, String> applications, Map<String, String> domains, org.cloudfoundry.client.v3.routes.RouteResource resource, Map<String, String> services, Map<String, String> spaces) {
+        Route.Builder builder = Route.builder()
+            .applications(Optional.ofNullable(resource.getDestinations()).orElse(Collections.emptyList()).stream()
+                .map(destination -> applications.get(destination.getApplication().getApplicationId()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()))
+            .domain(domains.get(resource.getRelationships().getDomain().getData().getId()))
+            .host(resource.getHost())
+            .id(resource.getId())
+            .path(resource.getPath())
+            .space(spaces.get(resource.getRelationships().getSpace().getData().getId()));
+
+        Optional.ofNullable(services.get(resource.getId())).ifPresent(builder::service);
+
+        return builder.build();
+    }
+
     private boolean isRouteOrphan(RouteEntity entity) {
         return entity.getServiceInstanceId() == null || entity.getServiceInstanceId().isEmpty();
     }
 
+    private Flux<Route> listBulk(ListRoutesRequest request) {
+        return Mono
+            .zip(this.cloudFoundryClient, this.organizationId)
+            .flatMap(function((cloudFoundryClient, organizationId) -> Mono.zip(
+                Mono.just(cloudFoundryClient),
+                Mono.just(organizationId),
+                getSpaceIdsFilter(request, this.spaceId)
+            )))
+            .flatMapMany(function((cloudFoundryClient, organizationId, spaceIds) -> Mono
+                .zip(
+                    getAllDomains(cloudFoundryClient, organizationId),
+                    getAllSpaces(cloudFoundryClient, organizationId),
+                    getApplicationNamesById(cloudFoundryClient, organizationId, spaceIds)
+                )
+                .flatMapMany(function((domains, spaces, applications) -> getRouteServiceNames(cloudFoundryClient, spaceIds.isEmpty() ? new ArrayList<>(spaces.keySet()) : spaceIds)
+                    .flatMapMany(services -> requestListRoutesV3(cloudFoundryClient, organizationId, spaceIds)
+                        .map(route -> toRouteV3(applications, domains, route, services, spaces)))))))
+            .transform(OperationsLogging.log("List Routes"))
+            .checkpoint();
+    }
+
 }
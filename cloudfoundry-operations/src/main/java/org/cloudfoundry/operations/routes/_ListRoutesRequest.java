@@ -25,6 +25,13 @@ import org.immutables.value.Value;
 @Value.Immutable
 abstract class _ListRoutesRequest {
 
+    /**
+     * Whether to list routes with a bounded number of paged, bulk requests whose results are joined in memory, rather than looking up the
+     * applications and service of each route.  Recommended for organizations with many routes.
+     */
+    @Nullable
+    abstract Boolean getBulk();
+
     /**
      * A level to indicate which routes to list
      */
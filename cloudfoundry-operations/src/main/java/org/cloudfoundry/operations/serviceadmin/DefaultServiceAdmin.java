@@ -38,6 +38,7 @@ import org.cloudfoundry.client.v2.serviceplanvisibilities.ListServicePlanVisibil
 import org.cloudfoundry.client.v2.serviceplanvisibilities.ServicePlanVisibilityResource;
 import org.cloudfoundry.client.v2.services.ListServicesRequest;
 import org.cloudfoundry.client.v2.services.ServiceResource;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.operations.util.OperationsLogging;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
@@ -54,6 +55,7 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.LookupCache.Type.SERVICE_PLANS;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 import static org.cloudfoundry.util.tuple.TupleUtils.predicate;
 
@@ -61,10 +63,17 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
 
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final LookupCache lookupCache;
+
     private final Mono<String> spaceId;
 
     public DefaultServiceAdmin(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> spaceId) {
+        this(cloudFoundryClient, LookupCache.NONE, spaceId);
+    }
+
+    public DefaultServiceAdmin(Mono<CloudFoundryClient> cloudFoundryClient, LookupCache lookupCache, Mono<String> spaceId) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.lookupCache = lookupCache;
         this.spaceId = spaceId;
     }
 
@@ -75,6 +84,7 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
             .flatMap(function((cloudFoundryClient, spaceId) -> requestCreateServiceBroker(cloudFoundryClient, request.getName(), request.getUrl(), request.getUsername(), request.getPassword(),
                 request.getSpaceScoped(), spaceId)))
             .then()
+            .doOnSuccess(v -> this.lookupCache.invalidateAll(SERVICE_PLANS))
             .transform(OperationsLogging.log("Create Service Broker"))
             .checkpoint();
     }
@@ -87,6 +97,7 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
                 getServiceBrokerId(cloudFoundryClient, request.getName())
             ))
             .flatMap(function(DefaultServiceAdmin::requestDeleteServiceBroker))
+            .doOnSuccess(v -> this.lookupCache.invalidateAll(SERVICE_PLANS))
             .transform(OperationsLogging.log("Delete Service Broker"))
             .checkpoint();
     }
@@ -106,6 +117,7 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
                 updateServicePlansPublicStatus(cloudFoundryClient, request, servicePlans)
             )))
             .then()
+            .doOnSuccess(v -> this.lookupCache.invalidateAll(SERVICE_PLANS))
             .transform(OperationsLogging.log("Disable Service Access"))
             .checkpoint();
     }
@@ -125,6 +137,7 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
                 updateServicePlansPublicStatus(cloudFoundryClient, request, servicePlans)
             )))
             .then()
+            .doOnSuccess(v -> this.lookupCache.invalidateAll(SERVICE_PLANS))
             .transform(OperationsLogging.log("Enable Service Access"))
             .checkpoint();
     }
@@ -161,6 +174,7 @@ public final class DefaultServiceAdmin implements ServiceAdmin {
             ))
             .flatMap(function((cloudFoundryClient, serviceBrokerId) -> requestUpdateServiceBroker(cloudFoundryClient, request, serviceBrokerId)))
             .then()
+            .doOnSuccess(v -> this.lookupCache.invalidateAll(SERVICE_PLANS))
             .transform(OperationsLogging.log("Update Service Broker"))
             .checkpoint();
     }
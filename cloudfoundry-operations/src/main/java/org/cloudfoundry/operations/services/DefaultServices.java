@@ -72,6 +72,7 @@ import org.cloudfoundry.client.v2.userprovidedserviceinstances.CreateUserProvide
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.DeleteUserProvidedServiceInstanceRequest;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.RemoveUserProvidedServiceInstanceRouteRequest;
 import org.cloudfoundry.client.v2.userprovidedserviceinstances.UpdateUserProvidedServiceInstanceResponse;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.operations.util.OperationsLogging;
 import org.cloudfoundry.util.ExceptionUtils;
 import org.cloudfoundry.util.JobUtils;
@@ -95,6 +96,9 @@ import java.util.Optional;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import static org.cloudfoundry.operations.util.LookupCache.Type.APPLICATION_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.DOMAIN_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.SERVICE_PLANS;
 import static org.cloudfoundry.util.tuple.TupleUtils.function;
 
 public final class DefaultServices implements Services {
@@ -107,12 +111,19 @@ public final class DefaultServices implements Services {
 
     private final Mono<CloudFoundryClient> cloudFoundryClient;
 
+    private final LookupCache lookupCache;
+
     private final Mono<String> organizationId;
 
     private final Mono<String> spaceId;
 
     public DefaultServices(Mono<CloudFoundryClient> cloudFoundryClient, Mono<String> organizationId, Mono<String> spaceId) {
+        this(cloudFoundryClient, LookupCache.NONE, organizationId, spaceId);
+    }
+
+    public DefaultServices(Mono<CloudFoundryClient> cloudFoundryClient, LookupCache lookupCache, Mono<String> organizationId, Mono<String> spaceId) {
         this.cloudFoundryClient = cloudFoundryClient;
+        this.lookupCache = lookupCache;
         this.spaceId = spaceId;
         this.organizationId = organizationId;
     }
@@ -123,7 +134,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId),
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getApplicationName(), spaceId),
                 getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId, serviceInstanceId) -> createServiceBinding(cloudFoundryClient, applicationId, serviceInstanceId, request.getParameters())))
@@ -138,7 +149,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getDomainId(cloudFoundryClient, request.getDomainName(), organizationId),
+                getDomainId(cloudFoundryClient, this.lookupCache, request.getDomainName(), organizationId),
                 Mono.just(spaceId)
             )))
             .flatMap(function((cloudFoundryClient, domainId, spaceId) -> Mono.zip(
@@ -164,7 +175,7 @@ public final class DefaultServices implements Services {
             .flatMap(function((cloudFoundryClient, spaceId, serviceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
                 Mono.just(spaceId),
-                getServicePlanIdByName(cloudFoundryClient, serviceId, request.getPlanName())
+                getServicePlanIdByName(cloudFoundryClient, this.lookupCache, serviceId, request.getPlanName())
             )))
             .flatMap(function((cloudFoundryClient, spaceId, planId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
@@ -310,7 +321,7 @@ public final class DefaultServices implements Services {
             ))
             .flatMap(function((cloudFoundryClient, resource) -> Mono.zip(
                 Mono.just(resource),
-                getServicePlans(cloudFoundryClient, ResourceUtils.getId(resource))
+                getServicePlans(cloudFoundryClient, this.lookupCache, ResourceUtils.getId(resource))
             )))
             .map(function(DefaultServices::toServiceOffering))
             .transform(OperationsLogging.log("List Service Offerings"))
@@ -337,7 +348,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.spaceId)
             .flatMap(function((cloudFoundryClient, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getApplicationId(cloudFoundryClient, request.getApplicationName(), spaceId),
+                getApplicationId(cloudFoundryClient, this.lookupCache, request.getApplicationName(), spaceId),
                 getSpaceServiceInstanceId(cloudFoundryClient, request.getServiceInstanceName(), spaceId)
             )))
             .flatMap(function((cloudFoundryClient, applicationId, serviceInstanceId) -> Mono.zip(
@@ -357,7 +368,7 @@ public final class DefaultServices implements Services {
             .zip(this.cloudFoundryClient, this.organizationId, this.spaceId)
             .flatMap(function((cloudFoundryClient, organizationId, spaceId) -> Mono.zip(
                 Mono.just(cloudFoundryClient),
-                getDomainId(cloudFoundryClient, request.getDomainName(), organizationId),
+                getDomainId(cloudFoundryClient, this.lookupCache, request.getDomainName(), organizationId),
                 Mono.just(spaceId)
             )))
             .flatMap(function((cloudFoundryClient, domainId, spaceId) -> Mono.zip(
@@ -466,9 +477,9 @@ public final class DefaultServices implements Services {
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Application %s does not exist", applicationName));
     }
 
-    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, String applicationName, String spaceId) {
-        return getApplication(cloudFoundryClient, applicationName, spaceId)
-            .map(ResourceUtils::getId);
+    private static Mono<String> getApplicationId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String applicationName, String spaceId) {
+        return lookupCache.get(APPLICATION_ID, LookupCache.key(spaceId, applicationName), () -> getApplication(cloudFoundryClient, applicationName, spaceId)
+            .map(ResourceUtils::getId));
     }
 
     private static Mono<List<String>> getBoundApplications(CloudFoundryClient cloudFoundryClient, String serviceInstanceId) {
@@ -480,10 +491,10 @@ public final class DefaultServices implements Services {
             .collectList();
     }
 
-    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, String domain, String organizationId) {
-        return getPrivateDomainId(cloudFoundryClient, domain, organizationId)
+    private static Mono<String> getDomainId(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String domain, String organizationId) {
+        return lookupCache.get(DOMAIN_ID, LookupCache.key(organizationId, domain), () -> getPrivateDomainId(cloudFoundryClient, domain, organizationId)
             .switchIfEmpty(getSharedDomainId(cloudFoundryClient, domain))
-            .switchIfEmpty(ExceptionUtils.illegalArgument("Domain %s not found", domain));
+            .switchIfEmpty(ExceptionUtils.illegalArgument("Domain %s not found", domain)));
     }
 
     @SuppressWarnings("unchecked")
@@ -584,17 +595,18 @@ public final class DefaultServices implements Services {
             .switchIfEmpty(Mono.just(ServicePlanEntity.builder().build()));
     }
 
-    private static Mono<String> getServicePlanIdByName(CloudFoundryClient cloudFoundryClient, String serviceId, String plan) {
-        return requestListServicePlans(cloudFoundryClient, serviceId)
+    private static Mono<String> getServicePlanIdByName(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String serviceId, String plan) {
+        return getServicePlans(cloudFoundryClient, lookupCache, serviceId)
+            .flatMapIterable(resources -> resources)
             .filter(resource -> plan.equals(ResourceUtils.getEntity(resource).getName()))
             .single()
             .map(ResourceUtils::getId)
             .onErrorResume(NoSuchElementException.class, t -> ExceptionUtils.illegalArgument("Service plan %s does not exist", plan));
     }
 
-    private static Mono<List<ServicePlanResource>> getServicePlans(CloudFoundryClient cloudFoundryClient, String serviceId) {
-        return requestListServicePlans(cloudFoundryClient, serviceId)
-            .collectList();
+    private static Mono<List<ServicePlanResource>> getServicePlans(CloudFoundryClient cloudFoundryClient, LookupCache lookupCache, String serviceId) {
+        return lookupCache.get(SERVICE_PLANS, serviceId, () -> requestListServicePlans(cloudFoundryClient, serviceId)
+            .collectList());
     }
 
     private static Mono<String> getSharedDomainId(CloudFoundryClient cloudFoundryClient, String domain) {
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Collects individual lookups by key and loads them together.  Keys requested within a window, or until a maximum batch size is reached, are
+ * passed to a single call of the batch function, and each result it returns is delivered to the lookups of its key.  Lookups of the same key
+ * within a batch share a single result, and keys the batch function returns no result for complete empty.  Instances are intended to be scoped
+ * to a single operation, such as listing routes, rather than shared.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of result
+ */
+public final class BatchLoader<K, V> {
+
+    private static final int DEFAULT_MAXIMUM_BATCH_SIZE = 50;
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofMillis(10);
+
+    private final Function<List<K>, Flux<Tuple2<K, V>>> batchFunction;
+
+    private final int maximumBatchSize;
+
+    private final Object monitor = new Object();
+
+    private final Scheduler scheduler;
+
+    private final Duration window;
+
+    private Batch current;
+
+    /**
+     * Creates an instance that loads up to 50 keys collected within 10 milliseconds in a batch
+     *
+     * @param batchFunction the function that loads the results for a batch of keys
+     */
+    public BatchLoader(Function<List<K>, Flux<Tuple2<K, V>>> batchFunction) {
+        this(batchFunction, DEFAULT_MAXIMUM_BATCH_SIZE, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param batchFunction    the function that loads the results for a batch of keys
+     * @param maximumBatchSize the maximum number of keys to load in a batch
+     * @param window           the time to collect keys for before loading a batch
+     */
+    public BatchLoader(Function<List<K>, Flux<Tuple2<K, V>>> batchFunction, int maximumBatchSize, Duration window) {
+        this(batchFunction, maximumBatchSize, Schedulers.parallel(), window);
+    }
+
+    BatchLoader(Function<List<K>, Flux<Tuple2<K, V>>> batchFunction, int maximumBatchSize, Scheduler scheduler, Duration window) {
+        this.batchFunction = batchFunction;
+        this.maximumBatchSize = maximumBatchSize;
+        this.scheduler = scheduler;
+        this.window = window;
+    }
+
+    /**
+     * Loads the result for a key as part of a batch
+     *
+     * @param key the key to load
+     * @return the result for the key, or empty if the batch function returned no result for it
+     */
+    public Mono<V> load(K key) {
+        return Mono.create(sink -> {
+            Batch full = null;
+
+            synchronized (this.monitor) {
+                if (this.current == null) {
+                    Batch batch = new Batch();
+                    this.scheduler.schedule(() -> dispatch(batch), this.window.toNanos(), TimeUnit.NANOSECONDS);
+                    this.current = batch;
+                }
+
+                this.current.add(key, sink);
+
+                if (this.current.size() >= this.maximumBatchSize) {
+                    full = this.current;
+                    this.current = null;
+                }
+            }
+
+            if (full != null) {
+                dispatch(full);
+            }
+        });
+    }
+
+    private void dispatch(Batch batch) {
+        synchronized (this.monitor) {
+            if (this.current == batch) {
+                this.current = null;
+            }
+        }
+
+        if (batch.dispatched.compareAndSet(false, true)) {
+            batch.load();
+        }
+    }
+
+    private final class Batch {
+
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+
+        private final Map<K, List<MonoSink<V>>> sinks = new LinkedHashMap<>();
+
+        private void add(K key, MonoSink<V> sink) {
+            this.sinks.computeIfAbsent(key, k -> new ArrayList<>()).add(sink);
+        }
+
+        private void load() {
+            Map<K, List<MonoSink<V>>> pending = new LinkedHashMap<>(this.sinks);
+
+            Flux.defer(() -> BatchLoader.this.batchFunction.apply(new ArrayList<>(pending.keySet())))
+                .subscribe(
+                    result -> {
+                        List<MonoSink<V>> sinks = pending.remove(result.getT1());
+                        if (sinks != null) {
+                            sinks.forEach(sink -> sink.success(result.getT2()));
+                        }
+                    },
+                    t -> pending.values().forEach(sinks -> sinks.forEach(sink -> sink.error(t))),
+                    () -> pending.values().forEach(sinks -> sinks.forEach(MonoSink::success)));
+        }
+
+        private int size() {
+            return this.sinks.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * A {@link LookupCache} that holds results in memory.  Each result expires after a time-to-live, and the cache holds at most a maximum number of
+ * results, evicting those closest to expiry first.  Concurrent lookups of the same key share a single load.
+ */
+public final class InMemoryLookupCache implements LookupCache {
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final ConcurrentMap<Key<?>, Entry<?>> entries = new ConcurrentHashMap<>();
+
+    private final int maximumSize;
+
+    private final long timeToLive;
+
+    /**
+     * Creates an instance holding up to 1000 results for 5 minutes
+     */
+    public InMemoryLookupCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param maximumSize the maximum number of results to hold
+     * @param timeToLive  the duration to hold each result for
+     */
+    public InMemoryLookupCache(int maximumSize, Duration timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive.toNanos();
+    }
+
+    @Override
+    public <T> Mono<T> get(Type<T> type, String key, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            Key<T> cacheKey = new Key<>(type, key);
+            long now = System.nanoTime();
+
+            Entry<T> entry = cacheKey.cast(this.entries.compute(cacheKey, (k, existing) -> existing == null || existing.isExpired(now) ? createEntry(cacheKey, loader, now + this.timeToLive) : existing));
+
+            if (this.entries.size() > this.maximumSize) {
+                evict(now);
+            }
+
+            return entry.value;
+        });
+    }
+
+    @Override
+    public void invalidate(Type<?> type, String key) {
+        this.entries.remove(new Key<>(type, key));
+    }
+
+    @Override
+    public void invalidateAll(Type<?> type) {
+        this.entries.keySet().removeIf(key -> key.type == type);
+    }
+
+    private <T> Entry<T> createEntry(Key<T> key, Supplier<Mono<T>> loader, long expiration) {
+        Entry<T> entry = new Entry<>(expiration);
+
+        entry.value = Mono.defer(loader)
+            .doOnError(t -> this.entries.remove(key, entry))
+            .switchIfEmpty(Mono.defer(() -> {
+                this.entries.remove(key, entry);
+                return Mono.empty();
+            }))
+            .cache();
+
+        return entry;
+    }
+
+    private void evict(long now) {
+        this.entries.values().removeIf(entry -> entry.isExpired(now));
+
+        while (this.entries.size() > this.maximumSize) {
+            this.entries.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().expiration))
+                .map(Map.Entry::getKey)
+                .ifPresent(this.entries::remove);
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final long expiration;
+
+        private volatile Mono<T> value;
+
+        private Entry(long expiration) {
+            this.expiration = expiration;
+        }
+
+        private boolean isExpired(long now) {
+            return now - this.expiration >= 0;
+        }
+
+    }
+
+    private static final class Key<T> {
+
+        private final String key;
+
+        private final Type<T> type;
+
+        private Key(Type<T> type, String key) {
+            this.key = key;
+            this.type = type;
+        }
+
+        /**
+         * Entries are only ever stored under a key of the same type as their result, so an entry found under this key holds results of this key's type
+         */
+        @SuppressWarnings("unchecked")
+        private Entry<T> cast(Entry<?> entry) {
+            return (Entry<T>) entry;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key<?> other = (Key<?>) o;
+            return this.type == other.type && this.key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.type, this.key);
+        }
+
+    }
+
+}
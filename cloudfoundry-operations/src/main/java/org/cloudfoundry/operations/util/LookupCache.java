@@ -0,0 +1,145 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
+import org.cloudfoundry.client.v2.serviceplans.ServicePlanResource;
+import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A cache of the results of lookups, such as resolving a name to a GUID, that operations would otherwise repeat on every call.  Operations that
+ * mutate a cached resource invalidate the affected entries.
+ */
+public interface LookupCache {
+
+    /**
+     * A cache that caches nothing, calling the loader for every lookup
+     */
+    LookupCache NONE = new LookupCache() {
+
+        @Override
+        public <T> Mono<T> get(Type<T> type, String key, Supplier<Mono<T>> loader) {
+            return loader.get();
+        }
+
+        @Override
+        public void invalidate(Type<?> type, String key) {
+        }
+
+        @Override
+        public void invalidateAll(Type<?> type) {
+        }
+
+    };
+
+    /**
+     * Returns the cached result of a lookup, calling the loader and caching its result if there is none.  Errors and empty results are not cached.
+     *
+     * @param type   the type of lookup
+     * @param key    the key of the lookup within its type
+     * @param loader the loader of the result
+     * @param <T>    the type of the result
+     * @return the result
+     */
+    <T> Mono<T> get(Type<T> type, String key, Supplier<Mono<T>> loader);
+
+    /**
+     * Invalidates the cached result of a lookup
+     *
+     * @param type the type of lookup
+     * @param key  the key of the lookup within its type
+     */
+    void invalidate(Type<?> type, String key);
+
+    /**
+     * Invalidates the cached results of all lookups of a type
+     *
+     * @param type the type of lookup
+     */
+    void invalidateAll(Type<?> type);
+
+    /**
+     * Returns the key of a lookup that is scoped to a parent resource
+     *
+     * @param scopeId the id of the parent resource
+     * @param name    the name being looked up within the parent resource
+     * @return the key
+     */
+    static String key(String scopeId, String name) {
+        return String.format("%s:%s", scopeId, name);
+    }
+
+    /**
+     * The types of lookup that can be cached.  Each type carries the type of its result so that a lookup can only be cached and retrieved as that type.
+     *
+     * @param <T> the type of the result of the lookup
+     */
+    final class Type<T> {
+
+        /**
+         * The id of an application, keyed by space id and application name
+         */
+        public static final Type<String> APPLICATION_ID = new Type<>("APPLICATION_ID");
+
+        /**
+         * The id of a private or shared domain, keyed by organization id and domain name
+         */
+        public static final Type<String> DOMAIN_ID = new Type<>("DOMAIN_ID");
+
+        /**
+         * The private domain resources of an organization, keyed by organization id
+         */
+        public static final Type<List<PrivateDomainResource>> PRIVATE_DOMAINS = new Type<>("PRIVATE_DOMAINS");
+
+        /**
+         * The plan resources of a service, keyed by service id
+         */
+        public static final Type<List<ServicePlanResource>> SERVICE_PLANS = new Type<>("SERVICE_PLANS");
+
+        /**
+         * The shared domain resources, keyed by an empty string
+         */
+        public static final Type<List<SharedDomainResource>> SHARED_DOMAINS = new Type<>("SHARED_DOMAINS");
+
+        /**
+         * The id of a stack, keyed by stack name
+         */
+        public static final Type<String> STACK_ID = new Type<>("STACK_ID");
+
+        /**
+         * The name of a stack, keyed by stack id
+         */
+        public static final Type<String> STACK_NAME = new Type<>("STACK_NAME");
+
+        private final String name;
+
+        private Type(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+
+    }
+
+}
@@ -104,11 +104,27 @@ import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
 import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
 import org.cloudfoundry.client.v2.stacks.StackEntity;
 import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.ClientV3Exception;
 import org.cloudfoundry.client.v3.DockerData;
 import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
 import org.cloudfoundry.client.v3.applications.ApplicationState;
-import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationProcessStatisticsResponse;
 import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.processes.HealthCheck;
+import org.cloudfoundry.client.v3.processes.HealthCheckType;
+import org.cloudfoundry.client.v3.processes.ListProcessesRequest;
+import org.cloudfoundry.client.v3.processes.ListProcessesResponse;
+import org.cloudfoundry.client.v3.processes.ProcessRelationships;
+import org.cloudfoundry.client.v3.processes.ProcessResource;
+import org.cloudfoundry.client.v3.processes.ProcessState;
+import org.cloudfoundry.client.v3.processes.ProcessStatisticsResource;
+import org.cloudfoundry.client.v3.processes.ProcessUsage;
+import org.cloudfoundry.client.v3.routes.Application;
+import org.cloudfoundry.client.v3.routes.Destination;
+import org.cloudfoundry.client.v3.routes.RouteRelationships;
 import org.cloudfoundry.client.v3.tasks.CancelTaskRequest;
 import org.cloudfoundry.client.v3.tasks.CancelTaskResponse;
 import org.cloudfoundry.client.v3.tasks.CreateTaskRequest;
@@ -121,6 +137,7 @@ import org.cloudfoundry.doppler.LogMessage;
 import org.cloudfoundry.doppler.RecentLogsRequest;
 import org.cloudfoundry.doppler.StreamRequest;
 import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.cloudfoundry.operations.util.InMemoryLookupCache;
 import org.cloudfoundry.util.DateUtils;
 import org.cloudfoundry.util.FluentMap;
 import org.cloudfoundry.util.ResourceMatchingUtils;
@@ -148,8 +165,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.cloudfoundry.client.v3.LifecycleType.BUILDPACK;
 import static org.cloudfoundry.client.v3.LifecycleType.DOCKER;
 import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_SMART_NULLS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class DefaultApplicationsTest extends AbstractOperationsTest {
@@ -311,6 +332,36 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void deleteInvalidatesCachedApplicationId() {
+        DefaultApplications applications = new DefaultApplications(Mono.just(this.cloudFoundryClient), Mono.just(this.dopplerClient), new InMemoryLookupCache(), this.randomWords,
+            Mono.just(TEST_SPACE_ID));
+
+        requestApplications(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-metadata-id");
+        requestApplicationEnvironment(this.cloudFoundryClient, "test-metadata-id");
+        requestApplicationSummary(this.cloudFoundryClient, "test-metadata-id");
+        requestApplicationServiceBindingsEmpty(this.cloudFoundryClient, "test-metadata-id");
+        requestDeleteApplication(this.cloudFoundryClient, "test-metadata-id");
+
+        getEnvironments(applications, "test-name");
+
+        applications
+            .delete(DeleteApplicationRequest.builder()
+                .name("test-name")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        getEnvironments(applications, "test-name");
+
+        verify(this.spaces, times(2)).listApplications(ListSpaceApplicationsRequest.builder()
+            .name("test-name")
+            .page(1)
+            .spaceId(TEST_SPACE_ID)
+            .build());
+    }
+
     @Test
     public void deleteWithBoundRoutes() {
         requestApplications(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-metadata-id");
@@ -603,6 +654,35 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void getCachesStackName() {
+        DefaultApplications applications = new DefaultApplications(Mono.just(this.cloudFoundryClient), Mono.just(this.dopplerClient), new InMemoryLookupCache(), this.randomWords,
+            Mono.just(TEST_SPACE_ID));
+
+        requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
+        requestApplicationStatistics(this.cloudFoundryClient, "test-application-id");
+        requestStack(this.cloudFoundryClient, "test-application-stackId");
+        requestApplicationSummary(this.cloudFoundryClient, "test-application-id");
+        requestApplicationInstances(this.cloudFoundryClient, "test-application-id");
+        requestGetApplicationV3Buildpack(this.cloudFoundryClient, "test-application-id");
+
+        for (int i = 0; i < 2; i++) {
+            applications
+                .get(GetApplicationRequest.builder()
+                    .name("test-app")
+                    .build())
+                .map(ApplicationDetail::getStack)
+                .as(StepVerifier::create)
+                .expectNext("test-stack-entity-name")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        }
+
+        verify(this.stacks, times(1)).get(GetStackRequest.builder()
+            .stackId("test-application-stackId")
+            .build());
+    }
+
     @Test
     public void getDetectedBuildpack() {
         requestApplications(this.cloudFoundryClient, "test-app", TEST_SPACE_ID, "test-application-id");
@@ -1145,6 +1225,112 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void listStreaming() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID);
+        requestListProcesses(this.cloudFoundryClient, "test-started-id", "test-stopped-id");
+        requestListRoutesV3(this.cloudFoundryClient, "test-started-id", "test-stopped-id");
+        requestApplicationProcessStatistics(this.cloudFoundryClient, "test-started-id");
+
+        this.applications
+            .list(ListApplicationsRequest.builder()
+                .streaming(true)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationSummary.builder()
+                .diskQuota(1024)
+                .id("test-started-id")
+                .instances(2)
+                .memoryLimit(256)
+                .name("test-started-name")
+                .requestedState("STARTED")
+                .runningInstances(1)
+                .url("test-host.test-domain/test-path")
+                .build(),
+                ApplicationSummary.builder()
+                    .diskQuota(0)
+                    .id("test-stopped-id")
+                    .instances(0)
+                    .memoryLimit(0)
+                    .name("test-stopped-name")
+                    .requestedState("STOPPED")
+                    .runningInstances(0)
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void listStreamingNoWebProcess() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID);
+        requestListProcessesEmpty(this.cloudFoundryClient, "test-started-id", "test-stopped-id");
+        requestListRoutesV3(this.cloudFoundryClient, "test-started-id", "test-stopped-id");
+
+        this.applications
+            .list(ListApplicationsRequest.builder()
+                .streaming(true)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationSummary.builder()
+                .diskQuota(0)
+                .id("test-started-id")
+                .instances(0)
+                .memoryLimit(0)
+                .name("test-started-name")
+                .requestedState("STARTED")
+                .runningInstances(0)
+                .url("test-host.test-domain/test-path")
+                .build(),
+                ApplicationSummary.builder()
+                    .diskQuota(0)
+                    .id("test-stopped-id")
+                    .instances(0)
+                    .memoryLimit(0)
+                    .name("test-stopped-name")
+                    .requestedState("STOPPED")
+                    .runningInstances(0)
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        verify(this.cloudFoundryClient.applicationsV3(), never()).getProcessStatistics(any());
+    }
+
+    @Test
+    public void listStreamingStatisticsUnavailable() {
+        requestApplicationsV3(this.cloudFoundryClient, TEST_SPACE_ID);
+        requestListProcesses(this.cloudFoundryClient, "test-started-id", "test-stopped-id");
+        requestListRoutesV3(this.cloudFoundryClient, "test-started-id", "test-stopped-id");
+        requestApplicationProcessStatisticsError(this.cloudFoundryClient, "test-started-id", 503);
+
+        this.applications
+            .list(ListApplicationsRequest.builder()
+                .streaming(true)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(ApplicationSummary.builder()
+                .diskQuota(1024)
+                .id("test-started-id")
+                .instances(2)
+                .memoryLimit(256)
+                .name("test-started-name")
+                .requestedState("STARTED")
+                .runningInstances(0)
+                .url("test-host.test-domain/test-path")
+                .build(),
+                ApplicationSummary.builder()
+                    .diskQuota(0)
+                    .id("test-stopped-id")
+                    .instances(0)
+                    .memoryLimit(0)
+                    .name("test-stopped-name")
+                    .requestedState("STOPPED")
+                    .runningInstances(0)
+                    .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void listTasks() {
         requestApplicationsV3(this.cloudFoundryClient, "test-name", TEST_SPACE_ID, "test-metadata-id");
@@ -2291,6 +2477,35 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void renameInvalidatesCachedApplicationId() {
+        DefaultApplications applications = new DefaultApplications(Mono.just(this.cloudFoundryClient), Mono.just(this.dopplerClient), new InMemoryLookupCache(), this.randomWords,
+            Mono.just(TEST_SPACE_ID));
+
+        requestApplications(this.cloudFoundryClient, "test-app-name", TEST_SPACE_ID, "test-metadata-id");
+        requestApplicationEnvironment(this.cloudFoundryClient, "test-metadata-id");
+        requestUpdateApplicationRename(this.cloudFoundryClient, "test-metadata-id", "test-new-app-name");
+
+        getEnvironments(applications, "test-app-name");
+
+        applications
+            .rename(RenameApplicationRequest.builder()
+                .name("test-app-name")
+                .newName("test-new-app-name")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        getEnvironments(applications, "test-app-name");
+
+        verify(this.spaces, times(2)).listApplications(ListSpaceApplicationsRequest.builder()
+            .name("test-app-name")
+            .page(1)
+            .spaceId(TEST_SPACE_ID)
+            .build());
+    }
+
     @Test
     public void renameNoApp() {
         requestApplicationsEmpty(this.cloudFoundryClient, "test-app-name", TEST_SPACE_ID);
@@ -2891,6 +3106,17 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    private static void getEnvironments(DefaultApplications applications, String name) {
+        applications
+            .getEnvironments(GetApplicationEnvironmentsRequest.builder()
+                .name(name)
+                .build())
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     private static void provideRandomWords(RandomWords randomWords) {
         when(randomWords.getAdjective()).thenReturn("test-adjective");
         when(randomWords.getNoun()).thenReturn("test-noun");
@@ -3101,6 +3327,43 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
             .thenReturn(Mono.empty());
     }
 
+    private static void requestApplicationProcessStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                .applicationId(applicationId)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .just(GetApplicationProcessStatisticsResponse.builder()
+                    .resource(fill(ProcessStatisticsResource.builder())
+                        .index(0)
+                        .state(ProcessState.RUNNING)
+                        .usage(fill(ProcessUsage.builder())
+                            .build())
+                        .build())
+                    .resource(fill(ProcessStatisticsResource.builder())
+                        .index(1)
+                        .state(ProcessState.STARTING)
+                        .usage(fill(ProcessUsage.builder())
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestApplicationProcessStatisticsError(CloudFoundryClient cloudFoundryClient, String applicationId, Integer statusCode) {
+        when(cloudFoundryClient.applicationsV3()
+            .getProcessStatistics(GetApplicationProcessStatisticsRequest.builder()
+                .applicationId(applicationId)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .error(new ClientV3Exception(statusCode, Collections.singletonList(org.cloudfoundry.client.v3.Error.builder()
+                    .code(200002)
+                    .detail("test-error-detail")
+                    .title("test-error-title")
+                    .build()))));
+    }
+
     private static void requestApplicationStatistics(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV2()
             .statistics(ApplicationStatisticsRequest.builder()
@@ -3300,9 +3563,44 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String spaceId) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(org.cloudfoundry.client.v3.applications.ListApplicationsRequest.builder()
+                .page(1)
+                .spaceId(spaceId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id("test-started-id")
+                        .lifecycle(Lifecycle.builder()
+                            .data(BuildpackData.builder()
+                                .buildpack("test-buildpack")
+                                .build())
+                            .type(BUILDPACK)
+                            .build())
+                        .name("test-started-name")
+                        .state(ApplicationState.STARTED)
+                        .build())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id("test-stopped-id")
+                        .lifecycle(Lifecycle.builder()
+                            .data(BuildpackData.builder()
+                                .buildpack("test-buildpack")
+                                .build())
+                            .type(BUILDPACK)
+                            .build())
+                        .name("test-stopped-name")
+                        .state(ApplicationState.STOPPED)
+                        .build())
+                    .build()));
+    }
+
     private static void requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String application, String spaceId, String applicationId) {
         when(cloudFoundryClient.applicationsV3()
-            .list(ListApplicationsRequest.builder()
+            .list(org.cloudfoundry.client.v3.applications.ListApplicationsRequest.builder()
                 .name(application)
                 .page(1)
                 .spaceId(spaceId)
@@ -3720,6 +4018,80 @@ public final class DefaultApplicationsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestListProcesses(CloudFoundryClient cloudFoundryClient, String... applicationIds) {
+        when(cloudFoundryClient.processes()
+            .list(ListProcessesRequest.builder()
+                .applicationIds(applicationIds)
+                .page(1)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListProcessesResponse.builder())
+                    .resource(fill(ProcessResource.builder())
+                        .diskInMb(1024)
+                        .healthCheck(HealthCheck.builder()
+                            .type(HealthCheckType.PORT)
+                            .build())
+                        .id("test-process-id")
+                        .instances(2)
+                        .memoryInMb(256)
+                        .metadata(org.cloudfoundry.client.v3.Metadata.builder()
+                            .build())
+                        .relationships(ProcessRelationships.builder()
+                            .app(ToOneRelationship.builder()
+                                .data(Relationship.builder()
+                                    .id(applicationIds[0])
+                                    .build())
+                                .build())
+                            .build())
+                        .type("web")
+                        .build())
+                    .build()));
+    }
+
+    private static void requestListProcessesEmpty(CloudFoundryClient cloudFoundryClient, String... applicationIds) {
+        when(cloudFoundryClient.processes()
+            .list(ListProcessesRequest.builder()
+                .applicationIds(applicationIds)
+                .page(1)
+                .type("web")
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListProcessesResponse.builder())
+                    .build()));
+    }
+
+    private static void requestListRoutesV3(CloudFoundryClient cloudFoundryClient, String... applicationIds) {
+        when(cloudFoundryClient.routesV3()
+            .list(org.cloudfoundry.client.v3.routes.ListRoutesRequest.builder()
+                .applicationIds(applicationIds)
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(org.cloudfoundry.client.v3.routes.ListRoutesResponse.builder())
+                    .resource(fill(org.cloudfoundry.client.v3.routes.RouteResource.builder())
+                        .destination(Destination.builder()
+                            .application(Application.builder()
+                                .applicationId(applicationIds[0])
+                                .build())
+                            .build())
+                        .relationships(RouteRelationships.builder()
+                            .domain(ToOneRelationship.builder()
+                                .data(Relationship.builder()
+                                    .id("test-domain-id")
+                                    .build())
+                                .build())
+                            .space(ToOneRelationship.builder()
+                                .data(Relationship.builder()
+                                    .id("test-space-id")
+                                    .build())
+                                .build())
+                            .build())
+                        .url("test-host.test-domain/test-path")
+                        .build())
+                    .build()));
+    }
+
     private static void requestListTasks(CloudFoundryClient cloudFoundryClient, String applicationId) {
         when(cloudFoundryClient.applicationsV3()
             .listTasks(org.cloudfoundry.client.v3.applications.ListApplicationTasksRequest.builder()
@@ -34,6 +34,8 @@ import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsResponse;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainEntity;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
 import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.cloudfoundry.operations.util.InMemoryLookupCache;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.cloudfoundry.routing.RoutingClient;
 import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsRequest;
 import org.cloudfoundry.routing.v1.routergroups.ListRouterGroupsResponse;
@@ -42,15 +44,22 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.cloudfoundry.operations.util.LookupCache.Type.DOMAIN_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.PRIVATE_DOMAINS;
+import static org.cloudfoundry.operations.util.LookupCache.Type.SHARED_DOMAINS;
 import static org.mockito.Mockito.when;
 
 public final class DefaultDomainsTest extends AbstractOperationsTest {
 
     private final DefaultDomains domains = new DefaultDomains(Mono.just(this.cloudFoundryClient), Mono.just(this.routingClient));
 
+    private final AtomicInteger loads = new AtomicInteger();
+
     @Test
     public void createDomain() {
         requestOrganizations(this.cloudFoundryClient, "test-organization");
@@ -66,6 +75,31 @@ public final class DefaultDomainsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void createDomainInvalidatesLookupCache() {
+        LookupCache lookupCache = new InMemoryLookupCache();
+        DefaultDomains domains = new DefaultDomains(Mono.just(this.cloudFoundryClient), lookupCache, Mono.just(this.routingClient));
+
+        requestOrganizations(this.cloudFoundryClient, "test-organization");
+        requestCreatePrivateDomain(this.cloudFoundryClient, "test-domain", "test-organization-id");
+
+        lookup(lookupCache);
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(3);
+
+        domains
+            .create(CreateDomainRequest.builder()
+                .domain("test-domain")
+                .organization("test-organization")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(6);
+    }
+
     @Test
     public void createSharedDomain() {
         requestCreateSharedDomain(this.cloudFoundryClient, "test-domain");
@@ -190,6 +224,32 @@ public final class DefaultDomainsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void shareDomainInvalidatesLookupCache() {
+        LookupCache lookupCache = new InMemoryLookupCache();
+        DefaultDomains domains = new DefaultDomains(Mono.just(this.cloudFoundryClient), lookupCache, Mono.just(this.routingClient));
+
+        requestListPrivateDomains(this.cloudFoundryClient, "test-domain", "test-domain-id");
+        requestOrganizations(this.cloudFoundryClient, "test-organization");
+        requestAssociateOrganizationPrivateDomain(this.cloudFoundryClient, "test-domain-id", "test-organization-id");
+
+        lookup(lookupCache);
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(3);
+
+        domains
+            .share(ShareDomainRequest.builder()
+                .domain("test-domain")
+                .organization("test-organization")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(6);
+    }
+
     @Test
     public void shareDomainSharedDomain() {
         requestListPrivateDomainsEmpty(this.cloudFoundryClient, "test-domain");
@@ -221,6 +281,32 @@ public final class DefaultDomainsTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void unshareDomainInvalidatesLookupCache() {
+        LookupCache lookupCache = new InMemoryLookupCache();
+        DefaultDomains domains = new DefaultDomains(Mono.just(this.cloudFoundryClient), lookupCache, Mono.just(this.routingClient));
+
+        requestListPrivateDomains(this.cloudFoundryClient, "test-domain", "test-domain-id");
+        requestOrganizations(this.cloudFoundryClient, "test-organization");
+        requestRemoveOrganizationPrivateDomain(this.cloudFoundryClient, "test-domain-id", "test-organization-id");
+
+        lookup(lookupCache);
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(3);
+
+        domains
+            .unshare(UnshareDomainRequest.builder()
+                .domain("test-domain")
+                .organization("test-organization")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(6);
+    }
+
     private static void requestAssociateOrganizationPrivateDomain(CloudFoundryClient cloudFoundryClient, String domainId, String organizationId) {
         when(cloudFoundryClient.organizations()
             .associatePrivateDomain(AssociateOrganizationPrivateDomainRequest.builder()
@@ -374,4 +460,20 @@ public final class DefaultDomainsTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private void lookup(LookupCache lookupCache) {
+        Mono
+            .when(
+                lookupCache.get(DOMAIN_ID, LookupCache.key("test-organization-id", "test-domain"), () -> load("test-domain-id")),
+                lookupCache.get(PRIVATE_DOMAINS, "test-organization-id", () -> load(Collections.<PrivateDomainResource>emptyList())),
+                lookupCache.get(SHARED_DOMAINS, "", () -> load(Collections.<SharedDomainResource>emptyList())))
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private <T> Mono<T> load(T value) {
+        this.loads.incrementAndGet();
+        return Mono.just(value);
+    }
+
 }
@@ -32,6 +32,10 @@ import org.cloudfoundry.client.v2.organizations.ListOrganizationPrivateDomainsRe
 import org.cloudfoundry.client.v2.organizations.ListOrganizationSpacesRequest;
 import org.cloudfoundry.client.v2.organizations.ListOrganizationSpacesResponse;
 import org.cloudfoundry.client.v2.privatedomains.PrivateDomainResource;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsResponse;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingEntity;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingResource;
 import org.cloudfoundry.client.v2.routes.CreateRouteResponse;
 import org.cloudfoundry.client.v2.routes.DeleteRouteResponse;
 import org.cloudfoundry.client.v2.routes.ListRouteApplicationsRequest;
@@ -42,9 +46,15 @@ import org.cloudfoundry.client.v2.routes.RouteExistsRequest;
 import org.cloudfoundry.client.v2.routes.RouteResource;
 import org.cloudfoundry.client.v2.serviceinstances.GetServiceInstanceRequest;
 import org.cloudfoundry.client.v2.serviceinstances.GetServiceInstanceResponse;
+import org.cloudfoundry.client.v2.serviceinstances.ListServiceInstanceRoutesRequest;
+import org.cloudfoundry.client.v2.serviceinstances.ListServiceInstanceRoutesResponse;
 import org.cloudfoundry.client.v2.serviceinstances.ServiceInstanceResource;
 import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceEntity;
 import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceResource;
+import org.cloudfoundry.client.v2.services.ListServicesRequest;
+import org.cloudfoundry.client.v2.services.ListServicesResponse;
+import org.cloudfoundry.client.v2.services.ServiceEntity;
+import org.cloudfoundry.client.v2.services.ServiceResource;
 import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsRequest;
 import org.cloudfoundry.client.v2.shareddomains.ListSharedDomainsResponse;
 import org.cloudfoundry.client.v2.shareddomains.SharedDomainResource;
@@ -56,6 +66,16 @@ import org.cloudfoundry.client.v2.spaces.ListSpaceServiceInstancesRequest;
 import org.cloudfoundry.client.v2.spaces.ListSpaceServiceInstancesResponse;
 import org.cloudfoundry.client.v2.spaces.SpaceEntity;
 import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.ListApplicationsRequest;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.routes.Application;
+import org.cloudfoundry.client.v3.routes.Destination;
+import org.cloudfoundry.client.v3.routes.RouteRelationships;
 import org.cloudfoundry.operations.AbstractOperationsTest;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
@@ -71,6 +91,7 @@ import java.util.Queue;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.client.v3.LifecycleType.BUILDPACK;
 import static org.cloudfoundry.operations.TestObjects.fill;
 import static org.mockito.Mockito.when;
 
@@ -445,6 +466,64 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void listBulkCurrentOrganization() {
+        requestPrivateDomainsAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomainsAll(this.cloudFoundryClient);
+        requestSpacesAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestOrganizationApplicationsV3(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestRouteForwardingServices(this.cloudFoundryClient, "test-service-instance-entityserviceId");
+        requestSpaceServiceInstances(this.cloudFoundryClient, "test-service-instance-id", "test-route-entity-spaceId");
+        requestServiceInstanceRoutes(this.cloudFoundryClient, "test-service-instance-id", "test-route-id");
+        requestOrganizationRoutesV3(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+
+        this.routes
+            .list(ListRoutesRequest.builder()
+                .bulk(true)
+                .level(Level.ORGANIZATION)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(Route.builder()
+                .application("test-application-name")
+                .domain("test-shared-domain-name")
+                .host("test-host")
+                .id("test-route-id")
+                .path("test-path")
+                .service("test-service-instance-entityname")
+                .space("test-space-entity-name")
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void listBulkCurrentSpace() {
+        requestPrivateDomainsAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestSharedDomainsAll(this.cloudFoundryClient);
+        requestSpacesAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
+        requestOrganizationApplicationsV3(this.cloudFoundryClient, TEST_ORGANIZATION_ID, TEST_SPACE_ID);
+        requestRouteForwardingServices(this.cloudFoundryClient, "test-other-service-id");
+        requestSpaceServiceInstances(this.cloudFoundryClient, "test-service-instance-id", TEST_SPACE_ID);
+        requestOrganizationRoutesV3(this.cloudFoundryClient, TEST_ORGANIZATION_ID, TEST_SPACE_ID);
+
+        this.routes
+            .list(ListRoutesRequest.builder()
+                .bulk(true)
+                .level(Level.SPACE)
+                .build())
+            .as(StepVerifier::create)
+            .expectNext(Route.builder()
+                .application("test-application-name")
+                .domain("test-shared-domain-name")
+                .host("test-host")
+                .id("test-route-id")
+                .path("test-path")
+                .space("test-space-entity-name")
+                .build())
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
     @Test
     public void listCurrentOrganizationNoSpace() {
         requestOrganizationsRoutes(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
@@ -452,7 +531,8 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
         requestSharedDomainsAll(this.cloudFoundryClient);
         requestSpacesAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
         requestSpaceServiceInstances(this.cloudFoundryClient, "test-route-entity-serviceInstanceId", "test-route-entity-spaceId");
-        requestApplications(this.cloudFoundryClient, "test-id");
+        requestRouteMappings(this.cloudFoundryClient, "test-id", "test-application-id");
+        requestApplicationsV3(this.cloudFoundryClient, "test-application-id");
 
         this.routes
             .list(ListRoutesRequest.builder()
@@ -478,7 +558,6 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
         requestPrivateDomainsAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
         requestSharedDomainsAll(this.cloudFoundryClient);
         requestSpacesAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
-        requestApplications(this.cloudFoundryClient, "test-id");
 
         this.routes
             .list(ListRoutesRequest.builder()
@@ -495,7 +574,8 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
         requestPrivateDomainsAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
         requestSharedDomainsAll(this.cloudFoundryClient);
         requestSpacesAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
-        requestApplications(this.cloudFoundryClient, "test-route-id");
+        requestRouteMappings(this.cloudFoundryClient, "test-route-id", "test-application-id");
+        requestApplicationsV3(this.cloudFoundryClient, "test-application-id");
 
         this.routes
             .list(ListRoutesRequest.builder()
@@ -520,7 +600,8 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
         requestPrivateDomainsAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
         requestSharedDomainsAll(this.cloudFoundryClient);
         requestSpacesAll(this.cloudFoundryClient, TEST_ORGANIZATION_ID);
-        requestApplications(this.cloudFoundryClient, "test-route-id");
+        requestRouteMappings(this.cloudFoundryClient, "test-route-id", "test-application-id");
+        requestApplicationsV3(this.cloudFoundryClient, "test-application-id");
 
         this.routes
             .list(ListRoutesRequest.builder()
@@ -853,6 +934,30 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestApplicationsV3(CloudFoundryClient cloudFoundryClient, String applicationId) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .applicationId(applicationId)
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id(applicationId)
+                        .lifecycle(Lifecycle.builder()
+                            .data(BuildpackData.builder()
+                                .buildpack("test-buildpack")
+                                .build())
+                            .type(BUILDPACK)
+                            .build())
+                        .name("test-application-name")
+                        .state(ApplicationState.STARTED)
+                        .updatedAt("test-updated-at")
+                        .build())
+                    .build()));
+    }
+
     private static void requestAssociateRoute(CloudFoundryClient cloudFoundryClient, String applicationId, String routeId) {
         when(cloudFoundryClient.applicationsV2()
             .associateRoute(AssociateApplicationRouteRequest.builder()
@@ -952,6 +1057,69 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
                 }));
     }
 
+    private static void requestOrganizationApplicationsV3(CloudFoundryClient cloudFoundryClient, String organizationId, String... spaceIds) {
+        when(cloudFoundryClient.applicationsV3()
+            .list(ListApplicationsRequest.builder()
+                .organizationId(organizationId)
+                .page(1)
+                .perPage(5000)
+                .spaceIds(Arrays.asList(spaceIds))
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListApplicationsResponse.builder())
+                    .resource(org.cloudfoundry.client.v3.applications.ApplicationResource.builder()
+                        .createdAt("test-created-at")
+                        .id("test-application-id")
+                        .lifecycle(Lifecycle.builder()
+                            .data(BuildpackData.builder()
+                                .buildpack("test-buildpack")
+                                .build())
+                            .type(BUILDPACK)
+                            .build())
+                        .name("test-application-name")
+                        .state(ApplicationState.STARTED)
+                        .updatedAt("test-updated-at")
+                        .build())
+                    .build()));
+    }
+
+    private static void requestOrganizationRoutesV3(CloudFoundryClient cloudFoundryClient, String organizationId, String... spaceIds) {
+        when(cloudFoundryClient.routesV3()
+            .list(org.cloudfoundry.client.v3.routes.ListRoutesRequest.builder()
+                .organizationId(organizationId)
+                .page(1)
+                .perPage(5000)
+                .spaceIds(Arrays.asList(spaceIds))
+                .build()))
+            .thenReturn(Mono
+                .just(fill(org.cloudfoundry.client.v3.routes.ListRoutesResponse.builder())
+                    .resource(org.cloudfoundry.client.v3.routes.RouteResource.builder()
+                        .createdAt("test-created-at")
+                        .destination(Destination.builder()
+                            .application(Application.builder()
+                                .applicationId("test-application-id")
+                                .build())
+                            .build())
+                        .host("test-host")
+                        .id("test-route-id")
+                        .path("test-path")
+                        .relationships(RouteRelationships.builder()
+                            .domain(ToOneRelationship.builder()
+                                .data(Relationship.builder()
+                                    .id("test-domain-id")
+                                    .build())
+                                .build())
+                            .space(ToOneRelationship.builder()
+                                .data(Relationship.builder()
+                                    .id("test-route-entity-spaceId")
+                                    .build())
+                                .build())
+                            .build())
+                        .url("test-url")
+                        .build())
+                    .build()));
+    }
+
     private static void requestOrganizationsRoutes(CloudFoundryClient cloudFoundryClient, String organizationId) {
         when(cloudFoundryClient.routes()
             .list(org.cloudfoundry.client.v2.routes.ListRoutesRequest.builder()
@@ -1031,6 +1199,41 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
             .thenReturn(Mono.empty());
     }
 
+    private static void requestRouteForwardingServices(CloudFoundryClient cloudFoundryClient, String serviceId) {
+        when(cloudFoundryClient.services()
+            .list(ListServicesRequest.builder()
+                .page(1)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListServicesResponse.builder())
+                    .resource(fill(ServiceResource.builder(), "service-")
+                        .metadata(fill(Metadata.builder(), "service-metadata-")
+                            .id(serviceId)
+                            .build())
+                        .entity(fill(ServiceEntity.builder(), "service-entity-")
+                            .require("route_forwarding")
+                            .build())
+                        .build())
+                    .build()));
+    }
+
+    private static void requestRouteMappings(CloudFoundryClient cloudFoundryClient, String routeId, String applicationId) {
+        when(cloudFoundryClient.routeMappings()
+            .list(ListRouteMappingsRequest.builder()
+                .page(1)
+                .routeId(routeId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListRouteMappingsResponse.builder())
+                    .resource(fill(RouteMappingResource.builder())
+                        .entity(fill(RouteMappingEntity.builder())
+                            .applicationId(applicationId)
+                            .routeId(routeId)
+                            .build())
+                        .build())
+                    .build()));
+    }
+
     private static void requestRouteExistsFalse(CloudFoundryClient cloudFoundryClient, String domainId, String host, String path) {
         when(cloudFoundryClient.routes()
             .exists(RouteExistsRequest.builder()
@@ -1114,6 +1317,22 @@ public final class DefaultRoutesTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private static void requestServiceInstanceRoutes(CloudFoundryClient cloudFoundryClient, String serviceInstanceId, String routeId) {
+        when(cloudFoundryClient.serviceInstances()
+            .listRoutes(ListServiceInstanceRoutesRequest.builder()
+                .page(1)
+                .serviceInstanceId(serviceInstanceId)
+                .build()))
+            .thenReturn(Mono
+                .just(fill(ListServiceInstanceRoutesResponse.builder())
+                    .resource(fill(RouteResource.builder(), "route-")
+                        .metadata(fill(Metadata.builder(), "route-metadata-")
+                            .id(routeId)
+                            .build())
+                        .build())
+                    .build()));
+    }
+
     private static void requestSharedDomains(CloudFoundryClient cloudFoundryClient, String domain) {
         when(cloudFoundryClient.sharedDomains()
             .list(ListSharedDomainsRequest.builder()
@@ -47,18 +47,25 @@ import org.cloudfoundry.client.v2.services.ListServicesResponse;
 import org.cloudfoundry.client.v2.services.ServiceEntity;
 import org.cloudfoundry.client.v2.services.ServiceResource;
 import org.cloudfoundry.operations.AbstractOperationsTest;
+import org.cloudfoundry.operations.util.InMemoryLookupCache;
+import org.cloudfoundry.operations.util.LookupCache;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.cloudfoundry.operations.TestObjects.fill;
+import static org.cloudfoundry.operations.util.LookupCache.Type.SERVICE_PLANS;
 import static org.mockito.Mockito.when;
 
 public final class DefaultServiceAdminTest extends AbstractOperationsTest {
 
+    private final AtomicInteger loads = new AtomicInteger();
+
     private final DefaultServiceAdmin serviceAdmin = new DefaultServiceAdmin(Mono.just(this.cloudFoundryClient), Mono.just(TEST_SPACE_ID));
 
     @Test
@@ -77,6 +84,32 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void createServiceBrokerInvalidatesLookupCache() {
+        LookupCache lookupCache = new InMemoryLookupCache();
+        DefaultServiceAdmin serviceAdmin = new DefaultServiceAdmin(Mono.just(this.cloudFoundryClient), lookupCache, Mono.just(TEST_SPACE_ID));
+
+        requestCreateServiceBroker(this.cloudFoundryClient, "test-service-broker-name", "test-service-broker-url", "test-service-broker-username", "test-service-broker-password", null);
+
+        lookup(lookupCache);
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(1);
+
+        serviceAdmin
+            .create(CreateServiceBrokerRequest.builder()
+                .name("test-service-broker-name")
+                .url("test-service-broker-url")
+                .username("test-service-broker-username")
+                .password("test-service-broker-password")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(2);
+    }
+
     @Test
     public void createServiceBrokerWithSpaceScope() {
         requestCreateServiceBroker(this.cloudFoundryClient, "test-service-broker-name", "test-service-broker-url", "test-service-broker-username", "test-service-broker-password", TEST_SPACE_ID);
@@ -212,6 +245,32 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    public void enableServiceAccessInvalidatesLookupCache() {
+        LookupCache lookupCache = new InMemoryLookupCache();
+        DefaultServiceAdmin serviceAdmin = new DefaultServiceAdmin(Mono.just(this.cloudFoundryClient), lookupCache, Mono.just(TEST_SPACE_ID));
+
+        requestListServicesWithName(this.cloudFoundryClient, "test-service-name");
+        requestListServicePlans(this.cloudFoundryClient, "test-service-id");
+        requestListServicePlanVisibilities(this.cloudFoundryClient, "test-service-plan-id");
+        requestDeleteServicePlanVisibility(this.cloudFoundryClient, "test-service-plan-visibility-id");
+
+        lookup(lookupCache);
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(1);
+
+        serviceAdmin
+            .enableServiceAccess(EnableServiceAccessRequest.builder()
+                .serviceName("test-service-name")
+                .build())
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        lookup(lookupCache);
+        assertThat(this.loads).hasValue(2);
+    }
+
     @Test
     public void enableServiceAccessOrganizationNotFound() {
         requestListServicesWithName(this.cloudFoundryClient, "test-service-name");
@@ -784,4 +843,16 @@ public final class DefaultServiceAdminTest extends AbstractOperationsTest {
                     .build()));
     }
 
+    private void lookup(LookupCache lookupCache) {
+        lookupCache
+            .get(SERVICE_PLANS, "test-service-id", () -> {
+                this.loads.incrementAndGet();
+                return Mono.just(Collections.<ServicePlanResource>emptyList());
+            })
+            .as(StepVerifier::create)
+            .expectNextCount(1)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class BatchLoaderTest {
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private final VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+
+    @Test
+    public void batches() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::upperCase, 10, this.scheduler, Duration.ofMillis(10));
+
+        Flux.merge(loader.load("alpha"), loader.load("bravo"), loader.load("alpha"))
+            .collectList()
+            .as(StepVerifier::create)
+            .then(() -> this.scheduler.advanceTimeBy(Duration.ofMillis(10)))
+            .consumeNextWith(results -> assertThat(results).containsExactlyInAnyOrder("ALPHA", "ALPHA", "BRAVO"))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.batches).containsExactly(Arrays.asList("alpha", "bravo"));
+    }
+
+    @Test
+    public void dispatchesFullBatch() {
+        BatchLoader<String, String> loader = new BatchLoader<>(this::upperCase, 2, this.scheduler, Duration.ofHours(1));
+
+        Flux.merge(loader.load("alpha"), loader.load("bravo"))
+            .collectList()
+            .as(StepVerifier::create)
+            .consumeNextWith(results -> assertThat(results).containsExactlyInAnyOrder("ALPHA", "BRAVO"))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(this.batches).containsExactly(Arrays.asList("alpha", "bravo"));
+    }
+
+    @Test
+    public void error() {
+        BatchLoader<String, String> loader = new BatchLoader<>(keys -> Flux.error(new IllegalStateException("test-message")), 1, this.scheduler,
+            Duration.ofMillis(10));
+
+        loader.load("alpha")
+            .as(StepVerifier::create)
+            .expectErrorMessage("test-message")
+            .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void missingResult() {
+        BatchLoader<String, String> loader = new BatchLoader<>(keys -> Flux.empty(), 1, this.scheduler, Duration.ofMillis(10));
+
+        loader.load("alpha")
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private Flux<Tuple2<String, String>> upperCase(List<String> keys) {
+        this.batches.add(keys);
+
+        return Flux.fromIterable(keys)
+            .map(key -> Tuples.of(key, key.toUpperCase()));
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.operations.util;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cloudfoundry.operations.util.LookupCache.Type.APPLICATION_ID;
+import static org.cloudfoundry.operations.util.LookupCache.Type.STACK_ID;
+
+public final class InMemoryLookupCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void caches() {
+        LookupCache cache = new InMemoryLookupCache();
+
+        load(cache, APPLICATION_ID, "test-key");
+        load(cache, APPLICATION_ID, "test-key");
+
+        assertThat(this.loads).hasValue(1);
+    }
+
+    @Test
+    public void doesNotCacheEmpty() {
+        LookupCache cache = new InMemoryLookupCache();
+
+        cache.get(STACK_ID, "test-key", () -> {
+            this.loads.incrementAndGet();
+            return Mono.empty();
+        })
+            .as(StepVerifier::create)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        load(cache, STACK_ID, "test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void doesNotCacheError() {
+        LookupCache cache = new InMemoryLookupCache();
+
+        cache.get(STACK_ID, "test-key", () -> {
+            this.loads.incrementAndGet();
+            return Mono.error(new IllegalArgumentException("test-message"));
+        })
+            .as(StepVerifier::create)
+            .expectError(IllegalArgumentException.class)
+            .verify(Duration.ofSeconds(5));
+
+        load(cache, STACK_ID, "test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void evictsOverMaximumSize() {
+        LookupCache cache = new InMemoryLookupCache(1, Duration.ofMinutes(5));
+
+        load(cache, STACK_ID, "test-key-1");
+        load(cache, STACK_ID, "test-key-2");
+        load(cache, STACK_ID, "test-key-1");
+
+        assertThat(this.loads).hasValue(3);
+    }
+
+    @Test
+    public void expires() {
+        LookupCache cache = new InMemoryLookupCache(10, Duration.ZERO);
+
+        load(cache, STACK_ID, "test-key");
+        load(cache, STACK_ID, "test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    @Test
+    public void invalidate() {
+        LookupCache cache = new InMemoryLookupCache();
+
+        load(cache, APPLICATION_ID, "test-key-1");
+        load(cache, APPLICATION_ID, "test-key-2");
+        cache.invalidate(APPLICATION_ID, "test-key-1");
+        load(cache, APPLICATION_ID, "test-key-1");
+        load(cache, APPLICATION_ID, "test-key-2");
+
+        assertThat(this.loads).hasValue(3);
+    }
+
+    @Test
+    public void invalidateAll() {
+        LookupCache cache = new InMemoryLookupCache();
+
+        load(cache, APPLICATION_ID, "test-key");
+        load(cache, STACK_ID, "test-key");
+        cache.invalidateAll(APPLICATION_ID);
+        load(cache, APPLICATION_ID, "test-key");
+        load(cache, STACK_ID, "test-key");
+
+        assertThat(this.loads).hasValue(3);
+    }
+
+    @Test
+    public void none() {
+        load(LookupCache.NONE, STACK_ID, "test-key");
+        load(LookupCache.NONE, STACK_ID, "test-key");
+
+        assertThat(this.loads).hasValue(2);
+    }
+
+    private void load(LookupCache cache, LookupCache.Type<String> type, String key) {
+        cache.get(type, key, () -> {
+            this.loads.incrementAndGet();
+            return Mono.just("test-value");
+        })
+            .as(StepVerifier::create)
+            .expectNext("test-value")
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+    }
+
+}
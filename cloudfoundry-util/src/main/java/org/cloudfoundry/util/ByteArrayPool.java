@@ -16,102 +16,201 @@
 
 package org.cloudfoundry.util;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 /**
- * Dynamically creates {@link byte} arrays and caches them, reusing them once they have been released.
+ * Creates {@code byte} arrays in a number of size classes and caches them, reusing them once they have been released.
  * <p>
- * The maximum number of byte arrays is unbounded
- * <p>
- * The default time-to-live for unused byte arrays is one minute
+ * Released arrays are first kept in a cache belonging to the releasing thread, for the smaller size classes, and are otherwise returned to a
+ * shared pool.  The shared pool is bounded to 32 MiB across all size classes, and arrays released when it is full
+ * are discarded.  Acquiring and releasing an array does not allocate unless a new array is required.
  */
 public final class ByteArrayPool {
 
-    private static final AtomicLong EVICTOR_COUNTER = new AtomicLong();
+    private static final int KIBIBYTE = 1_024;
+
+    private static final long MAXIMUM_POOLED_BYTES = 32 * KIBIBYTE * KIBIBYTE;
+
+    private static final int[] SIZE_CLASSES = {8 * KIBIBYTE, 64 * KIBIBYTE, KIBIBYTE * KIBIBYTE};
 
-    private static final ThreadFactory EVICTOR_FACTORY = r -> {
-        Thread t = new Thread(r, "byte-buffer-evictor-" + EVICTOR_COUNTER.incrementAndGet());
-        t.setDaemon(true);
-        return t;
-    };
+    private static final int THREAD_CACHED_SIZE_CLASSES = 2;
 
-    private static final int MIBIBYTE = 1_024 * 1_024;
+    private static final ByteArrayPool INSTANCE = new ByteArrayPool(MAXIMUM_POOLED_BYTES);
 
-    private static ByteArrayPool INSTANCE = new ByteArrayPool(MIBIBYTE, Duration.ofMinutes(1));
+    private final LongAdder allocations = new LongAdder();
 
-    private final Queue<ByteArrayExpiry> cache = new ConcurrentLinkedQueue<>();
+    private final LongAdder discards = new LongAdder();
 
-    private final int capacity;
+    private final List<ArrayBlockingQueue<byte[]>> pools = new ArrayList<>(SIZE_CLASSES.length);
 
-    private final Duration ttl;
+    private final LongAdder reuses = new LongAdder();
 
-    private ByteArrayPool(int capacity, Duration ttl) {
-        this.capacity = capacity;
-        this.ttl = ttl;
+    private final ThreadLocal<byte[][]> threadCaches = ThreadLocal.withInitial(() -> new byte[THREAD_CACHED_SIZE_CLASSES][]);
 
-        Executors.newScheduledThreadPool(1, EVICTOR_FACTORY)
-            .scheduleAtFixedRate(this::evict, ttl.toMillis(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    ByteArrayPool(long maximumPooledBytes) {
+        long perSizeClass = maximumPooledBytes / SIZE_CLASSES.length;
+
+        for (int size : SIZE_CLASSES) {
+            this.pools.add(new ArrayBlockingQueue<>((int) Math.max(1, perSizeClass / size)));
+        }
     }
 
     /**
-     * Executes a {@link Consumer} providing a pooled {@code byte} array
+     * Returns the metrics of the pool
      *
-     * @param consumer the {@link Consumer} of the {@link byte} array
+     * @return the metrics of the pool
+     */
+    public static Metrics getMetrics() {
+        return INSTANCE.metrics();
+    }
+
+    /**
+     * Executes a {@link Consumer} providing a pooled {@code byte} array of the largest size class
+     *
+     * @param consumer the {@link Consumer} of the {@code byte} array
      */
     public static void withByteArray(Consumer<byte[]> consumer) {
-        INSTANCE.doWithByteArray(consumer);
+        INSTANCE.doWithByteArray(Integer.MAX_VALUE, consumer);
     }
 
-    private void doWithByteArray(Consumer<byte[]> consumer) {
-        byte[] byteArray = Optional.ofNullable(this.cache.poll())
-            .map(ByteArrayExpiry::getByteArray)
-            .orElseGet(() -> new byte[this.capacity]);
+    /**
+     * Executes a {@link Consumer} providing a pooled {@code byte} array from the smallest size class that can hold a given length.  If no size
+     * class can hold the length, an array of the largest size class is provided.
+     *
+     * @param length   the length required
+     * @param consumer the {@link Consumer} of the {@code byte} array
+     */
+    public static void withByteArray(int length, Consumer<byte[]> consumer) {
+        INSTANCE.doWithByteArray(length, consumer);
+    }
+
+    void doWithByteArray(int length, Consumer<byte[]> consumer) {
+        int sizeClass = getSizeClass(length);
+        byte[] byteArray = acquire(sizeClass);
 
         try {
             consumer.accept(byteArray);
         } finally {
-            this.cache.offer(new ByteArrayExpiry(byteArray, Instant.now().plus(this.ttl)));
+            release(sizeClass, byteArray);
         }
     }
 
-    private void evict() {
-        Instant now = Instant.now();
+    Metrics metrics() {
+        long pooledBytes = 0;
+        for (int i = 0; i < SIZE_CLASSES.length; i++) {
+            pooledBytes += (long) this.pools.get(i).size() * SIZE_CLASSES[i];
+        }
 
-        new ArrayList<>(this.cache).stream()
-            .filter(expiry -> expiry.getExpiration().isBefore(now))
-            .forEach(this.cache::remove);
+        return new Metrics(this.allocations.sum(), this.discards.sum(), pooledBytes, this.reuses.sum());
     }
 
-    private static class ByteArrayExpiry {
+    private static int getSizeClass(int length) {
+        for (int i = 0; i < SIZE_CLASSES.length - 1; i++) {
+            if (length <= SIZE_CLASSES[i]) {
+                return i;
+            }
+        }
 
-        private final byte[] byteArray;
+        return SIZE_CLASSES.length - 1;
+    }
 
-        private final Instant expiration;
+    private byte[] acquire(int sizeClass) {
+        byte[] byteArray = null;
 
-        private ByteArrayExpiry(byte[] byteArray, Instant expiration) {
-            this.byteArray = byteArray;
-            this.expiration = expiration;
+        if (sizeClass < THREAD_CACHED_SIZE_CLASSES) {
+            byte[][] threadCache = this.threadCaches.get();
+            byteArray = threadCache[sizeClass];
+            threadCache[sizeClass] = null;
         }
 
-        private byte[] getByteArray() {
-            return this.byteArray;
+        if (byteArray == null) {
+            byteArray = this.pools.get(sizeClass).poll();
         }
 
-        private Instant getExpiration() {
-            return this.expiration;
+        if (byteArray == null) {
+            this.allocations.increment();
+            return new byte[SIZE_CLASSES[sizeClass]];
+        }
+
+        this.reuses.increment();
+        return byteArray;
+    }
+
+    private void release(int sizeClass, byte[] byteArray) {
+        if (sizeClass < THREAD_CACHED_SIZE_CLASSES) {
+            byte[][] threadCache = this.threadCaches.get();
+
+            if (threadCache[sizeClass] == null) {
+                threadCache[sizeClass] = byteArray;
+                return;
+            }
         }
 
+        if (!this.pools.get(sizeClass).offer(byteArray)) {
+            this.discards.increment();
+        }
     }
 
+    /**
+     * The metrics of a {@link ByteArrayPool}
+     */
+    public static final class Metrics {
+
+        private final long allocations;
+
+        private final long discards;
+
+        private final long pooledBytes;
+
+        private final long reuses;
+
+        private Metrics(long allocations, long discards, long pooledBytes, long reuses) {
+            this.allocations = allocations;
+            this.discards = discards;
+            this.pooledBytes = pooledBytes;
+            this.reuses = reuses;
+        }
+
+        /**
+         * Returns the number of arrays that have been allocated because none could be reused
+         *
+         * @return the number of arrays allocated
+         */
+        public long getAllocations() {
+            return this.allocations;
+        }
+
+        /**
+         * Returns the number of released arrays that have been discarded because the pool was full
+         *
+         * @return the number of arrays discarded
+         */
+        public long getDiscards() {
+            return this.discards;
+        }
+
+        /**
+         * Returns the number of bytes held by the shared pool.  Arrays held by thread caches are not included.
+         *
+         * @return the number of bytes held by the shared pool
+         */
+        public long getPooledBytes() {
+            return this.pooledBytes;
+        }
+
+        /**
+         * Returns the number of times an array has been reused
+         *
+         * @return the number of arrays reused
+         */
+        public long getReuses() {
+            return this.reuses;
+        }
+
+    }
 
 }
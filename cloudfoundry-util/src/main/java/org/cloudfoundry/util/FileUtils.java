@@ -16,34 +16,79 @@
 
 package org.cloudfoundry.util;
 
+import org.apache.commons.compress.archivers.zip.ScatterZipOutputStream;
+import org.apache.commons.compress.archivers.zip.StreamCompressor;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntryRequest;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.parallel.FileBasedScatterGatherBackingStore;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStore;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermission;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
 
 /**
  * Utilities for files
  */
 public final class FileUtils {
 
+    private static final int COMPRESSION_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static final AtomicLong COMPRESSOR_COUNTER = new AtomicLong();
+
+    private static final ThreadFactory COMPRESSOR_FACTORY = r -> {
+        Thread t = new Thread(r, "file-compressor-" + COMPRESSOR_COUNTER.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    };
+
+    private static final int COPY_BUFFER_LENGTH = 64 * 1024;
+
     private static final Integer DEFAULT_PERMISSIONS = 0744;
 
+    private static final long DIRECT_HASH_THRESHOLD = 4 * 1024 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> HASH_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(1024 * 1024));
+
+    private static final long IN_MEMORY_COMPRESSION_THRESHOLD = 1024 * 1024;
+
     private static final Map<PosixFilePermission, Integer> PERMISSION_MODES = FluentMap.<PosixFilePermission, Integer>builder()
         .entry(PosixFilePermission.OWNER_READ, 0400)
         .entry(PosixFilePermission.OWNER_WRITE, 0200)
@@ -56,6 +101,8 @@ public final class FileUtils {
         .entry(PosixFilePermission.OTHERS_EXECUTE, 0001)
         .build();
 
+    private static final String SHA1 = "sha1";
+
     private FileUtils() {
     }
 
@@ -83,11 +130,7 @@ public final class FileUtils {
                     Path staging = Files.createTempFile(String.format("compressed-%s-", candidate.getFileName()), ".zip");
 
                     try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(staging.toFile())) {
-                        if (Files.isDirectory(candidate)) {
-                            compressFromDirectory(candidate, filter, out);
-                        } else {
-                            compressFromZip(candidate, filter, out);
-                        }
+                        compressFrom(candidate, filter, out, Deflater.DEFAULT_COMPRESSION, COMPRESSION_PARALLELISM);
                     }
 
                     return Mono.just(staging);
@@ -98,6 +141,46 @@ public final class FileUtils {
             .subscribeOn(Schedulers.elastic());
     }
 
+    /**
+     * Compresses a candidate {@link Path} filtering out entries, writing the compressed artifact to an {@link OutputStream}.  The artifact is
+     * written as it is compressed, without staging it on disk, and the {@link OutputStream} is not closed.
+     *
+     * @param candidate the candidate {@link Path} to compress
+     * @param filter    a filter applied to each path
+     * @param out       the {@link OutputStream} to write the compressed artifact to
+     */
+    public static void compress(Path candidate, Predicate<String> filter, OutputStream out) {
+        compress(candidate, filter, out, Deflater.DEFAULT_COMPRESSION, COMPRESSION_PARALLELISM);
+    }
+
+    /**
+     * Compresses a candidate {@link Path} filtering out entries, writing the compressed artifact to an {@link OutputStream}.  The entries of a
+     * directory are compressed concurrently, but are written in the same order, and with the same modes and modification times, as they would be
+     * if compressed sequentially.  Entries are compressed on a pool, shared by all compressions, of one thread per available processor.  The
+     * {@link OutputStream} is not closed.
+     *
+     * @param candidate   the candidate {@link Path} to compress
+     * @param filter      a filter applied to each path
+     * @param out         the {@link OutputStream} to write the compressed artifact to
+     * @param level       the compression level, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}.  With
+     *                    {@link Deflater#NO_COMPRESSION} entries are stored rather than deflated.
+     * @param parallelism the maximum number of entries to compress concurrently
+     */
+    public static void compress(Path candidate, Predicate<String> filter, OutputStream out, int level, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(String.format("Parallelism must be at least 1, but was %d", parallelism));
+        }
+
+        try {
+            ZipArchiveOutputStream zip = new ZipArchiveOutputStream(out);
+            compressFrom(candidate, filter, zip, level, parallelism);
+            zip.finish();
+            out.flush();
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     /**
      * Get the relative path of an application
      *
@@ -111,14 +194,34 @@ public final class FileUtils {
     }
 
     /**
-     * Calculates the SHA-1 hash for a {@link Path}
+     * Calculates the SHA-1 hash for a {@link Path}.  Large files are read through a per-thread direct buffer rather than a pooled array.
      *
      * @param path the {@link Path} to calculate the hash for
      * @return a {@link String} representation of the hash
      */
     public static String hash(Path path) {
-        try (InputStream in = Files.newInputStream(path)) {
-            return hash(in);
+        return hash(path, SHA1);
+    }
+
+    /**
+     * Calculates the hash for a {@link Path} using a given algorithm.  Large files are read through a per-thread direct buffer rather than a pooled array.
+     *
+     * @param path      the {@link Path} to calculate the hash for
+     * @param algorithm the name of the {@link MessageDigest} algorithm to use
+     * @return a {@link String} representation of the hash
+     */
+    public static String hash(Path path, String algorithm) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MessageDigest digest = createDigest(algorithm);
+            long size = channel.size();
+
+            if (size < DIRECT_HASH_THRESHOLD) {
+                update(digest, Channels.newInputStream(channel), (int) size);
+            } else {
+                update(digest, channel);
+            }
+
+            return toHexString(digest);
         } catch (IOException e) {
             throw Exceptions.propagate(e);
         }
@@ -131,24 +234,9 @@ public final class FileUtils {
      * @return {@link String} representation of the hash
      */
     public static String hash(InputStream in) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("sha1");
-
-            ByteArrayPool.withByteArray(buffer -> {
-                try {
-                    int length;
-                    while ((length = in.read(buffer)) != -1) {
-                        digest.update(buffer, 0, length);
-                    }
-                } catch (IOException e) {
-                    throw Exceptions.propagate(e);
-                }
-            });
-
-            return String.format("%040x", new BigInteger(1, digest.digest()));
-        } catch (NoSuchAlgorithmException e) {
-            throw Exceptions.propagate(e);
-        }
+        MessageDigest digest = createDigest(SHA1);
+        update(digest, in, Integer.MAX_VALUE);
+        return toHexString(digest);
     }
 
     /**
@@ -165,6 +253,16 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Calculates permissions for a set of {@link PosixFilePermission}s
+     *
+     * @param permissions the {@link PosixFilePermission}s to calculate the permissions for
+     * @return a {@link String} representation of the permissions
+     */
+    public static String permissions(Set<PosixFilePermission> permissions) {
+        return permissions(getUnixMode(permissions));
+    }
+
     /**
      * Calculates permissions for a UNIX mode
      *
@@ -189,9 +287,19 @@ public final class FileUtils {
         }
     }
 
-    private static void compressFromDirectory(Path candidate, Predicate<String> filter, ZipArchiveOutputStream out) {
+    private static void compressFrom(Path candidate, Predicate<String> filter, ZipArchiveOutputStream out, int level, int parallelism) {
+        if (Files.isDirectory(candidate)) {
+            compressFromDirectory(candidate, filter, out, level, parallelism);
+        } else {
+            compressFromZip(candidate, filter, out);
+        }
+    }
+
+    private static void compressFromDirectory(Path candidate, Predicate<String> filter, ZipArchiveOutputStream out, int level, int parallelism) {
+        Deque<Future<CompressedEntry>> pending = new ArrayDeque<>();
+
         try (Stream<Path> contents = Files.walk(candidate)) {
-            contents
+            Iterator<Path> paths = contents
                 .filter(path -> {
                     try {
                         return !Files.isSameFile(candidate, path);
@@ -200,15 +308,25 @@ public final class FileUtils {
                     }
                 })
                 .filter(path -> filter.test(getRelativePathName(candidate, path)))
-                .forEach(path -> {
-                    try (InputStream in = Files.isDirectory(path) ? null : Files.newInputStream(path)) {
-                        write(in, Files.getLastModifiedTime(path), getUnixMode(path), out, getRelativePathName(candidate, path));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(e);
-                    }
-                });
+                .iterator();
+
+            while (paths.hasNext()) {
+                Path path = paths.next();
+
+                if (pending.size() >= parallelism) {
+                    writeTo(pending.remove(), out);
+                }
+
+                pending.add(CompressorExecutor.INSTANCE.submit(() -> CompressedEntry.create(candidate, path, level)));
+            }
+
+            while (!pending.isEmpty()) {
+                writeTo(pending.remove(), out);
+            }
         } catch (IOException e) {
             throw Exceptions.propagate(e);
+        } finally {
+            pending.forEach(FileUtils::discard);
         }
     }
 
@@ -219,7 +337,20 @@ public final class FileUtils {
             while (entries.hasMoreElements()) {
                 ZipArchiveEntry entry = entries.nextElement();
 
-                if (filter.test(entry.getName())) {
+                if (!filter.test(entry.getName())) {
+                    continue;
+                }
+
+                if (isRawCopyable(zipFile, entry)) {
+                    ZipArchiveEntry copy = new ZipArchiveEntry(entry);
+                    if (copy.getUnixMode() == 0) {
+                        copy.setUnixMode(DEFAULT_PERMISSIONS);
+                    }
+
+                    try (InputStream in = zipFile.getRawInputStream(entry)) {
+                        out.addRawArchiveEntry(copy, in);
+                    }
+                } else {
                     try (InputStream in = zipFile.getInputStream(entry)) {
                         int mode = entry.getUnixMode();
                         write(in, entry.getLastModifiedTime(), mode == 0 ? DEFAULT_PERMISSIONS : mode, out, entry.getName());
@@ -231,20 +362,74 @@ public final class FileUtils {
         }
     }
 
+    private static MessageDigest createDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static void discard(Future<CompressedEntry> future) {
+        if (!future.cancel(true)) {
+            try {
+                future.get().close();
+            } catch (Exception e) {
+                // Ignore, the entry is being discarded because compression has already failed
+            }
+        }
+    }
+
     private static int getUnixMode(Path path) throws IOException {
         if (!isPosixFile(path)) {
             return DEFAULT_PERMISSIONS;
         }
 
-        return Files.getPosixFilePermissions(path).stream()
+        return getUnixMode(Files.getPosixFilePermissions(path));
+    }
+
+    private static int getUnixMode(Set<PosixFilePermission> permissions) {
+        return permissions.stream()
             .mapToInt(PERMISSION_MODES::get)
             .sum();
     }
 
+    private static boolean isRawCopyable(ZipFile zipFile, ZipArchiveEntry entry) {
+        return (entry.getMethod() == ZipEntry.STORED || entry.getMethod() == ZipEntry.DEFLATED) && zipFile.canReadEntryData(entry);
+    }
+
     private static boolean isPosixFile(Path path) {
         return path.getFileSystem().supportedFileAttributeViews().contains("posix");
     }
 
+    private static String toHexString(MessageDigest digest) {
+        return String.format("%0" + digest.getDigestLength() * 2 + "x", new BigInteger(1, digest.digest()));
+    }
+
+    private static void update(MessageDigest digest, InputStream in, int size) {
+        ByteArrayPool.withByteArray(size, buffer -> {
+            try {
+                int length;
+                while ((length = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, length);
+                }
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        });
+    }
+
+    private static void update(MessageDigest digest, FileChannel channel) throws IOException {
+        ByteBuffer buffer = HASH_BUFFER.get();
+        buffer.clear();
+
+        while (channel.read(buffer) != -1) {
+            buffer.flip();
+            digest.update(buffer);
+            buffer.clear();
+        }
+    }
+
     private static void write(InputStream in, FileTime lastModifiedTime, int mode, ZipArchiveOutputStream out, String path) {
         try {
             ZipArchiveEntry entry = new ZipArchiveEntry(path);
@@ -253,7 +438,7 @@ public final class FileUtils {
             out.putArchiveEntry(entry);
 
             if (in != null) {
-                ByteArrayPool.withByteArray(buffer -> {
+                ByteArrayPool.withByteArray(COPY_BUFFER_LENGTH, buffer -> {
                     try {
                         int length;
                         while ((length = in.read(buffer)) != -1) {
@@ -271,4 +456,112 @@ public final class FileUtils {
         }
     }
 
+    private static void writeTo(Future<CompressedEntry> future, ZipArchiveOutputStream out) throws IOException {
+        try (CompressedEntry entry = future.get()) {
+            entry.writeTo(out);
+        } catch (ExecutionException e) {
+            throw Exceptions.propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static final class ByteArrayBackingStore implements ScatterGatherBackingStore {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void closeForWriting() {
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(this.content.toByteArray());
+        }
+
+        @Override
+        public void writeOut(byte[] data, int offset, int length) {
+            this.content.write(data, offset, length);
+        }
+
+    }
+
+    private static final class CompressedEntry implements Closeable {
+
+        private final ZipArchiveEntry entry;
+
+        private final ScatterZipOutputStream content;
+
+        private CompressedEntry(ZipArchiveEntry entry, ScatterZipOutputStream content) {
+            this.entry = entry;
+            this.content = content;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.content != null) {
+                this.content.close();
+            }
+        }
+
+        private static CompressedEntry create(Path root, Path path, int level) throws IOException {
+            ZipArchiveEntry entry = new ZipArchiveEntry(getRelativePathName(root, path));
+            entry.setUnixMode(getUnixMode(path));
+            entry.setLastModifiedTime(Files.getLastModifiedTime(path));
+
+            if (Files.isDirectory(path)) {
+                return new CompressedEntry(entry, null);
+            }
+
+            entry.setMethod(level == Deflater.NO_COMPRESSION ? ZipEntry.STORED : ZipEntry.DEFLATED);
+
+            ScatterGatherBackingStore backingStore = Files.size(path) < IN_MEMORY_COMPRESSION_THRESHOLD ? new ByteArrayBackingStore() :
+                new FileBasedScatterGatherBackingStore(Files.createTempFile("compressed-entry-", ".tmp").toFile());
+            ScatterZipOutputStream content = new ScatterZipOutputStream(backingStore, StreamCompressor.create(level, backingStore));
+
+            try {
+                content.addArchiveEntry(ZipArchiveEntryRequest.createZipArchiveEntryRequest(entry, () -> {
+                    try {
+                        return Files.newInputStream(path);
+                    } catch (IOException e) {
+                        throw Exceptions.propagate(e);
+                    }
+                }));
+            } catch (IOException | RuntimeException e) {
+                content.close();
+                throw e;
+            }
+
+            return new CompressedEntry(entry, content);
+        }
+
+        private void writeTo(ZipArchiveOutputStream out) throws IOException {
+            if (this.content == null) {
+                out.putArchiveEntry(this.entry);
+                out.closeArchiveEntry();
+            } else {
+                this.content.writeTo(out);
+            }
+        }
+
+    }
+
+    private static final class CompressorExecutor {
+
+        private static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(COMPRESSION_PARALLELISM, COMPRESSION_PARALLELISM, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), COMPRESSOR_FACTORY);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
+    }
+
 }
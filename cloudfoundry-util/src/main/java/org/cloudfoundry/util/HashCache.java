@@ -0,0 +1,249 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A persistent cache of file hashes.  Each hash is keyed by the canonical path of a file and is only reused while the size, modification
+ * time and file key (e.g. inode) of the file are unchanged.  Entries are loaded lazily from, and saved to, a compact binary index.  Files
+ * modified within two seconds of being hashed could change again without their modification time changing, so their entries are
+ * not saved.
+ */
+public final class HashCache {
+
+    /**
+     * The default location of the index, {@code ~/.cf-java-client/hash-cache}
+     */
+    public static final Path DEFAULT_LOCATION = Paths.get(System.getProperty("user.home"), ".cf-java-client", "hash-cache");
+
+    private static final int HASH_LENGTH = 20;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.hash-cache");
+
+    private static final int MAGIC = 0x43464843;
+
+    private static final int MAXIMUM_SIZE = 1_000_000;
+
+    private static final long RACY_INTERVAL = TimeUnit.SECONDS.toNanos(2);
+
+    private static final int VERSION = 1;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Path location;
+
+    private final Set<String> used = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loaded;
+
+    /**
+     * Creates a new instance
+     *
+     * @param location the location of the index
+     */
+    public HashCache(Path location) {
+        this.location = location;
+    }
+
+    /**
+     * Returns the SHA-1 hash of a file, calculating it only if the file has changed since it was last hashed
+     *
+     * @param path       the canonical {@link Path} of the file
+     * @param attributes the attributes of the file
+     * @return a {@link String} representation of the hash
+     */
+    public String hash(Path path, BasicFileAttributes attributes) {
+        load();
+
+        String key = path.toString();
+        long lastModified = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+        String fileKey = getFileKey(attributes);
+
+        this.used.add(key);
+
+        Entry entry = this.entries.get(key);
+        if (entry != null && entry.matches(attributes.size(), lastModified, fileKey)) {
+            return entry.hash;
+        }
+
+        boolean racilyClean = lastModified > TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - RACY_INTERVAL;
+        String hash = FileUtils.hash(path);
+        this.entries.put(key, new Entry(fileKey, hash, lastModified, racilyClean, attributes.size()));
+        return hash;
+    }
+
+    /**
+     * Saves the cache to its index.  Racily clean entries are not saved.  If the cache has grown beyond its maximum size, only the entries used
+     * since it was loaded are saved.
+     */
+    public void save() {
+        load();
+
+        boolean usedOnly = this.entries.size() > MAXIMUM_SIZE;
+        Map<String, Entry> entries = new HashMap<>();
+        this.entries.forEach((key, entry) -> {
+            if (!entry.racilyClean && (!usedOnly || this.used.contains(key))) {
+                entries.put(key, entry);
+            }
+        });
+
+        Path staging = null;
+        try {
+            Path directory = this.location.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            staging = Files.createTempFile(directory, this.location.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(staging)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().write(out);
+                }
+            }
+
+            Files.move(staging, this.location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to save hash cache to {}", this.location, e);
+            deleteQuietly(staging);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to delete {}", path, e);
+        }
+    }
+
+    private static String getFileKey(BasicFileAttributes attributes) {
+        Object fileKey = attributes.fileKey();
+        return fileKey != null ? fileKey.toString() : "";
+    }
+
+    private void load() {
+        if (!this.loaded) {
+            synchronized (this) {
+                if (!this.loaded) {
+                    read();
+                    this.loaded = true;
+                }
+            }
+        }
+    }
+
+    private void read() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.location)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOGGER.debug("Ignoring hash cache {} with unknown format", this.location);
+                return;
+            }
+
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                this.entries.put(in.readUTF(), Entry.read(in));
+            }
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("Hash cache {} does not exist", this.location);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to load hash cache from {}", this.location, e);
+            this.entries.clear();
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fileKey;
+
+        private final String hash;
+
+        private final long lastModified;
+
+        private final boolean racilyClean;
+
+        private final long size;
+
+        private Entry(String fileKey, String hash, long lastModified, boolean racilyClean, long size) {
+            this.fileKey = fileKey;
+            this.hash = hash;
+            this.lastModified = lastModified;
+            this.racilyClean = racilyClean;
+            this.size = size;
+        }
+
+        private static Entry read(DataInputStream in) throws IOException {
+            long size = in.readLong();
+            long lastModified = in.readLong();
+            String fileKey = in.readUTF();
+
+            byte[] hash = new byte[HASH_LENGTH];
+            in.readFully(hash);
+
+            char[] hex = new char[HASH_LENGTH * 2];
+            for (int i = 0; i < HASH_LENGTH; i++) {
+                hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+                hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xf];
+            }
+
+            return new Entry(fileKey, new String(hex), lastModified, false, size);
+        }
+
+        private boolean matches(long size, long lastModified, String fileKey) {
+            return this.size == size && this.lastModified == lastModified && this.fileKey.equals(fileKey);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(this.size);
+            out.writeLong(this.lastModified);
+            out.writeUTF(this.fileKey);
+
+            for (int i = 0; i < HASH_LENGTH; i++) {
+                out.writeByte(Integer.parseInt(this.hash.substring(i * 2, i * 2 + 2), 16));
+            }
+        }
+
+    }
+
+}
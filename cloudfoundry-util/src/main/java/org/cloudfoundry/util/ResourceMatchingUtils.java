@@ -33,27 +33,62 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Utilities for matching resources
  */
 public final class ResourceMatchingUtils {
 
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final int HASHING_CONCURRENCY = Runtime.getRuntime().availableProcessors();
+
     private static final Logger LOGGER = LoggerFactory.getLogger("cloudfoundry-client.resource-matching");
 
+    private static final int MATCHING_CONCURRENCY = 4;
+
     private ResourceMatchingUtils() {
     }
 
     public static Mono<List<ArtifactMetadata>> getMatchedResources(CloudFoundryClient cloudFoundryClient, Path application) {
-        return (Files.isDirectory(application) ? getArtifactMetadataFromDirectory(application) : getArtifactMetadataFromZip(application))
-            .collectMap(ArtifactMetadata::getHash)
-            .flatMapMany(artifactMetadatas -> requestListMatchingResources(cloudFoundryClient, artifactMetadatas.values())
-                .flatMapIterable(ListMatchingResourcesResponse::getResources)
-                .map(resource -> artifactMetadatas.get(resource.getHash())))
+        return getMatchedResources(cloudFoundryClient, application, null);
+    }
+
+    /**
+     * Returns the resources of an application that are already known to Cloud Foundry
+     *
+     * @param cloudFoundryClient the client to match resources with
+     * @param application        the application directory or archive
+     * @param hashCache          a cache of file hashes to consult when hashing a directory, or {@code null} to always hash files
+     * @return the matched resources
+     */
+    public static Mono<List<ArtifactMetadata>> getMatchedResources(CloudFoundryClient cloudFoundryClient, Path application, HashCache hashCache) {
+        return getMatchedResources(cloudFoundryClient, application, hashCache, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the resources of an application that are already known to Cloud Foundry.  Resources are matched in batches as they are
+     * hashed, so that matching begins before the whole application has been hashed.
+     *
+     * @param cloudFoundryClient the client to match resources with
+     * @param application        the application directory or archive
+     * @param hashCache          a cache of file hashes to consult when hashing a directory, or {@code null} to always hash files
+     * @param batchSize          the maximum number of resources in each match request
+     * @return the matched resources
+     */
+    public static Mono<List<ArtifactMetadata>> getMatchedResources(CloudFoundryClient cloudFoundryClient, Path application, HashCache hashCache, int batchSize) {
+        return (Files.isDirectory(application) ? getArtifactMetadataFromDirectory(application, hashCache) : getArtifactMetadataFromZip(application))
+            .buffer(batchSize)
+            .flatMapSequential(batch -> getMatchedResources(cloudFoundryClient, batch), MATCHING_CONCURRENCY)
             .collectList()
             .doOnNext(matched -> LOGGER.debug("{} resources matched totaling {}", matched.size(), SizeUtils.asIbi(matched.stream()
                 .mapToInt(ArtifactMetadata::getSize)
@@ -61,17 +96,39 @@ public final class ResourceMatchingUtils {
             .subscribeOn(Schedulers.elastic());
     }
 
-    private static Flux<ArtifactMetadata> getArtifactMetadataFromDirectory(Path application) {
+    private static Mono<ArtifactMetadata> getArtifactMetadata(Path application, Path path, HashCache hashCache) {
+        return Mono
+            .defer(() -> {
+                BasicFileAttributes attributes = readAttributes(path);
+
+                if (attributes.isDirectory()) {
+                    return Mono.empty();
+                }
+
+                String hash = hashCache != null ? hashCache.hash(path, attributes) : FileUtils.hash(path);
+                String permissions = attributes instanceof PosixFileAttributes ? FileUtils.permissions(((PosixFileAttributes) attributes).permissions()) : FileUtils.permissions(0);
+                return Mono.just(new ArtifactMetadata(hash, application.relativize(path).toString(), permissions, (int) attributes.size()));
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Flux<ArtifactMetadata> getArtifactMetadataFromDirectory(Path application, HashCache hashCache) {
         return Flux
             .defer(() -> {
                 try {
-                    return Flux.fromStream(Files.walk(application));
+                    Path root = application.toRealPath();
+
+                    return Flux.fromStream(Files.walk(root))
+                        .flatMapSequential(path -> getArtifactMetadata(root, path, hashCache), HASHING_CONCURRENCY);
                 } catch (IOException e) {
                     throw Exceptions.propagate(e);
                 }
             })
-            .filter(path -> !Files.isDirectory(path))
-            .map(path -> new ArtifactMetadata(FileUtils.hash(path), FileUtils.getRelativePathName(application, path), FileUtils.permissions(path), FileUtils.size(path)));
+            .doOnComplete(() -> {
+                if (hashCache != null) {
+                    hashCache.save();
+                }
+            });
     }
 
     private static Flux<ArtifactMetadata> getArtifactMetadataFromZip(Path application) {
@@ -102,6 +159,27 @@ public final class ResourceMatchingUtils {
         return Flux.fromIterable(artifactMetadatas);
     }
 
+    private static Flux<ArtifactMetadata> getMatchedResources(CloudFoundryClient cloudFoundryClient, List<ArtifactMetadata> batch) {
+        Map<String, ArtifactMetadata> artifactMetadatas = batch.stream()
+            .collect(Collectors.toMap(ArtifactMetadata::getHash, Function.identity(), (a, b) -> b));
+
+        return requestListMatchingResources(cloudFoundryClient, artifactMetadatas.values())
+            .flatMapIterable(ListMatchingResourcesResponse::getResources)
+            .map(resource -> artifactMetadatas.get(resource.getHash()));
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                return Files.readAttributes(path, PosixFileAttributes.class);
+            }
+
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
     private static Mono<ListMatchingResourcesResponse> requestListMatchingResources(CloudFoundryClient cloudFoundryClient, Collection<ArtifactMetadata> artifactMetadatas) {
         ListMatchingResourcesRequest request = artifactMetadatas.stream()
             .reduce(ListMatchingResourcesRequest.builder(), (builder, artifactMetadata) -> builder.resource(Resource.builder()
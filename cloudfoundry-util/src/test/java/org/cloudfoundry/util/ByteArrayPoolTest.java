@@ -0,0 +1,67 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ByteArrayPoolTest {
+
+    private static final int MIBIBYTE = 1_024 * 1_024;
+
+    @Test
+    public void bounded() {
+        ByteArrayPool pool = new ByteArrayPool(3 * MIBIBYTE);
+
+        pool.doWithByteArray(MIBIBYTE, first ->
+            pool.doWithByteArray(MIBIBYTE, second ->
+                pool.doWithByteArray(MIBIBYTE, third -> {
+                })));
+
+        ByteArrayPool.Metrics metrics = pool.metrics();
+        assertThat(metrics.getAllocations()).isEqualTo(3);
+        assertThat(metrics.getDiscards()).isEqualTo(2);
+        assertThat(metrics.getPooledBytes()).isEqualTo(MIBIBYTE);
+    }
+
+    @Test
+    public void reuse() {
+        ByteArrayPool pool = new ByteArrayPool(32 * MIBIBYTE);
+        AtomicReference<byte[]> first = new AtomicReference<>();
+        AtomicReference<byte[]> second = new AtomicReference<>();
+
+        pool.doWithByteArray(100, first::set);
+        pool.doWithByteArray(200, second::set);
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(pool.metrics().getAllocations()).isEqualTo(1);
+        assertThat(pool.metrics().getReuses()).isEqualTo(1);
+    }
+
+    @Test
+    public void sizeClasses() {
+        ByteArrayPool pool = new ByteArrayPool(32 * MIBIBYTE);
+
+        pool.doWithByteArray(100, byteArray -> assertThat(byteArray).hasSize(8 * 1_024));
+        pool.doWithByteArray(10_000, byteArray -> assertThat(byteArray).hasSize(64 * 1_024));
+        pool.doWithByteArray(2 * MIBIBYTE, byteArray -> assertThat(byteArray).hasSize(MIBIBYTE));
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+import org.apache.commons.compress.archivers.zip.ZipMethod;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.utils.SeekableInMemoryByteChannel;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class FileUtilsTest {
+
+    @Test
+    public void compressParallel() throws IOException {
+        Path directory = createDirectory();
+        try {
+            byte[] parallel = compress(directory, Deflater.DEFAULT_COMPRESSION, 4);
+            byte[] sequential = compress(directory, Deflater.DEFAULT_COMPRESSION, 1);
+
+            try (ZipFile zipFile = new ZipFile(new SeekableInMemoryByteChannel(parallel))) {
+                List<ZipArchiveEntry> entries = Collections.list(zipFile.getEntries());
+
+                assertThat(entries).extracting(ZipArchiveEntry::getName).containsExactlyElementsOf(getEntryNames(sequential));
+                for (ZipArchiveEntry entry : entries) {
+                    if (!entry.isDirectory()) {
+                        assertThat(entry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+                        assertThat(read(zipFile, entry)).isEqualTo(Files.readAllBytes(directory.resolve(entry.getName())));
+                    }
+                }
+
+                assertThat(zipFile.getEntry("test-executable").getUnixMode() & 0777).isEqualTo(0750);
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void compressStored() throws IOException {
+        Path directory = createDirectory();
+        try {
+            try (ZipFile zipFile = new ZipFile(new SeekableInMemoryByteChannel(compress(directory, Deflater.NO_COMPRESSION, 4)))) {
+                for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+                    if (!entry.isDirectory()) {
+                        assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+                        assertThat(read(zipFile, entry)).isEqualTo(Files.readAllBytes(directory.resolve(entry.getName())));
+                    }
+                }
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void compressZip() throws IOException {
+        Path zip = Files.createTempFile("test-compress-", ".zip");
+        try {
+            try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(zip.toFile())) {
+                ZipArchiveEntry deflated = new ZipArchiveEntry("test-deflated");
+                out.putArchiveEntry(deflated);
+                out.write(new byte[64 * 1024]);
+                out.closeArchiveEntry();
+
+                ZipArchiveEntry stored = new ZipArchiveEntry("test-stored");
+                stored.setMethod(ZipEntry.STORED);
+                stored.setUnixMode(0750);
+                out.putArchiveEntry(stored);
+                out.write("test-content".getBytes());
+                out.closeArchiveEntry();
+
+                out.putArchiveEntry(new ZipArchiveEntry("test-excluded"));
+                out.write("test-content".getBytes());
+                out.closeArchiveEntry();
+            }
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            FileUtils.compress(zip, name -> !"test-excluded".equals(name), compressed);
+
+            try (ZipFile original = new ZipFile(zip.toFile());
+                 ZipFile zipFile = new ZipFile(new SeekableInMemoryByteChannel(compressed.toByteArray()))) {
+
+                assertThat(Collections.list(zipFile.getEntries())).extracting(ZipArchiveEntry::getName).containsExactly("test-deflated", "test-stored");
+
+                for (String name : Arrays.asList("test-deflated", "test-stored")) {
+                    ZipArchiveEntry entry = zipFile.getEntry(name);
+                    assertThat(entry.getMethod()).isEqualTo(original.getEntry(name).getMethod());
+                    assertThat(readRaw(zipFile, entry)).isEqualTo(readRaw(original, original.getEntry(name)));
+                    assertThat(read(zipFile, entry)).isEqualTo(read(original, original.getEntry(name)));
+                }
+
+                assertThat(zipFile.getEntry("test-deflated").getUnixMode()).isEqualTo(0744);
+                assertThat(zipFile.getEntry("test-stored").getUnixMode()).isEqualTo(0750);
+            }
+        } finally {
+            Files.delete(zip);
+        }
+    }
+
+    @Test
+    public void compressZipUnsupportedMethod() throws IOException {
+        byte[] content = "test-content".getBytes();
+
+        ByteArrayOutputStream bzip2 = new ByteArrayOutputStream();
+        try (BZip2CompressorOutputStream out = new BZip2CompressorOutputStream(bzip2)) {
+            out.write(content);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        Path zip = Files.createTempFile("test-compress-", ".zip");
+        try {
+            try (ZipArchiveOutputStream out = new ZipArchiveOutputStream(zip.toFile())) {
+                ZipArchiveEntry entry = new ZipArchiveEntry("test-bzip2");
+                entry.setMethod(ZipMethod.BZIP2.getCode());
+                entry.setCrc(crc.getValue());
+                entry.setSize(content.length);
+                entry.setCompressedSize(bzip2.size());
+                out.addRawArchiveEntry(entry, new ByteArrayInputStream(bzip2.toByteArray()));
+            }
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            FileUtils.compress(zip, name -> true, compressed);
+
+            try (ZipFile zipFile = new ZipFile(new SeekableInMemoryByteChannel(compressed.toByteArray()))) {
+                ZipArchiveEntry entry = zipFile.getEntry("test-bzip2");
+
+                assertThat(entry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+                assertThat(entry.getUnixMode()).isEqualTo(0744);
+                assertThat(read(zipFile, entry)).isEqualTo(content);
+            }
+        } finally {
+            Files.delete(zip);
+        }
+    }
+
+    @Test
+    public void hashAlgorithm() throws IOException {
+        Path file = Files.createTempFile("test-small-", ".txt");
+        try {
+            Files.write(file, "test-content".getBytes());
+
+            assertThat(FileUtils.hash(file, "SHA-256")).isEqualTo("0a3666a0710c08aa6d0de92ce72beeb5b93124cce1bf3701c9d6cdeb543cb73e");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void hashLargeFile() throws IOException {
+        byte[] content = new byte[5 * 1024 * 1024 + 17];
+        new Random(0).nextBytes(content);
+
+        Path file = Files.createTempFile("test-large-", ".bin");
+        try {
+            Files.write(file, content);
+
+            assertThat(FileUtils.hash(file)).isEqualTo(FileUtils.hash(new ByteArrayInputStream(content)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void hashSmallFile() throws IOException {
+        Path file = Files.createTempFile("test-small-", ".txt");
+        try {
+            Files.write(file, "test-content".getBytes());
+
+            assertThat(FileUtils.hash(file)).isEqualTo("60b62e43b6a5e292b8fdbd41e57de248605d2c27");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static byte[] compress(Path directory, int level, int parallelism) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        FileUtils.compress(directory, path -> true, out, level, parallelism);
+        return out.toByteArray();
+    }
+
+    private static Path createDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("test-compress-");
+        Random random = new Random(0);
+
+        for (int i = 0; i < 20; i++) {
+            byte[] content = new byte[random.nextInt(16 * 1024)];
+            random.nextBytes(content);
+            Files.write(directory.resolve(String.format("test-file-%02d", i)), content);
+        }
+
+        Files.createDirectory(directory.resolve("test-directory"));
+        Files.write(directory.resolve("test-directory/test-large-file"), new byte[2 * 1024 * 1024 + 1]);
+
+        Path executable = Files.write(directory.resolve("test-executable"), "test-content".getBytes());
+        Files.setPosixFilePermissions(executable, PosixFilePermissions.fromString("rwxr-x---"));
+
+        return directory;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths
+                .sorted(Comparator.reverseOrder())
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static List<String> getEntryNames(byte[] zip) throws IOException {
+        try (ZipFile zipFile = new ZipFile(new SeekableInMemoryByteChannel(zip))) {
+            return Collections.list(zipFile.getEntries()).stream()
+                .map(ZipArchiveEntry::getName)
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static byte[] read(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            return read(in);
+        }
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8 * 1024];
+
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static byte[] readRaw(ZipFile zipFile, ZipArchiveEntry entry) throws IOException {
+        try (InputStream in = zipFile.getRawInputStream(entry)) {
+            return read(in);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class HashCacheTest {
+
+    private static final String TEST_CONTENT_HASH = "60b62e43b6a5e292b8fdbd41e57de248605d2c27";
+
+    private Path directory;
+
+    private Path file;
+
+    @Before
+    public void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("test-hash-cache-");
+        this.file = this.directory.resolve("test-file");
+        Files.write(this.file, "test-content".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(this.file, FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted((a, b) -> b.compareTo(a))
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void hashChanged() throws IOException {
+        HashCache hashCache = new HashCache(this.directory.resolve("hash-cache"));
+        assertThat(hashCache.hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+
+        Files.write(this.file, "alternate-test-content".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(hashCache.hash(this.file, readAttributes(this.file))).isEqualTo(FileUtils.hash(this.file));
+    }
+
+    @Test
+    public void hashPersisted() throws IOException {
+        Path location = this.directory.resolve("cache").resolve("hash-cache");
+
+        HashCache hashCache = new HashCache(location);
+        assertThat(hashCache.hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+        hashCache.save();
+
+        replaceContent();
+
+        assertThat(new HashCache(location).hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+    }
+
+    @Test
+    public void hashRacilyCleanNotPersisted() throws IOException {
+        Path location = this.directory.resolve("hash-cache");
+        Files.setLastModifiedTime(this.file, FileTime.from(Instant.now()));
+
+        HashCache hashCache = new HashCache(location);
+        assertThat(hashCache.hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+        hashCache.save();
+
+        replaceContent();
+
+        assertThat(new HashCache(location).hash(this.file, readAttributes(this.file))).isEqualTo(FileUtils.hash(this.file));
+    }
+
+    @Test
+    public void hashUnchanged() throws IOException {
+        HashCache hashCache = new HashCache(this.directory.resolve("hash-cache"));
+        assertThat(hashCache.hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+
+        replaceContent();
+
+        assertThat(hashCache.hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+    }
+
+    @Test
+    public void loadCorrupt() throws IOException {
+        Path location = this.directory.resolve("hash-cache");
+        Files.write(location, "test-corrupt".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(new HashCache(location).hash(this.file, readAttributes(this.file))).isEqualTo(TEST_CONTENT_HASH);
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class);
+    }
+
+    // Replaces the content of the file without changing its size, modification time or file key, so that only a cached hash is returned
+    private void replaceContent() throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(this.file);
+        Files.write(this.file, "test-CONTENT".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(this.file, lastModified);
+    }
+
+}
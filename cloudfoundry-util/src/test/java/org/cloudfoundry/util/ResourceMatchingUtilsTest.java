@@ -0,0 +1,98 @@
+/*
+ * Copyright 2013-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.cloudfoundry.util;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.resourcematch.ListMatchingResourcesRequest;
+import org.cloudfoundry.client.v2.resourcematch.ListMatchingResourcesResponse;
+import org.cloudfoundry.client.v2.resourcematch.ResourceMatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SMART_NULLS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ResourceMatchingUtilsTest {
+
+    private final CloudFoundryClient cloudFoundryClient = mock(CloudFoundryClient.class, RETURNS_SMART_NULLS);
+
+    private Path directory;
+
+    private final ResourceMatch resourceMatch = mock(ResourceMatch.class, RETURNS_SMART_NULLS);
+
+    @Before
+    public void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("test-resource-matching-");
+
+        for (int i = 0; i < 5; i++) {
+            Files.write(this.directory.resolve("test-file-" + i), ("test-content-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        when(this.cloudFoundryClient.resourceMatch()).thenReturn(this.resourceMatch);
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted((a, b) -> b.compareTo(a))
+                .forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void getMatchedResourcesBatched() {
+        String matchedHash = FileUtils.hash(this.directory.resolve("test-file-3"));
+
+        when(this.resourceMatch.list(any(ListMatchingResourcesRequest.class)))
+            .thenAnswer(invocation -> {
+                ListMatchingResourcesRequest request = invocation.getArgument(0);
+
+                return Mono.just(ListMatchingResourcesResponse.builder()
+                    .resources(request.getResources().stream()
+                        .filter(resource -> matchedHash.equals(resource.getHash()))
+                        .collect(Collectors.toList()))
+                    .build());
+            });
+
+        ResourceMatchingUtils.getMatchedResources(this.cloudFoundryClient, this.directory, null, 2)
+            .as(StepVerifier::create)
+            .consumeNextWith(matched -> assertThat(matched)
+                .extracting(ResourceMatchingUtils.ArtifactMetadata::getPath)
+                .containsExactly("test-file-3"))
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        verify(this.resourceMatch, times(3)).list(any(ListMatchingResourcesRequest.class));
+    }
+
+}